@@ -0,0 +1,113 @@
+package game.bench;
+
+import game.core.Skill;
+import game.system.BattleBatch;
+import game.system.BattleSimulator;
+import game.system.EnemyAISystem;
+import game.system.RandomSystem;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * BattleBenchmark measures complete battles.
+ *
+ * Covers:
+ * - simulatedBattle: one headless battle through BattleSimulator
+ * - simulatedBulk / batchedBulk: 1024 battles through BattleSimulator vs BattleBatch
+ *   (BattleBatch keeps its prepared matchup between calls, so after the first
+ *   call batchedBulk measures the battles only)
+ * - interactiveBattle: the same battle driven through the public systems the way
+ *   ConsoleUITest does it (AV turn, cooldown tick, AI choice, attack with result object)
+ *
+ * The gap between the two is the cost of the interactive-path overhead
+ * (result objects, messages, preview queries).
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class BattleBenchmark {
+
+    private static final int MAX_TURNS = 1000;
+
+    private static final int BULK_BATTLES = 1024;
+
+    private BattleSimulator simulator;
+    private BattleBatch batch;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        simulator = new BattleSimulator(new RandomSystem(BattleState.SEED));
+        batch = new BattleBatch(new RandomSystem(BattleState.SEED));
+    }
+
+    @Benchmark
+    public void simulatedBattle(BattleState state, Blackhole bh) {
+        bh.consume(simulator.simulate(state.player, state.enemy, 1));
+    }
+
+    /**
+     * Many battles through the object-per-battle simulator.
+     */
+    @Benchmark
+    public void simulatedBulk(BattleState state, Blackhole bh) {
+        bh.consume(simulator.simulate(state.player, state.enemy, BULK_BATTLES));
+    }
+
+    /**
+     * The same number of battles through the structure-of-arrays engine.
+     */
+    @Benchmark
+    public void batchedBulk(BattleState state, Blackhole bh) {
+        bh.consume(batch.simulate(state.player, state.enemy, BULK_BATTLES));
+    }
+
+    @Benchmark
+    public void interactiveBattle(BattleState state, Blackhole bh) {
+        state.resetBattle();
+
+        int turns = 0;
+        while (!state.combatSystem.isCombatOver(state.player, state.enemy) && turns < MAX_TURNS) {
+            if (state.actionValueSystem.isPlayerTurn()) {
+                state.cooldownSystem.tickPlayerCooldowns(state.player);
+
+                int choice = 0;
+                for (int i = state.playerSkills.length - 1; i >= 0; i--) {
+                    if (state.cooldownSystem.isSkillReady(state.player, state.playerSkills[i])) {
+                        choice = i;
+                        break;
+                    }
+                }
+                bh.consume(state.combatSystem.playerAttack(state.player, state.enemy, state.playerSkills, choice));
+            } else {
+                state.cooldownSystem.tickEnemyCooldowns(state.enemy);
+
+                EnemyAISystem.AIDecision decision = state.enemyAISystem.chooseSkill(state.enemy, state.player);
+                if (decision.isBasicAttack()) {
+                    bh.consume(state.combatSystem.enemyBasicAttack(state.enemy, state.player));
+                } else {
+                    Skill skill = state.enemy.getSkills()[decision.getSkillIndex()];
+                    bh.consume(state.combatSystem.enemyAttack(state.enemy, state.player, skill));
+                }
+            }
+
+            bh.consume(state.actionValueSystem.calculateTurnOrder(5));
+            state.actionValueSystem.advanceToNextTurn();
+            turns++;
+        }
+        bh.consume(state.combatSystem.getCombatWinner(state.player, state.enemy));
+    }
+}
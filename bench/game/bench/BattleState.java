@@ -0,0 +1,98 @@
+package game.bench;
+
+import game.core.Enemy;
+import game.core.Player;
+import game.core.Profession;
+import game.core.Skill;
+import game.data.EnemiesData;
+import game.data.SkillsData;
+import game.system.ActionValueSystem;
+import game.system.CombatSystem;
+import game.system.CooldownSystem;
+import game.system.EnemyAISystem;
+import game.system.EntitySystem;
+import game.system.RandomSystem;
+import game.system.SkillSystem;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * BattleState is the shared JMH fixture: one wired set of systems plus a
+ * player and an enemy, built once per trial for every profession/enemy pair.
+ *
+ * Design: Thread-scoped, so each benchmark thread has its own systems and RNG.
+ * Fixed seed - every run rolls the same hits, so runs are comparable.
+ */
+@State(Scope.Thread)
+public class BattleState {
+
+    static final long SEED = 42L;
+
+    @Param({"WARRIOR", "MAGE", "ROGUE"})
+    public String profession;
+
+    @Param({"Killer Bunny", "Minotaur", "Mindflayer"})
+    public String enemyType;
+
+    // Systems
+    public RandomSystem randomSystem;
+    public EntitySystem entitySystem;
+    public SkillSystem skillSystem;
+    public CooldownSystem cooldownSystem;
+    public CombatSystem combatSystem;
+    public EnemyAISystem enemyAISystem;
+    public ActionValueSystem actionValueSystem;
+
+    // Combatants
+    public Player player;
+    public Enemy enemy;
+    public Skill[] playerSkills;
+
+    // Reusable attack result for the allocation-free benchmarks
+    public CombatSystem.CombatResult result;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        randomSystem = new RandomSystem(SEED);
+        entitySystem = new EntitySystem();
+        skillSystem = new SkillSystem();
+        cooldownSystem = new CooldownSystem();
+        combatSystem = new CombatSystem(entitySystem, skillSystem, cooldownSystem, randomSystem);
+        enemyAISystem = new EnemyAISystem(entitySystem, skillSystem, cooldownSystem);
+        actionValueSystem = new ActionValueSystem(entitySystem);
+
+        Profession prof = Profession.valueOf(profession);
+        player = entitySystem.createPlayer("Bench", prof);
+        playerSkills = SkillsData.getSkillsForProfession(prof);
+
+        enemy = EnemiesData.getEnemyByName(enemyType);
+        if (enemy == null) {
+            throw new IllegalArgumentException("Unknown enemy type: " + enemyType);
+        }
+
+        result = new CombatSystem.CombatResult();
+        resetBattle();
+    }
+
+    /**
+     * Full HP, no cooldowns, fresh AV timeline.
+     */
+    public void resetBattle() {
+        entitySystem.fullHeal(player);
+        entitySystem.fullHeal(enemy);
+        cooldownSystem.resetAllCooldowns(player, enemy);
+        actionValueSystem.initializeBattle(player, enemy);
+    }
+
+    /**
+     * Top both combatants back up so attacks never hit a dead target.
+     * Cheaper than resetBattle() - leaves cooldowns and AV alone.
+     */
+    public void healBoth() {
+        entitySystem.fullHeal(player);
+        entitySystem.fullHeal(enemy);
+    }
+}
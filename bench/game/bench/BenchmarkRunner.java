@@ -0,0 +1,35 @@
+package game.bench;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * BenchmarkRunner runs the JMH benchmarks with the GC profiler attached
+ * (same as passing -prof gc), so every result also reports bytes allocated per op.
+ *
+ * HOW TO RUN:
+ * - bench/run.sh [regex]   e.g. bench/run.sh 'CombatBenchmark.playerAttack'
+ * - The script pins the JMH version, compiles src (game code, no UI) + bench
+ *   with jmh-generator-annprocess as annotation processor (generates the
+ *   benchmark harness) and starts this class
+ *
+ * Args: [0] = benchmark name regex (default: all game.bench benchmarks)
+ *
+ * Compare gc.alloc.rate.norm (bytes/op) and score before and after a change.
+ */
+public class BenchmarkRunner {
+
+    public static void main(String[] args) throws RunnerException {
+        String include = args.length > 0 ? args[0] : "game\\.bench\\..*";
+
+        Options options = new OptionsBuilder()
+                .include(include)
+                .addProfiler(GCProfiler.class)
+                .build();
+
+        new Runner(options).run();
+    }
+}
@@ -0,0 +1,108 @@
+package game.bench;
+
+import game.core.Skill;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * CombatBenchmark measures single attacks and per-turn bookkeeping.
+ *
+ * Covers:
+ * - CombatSystem.playerAttack / enemyAttack (hit roll, damage, cooldown, result + message)
+ * - playerAttack with a reused CombatResult (no allocation, no message)
+ * - CooldownSystem.tickAllCooldowns with and without active cooldowns
+ * - EnemyAISystem.chooseSkill
+ *
+ * Each attack heals both sides first and clears cooldowns, so every invocation
+ * does the same work. That overhead is measured on its own in resetOnly().
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CombatBenchmark {
+
+    // ===== BASELINE =====
+
+    @Benchmark
+    public void resetOnly(BattleState state) {
+        state.healBoth();
+        state.cooldownSystem.resetAllCooldowns(state.player, state.enemy);
+    }
+
+    // ===== ATTACKS =====
+
+    @Benchmark
+    public void playerAttack(BattleState state, Blackhole bh) {
+        state.healBoth();
+        state.cooldownSystem.resetAllCooldowns(state.player, state.enemy);
+
+        int last = state.playerSkills.length - 1;
+        bh.consume(state.combatSystem.playerAttack(state.player, state.enemy, state.playerSkills, last));
+    }
+
+    /**
+     * Same attack through the reusable-result overload. Message is never built.
+     */
+    @Benchmark
+    public boolean playerAttackReused(BattleState state) {
+        state.healBoth();
+        state.cooldownSystem.resetAllCooldowns(state.player, state.enemy);
+
+        int last = state.playerSkills.length - 1;
+        return state.combatSystem.playerAttack(state.player, state.enemy, state.playerSkills, last, state.result).isHit();
+    }
+
+    @Benchmark
+    public void enemyAttack(BattleState state, Blackhole bh) {
+        state.healBoth();
+        state.cooldownSystem.resetAllCooldowns(state.player, state.enemy);
+
+        Skill[] skills = state.enemy.getSkills();
+        Skill skill = skills.length > 0 ? skills[skills.length - 1] : null;
+        if (skill == null) {
+            bh.consume(state.combatSystem.enemyBasicAttack(state.enemy, state.player));
+        } else {
+            bh.consume(state.combatSystem.enemyAttack(state.enemy, state.player, skill));
+        }
+    }
+
+    // ===== COOLDOWNS =====
+
+    /**
+     * Tick with every skill on cooldown - the worst case for the per-turn scan.
+     */
+    @Benchmark
+    public void tickAllCooldownsActive(BattleState state) {
+        for (Skill skill : state.playerSkills) {
+            state.cooldownSystem.setSkillCooldown(state.player, skill, 3);
+        }
+        for (Skill skill : state.enemy.getSkills()) {
+            state.cooldownSystem.setSkillCooldown(state.enemy, skill, 3);
+        }
+        state.cooldownSystem.tickAllCooldowns(state.player, state.enemy);
+    }
+
+    /**
+     * Tick with nothing on cooldown - the common case early in a battle.
+     */
+    @Benchmark
+    public void tickAllCooldownsIdle(BattleState state) {
+        state.cooldownSystem.tickAllCooldowns(state.player, state.enemy);
+    }
+
+    // ===== AI =====
+
+    @Benchmark
+    public void chooseSkill(BattleState state, Blackhole bh) {
+        bh.consume(state.enemyAISystem.chooseSkill(state.enemy, state.player));
+    }
+}
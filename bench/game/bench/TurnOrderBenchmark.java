@@ -0,0 +1,53 @@
+package game.bench;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * TurnOrderBenchmark measures the Action Value timeline.
+ *
+ * Covers:
+ * - ActionValueSystem.advanceToNextTurn (one real turn)
+ * - ActionValueSystem.calculateTurnOrder (UI turn bar preview)
+ *
+ * The battle is never re-initialized between invocations - the timeline just
+ * keeps running, the same as a long fight.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TurnOrderBenchmark {
+
+    private static final int PREVIEW_TURNS = 10;
+
+    @Benchmark
+    public boolean advanceToNextTurn(BattleState state) {
+        return state.actionValueSystem.advanceToNextTurn();
+    }
+
+    /**
+     * Preview only - the timeline doesn't move, so repeated previews may be cached.
+     */
+    @Benchmark
+    public void calculateTurnOrder(BattleState state, Blackhole bh) {
+        bh.consume(state.actionValueSystem.calculateTurnOrder(PREVIEW_TURNS));
+    }
+
+    /**
+     * One turn then a preview - what the battle screen does every turn.
+     */
+    @Benchmark
+    public void advanceAndPreview(BattleState state, Blackhole bh) {
+        state.actionValueSystem.advanceToNextTurn();
+        bh.consume(state.actionValueSystem.calculateTurnOrder(PREVIEW_TURNS));
+    }
+}
@@ -0,0 +1,51 @@
+#!/usr/bin/env bash
+# Build and run the JMH benchmarks in bench/ (see game.bench.BenchmarkRunner).
+#
+# Usage (from anywhere):  bench/run.sh [benchmark regex]
+#   bench/run.sh                                 all game.bench benchmarks
+#   bench/run.sh 'CombatBenchmark.playerAttack'  one benchmark
+#
+# BenchmarkRunner always attaches the GC profiler (same as -prof gc), so
+# every result also reports gc.alloc.rate.norm (bytes allocated per op).
+#
+# Needs: JDK 21 (javac/java on PATH or JAVA_HOME set). The JMH jars are taken
+# from the local Maven repository and fetched with "mvn dependency:get"
+# if they are missing.
+
+set -euo pipefail
+
+JMH_VERSION=1.37
+JOPT_VERSION=5.0.4          # jmh-core dependencies, as pinned by JMH 1.37
+MATH3_VERSION=3.6.1
+
+ROOT="$(cd "$(dirname "$0")/.." && pwd)"
+OUT="$ROOT/bench/target"
+M2="${M2_REPO:-$HOME/.m2/repository}"
+JAVA_BIN="${JAVA_HOME:+$JAVA_HOME/bin/}"
+
+# Path of a jar in the local repository, downloading it first if needed
+jar() {
+    local group="$1" artifact="$2" version="$3"
+    local path="$M2/${group//.//}/$artifact/$version/$artifact-$version.jar"
+    if [ ! -f "$path" ]; then
+        mvn -q dependency:get -Dartifact="$group:$artifact:$version" -Dtransitive=false >&2
+    fi
+    echo "$path"
+}
+
+JMH_CORE="$(jar org.openjdk.jmh jmh-core "$JMH_VERSION")"
+JMH_ANNPROCESS="$(jar org.openjdk.jmh jmh-generator-annprocess "$JMH_VERSION")"
+JOPT="$(jar net.sf.jopt-simple jopt-simple "$JOPT_VERSION")"
+MATH3="$(jar org.apache.commons commons-math3 "$MATH3_VERSION")"
+LIBS="$JMH_CORE:$JOPT:$MATH3"
+
+# Game code (without the JavaFX UI) + benchmarks; the annotation processor
+# generates the JMH harness and its META-INF/BenchmarkList
+rm -rf "$OUT"
+mkdir -p "$OUT/classes"
+"${JAVA_BIN}javac" -encoding UTF-8 --release 21 \
+    -cp "$LIBS" -processorpath "$JMH_ANNPROCESS:$LIBS" \
+    -d "$OUT/classes" \
+    $(find "$ROOT/src/game" "$ROOT/bench/game" -name '*.java' -not -path '*/ui/*')
+
+exec "${JAVA_BIN}java" -cp "$OUT/classes:$ROOT/src/resources:$LIBS" game.bench.BenchmarkRunner "$@"
@@ -0,0 +1,111 @@
+package game.core;
+
+import java.io.Serializable;
+
+/**
+ * AIRules is an enemy's skill-choice behaviour compiled into a flat rule table.
+ * Rules are checked in order; the first rule whose conditions all hold decides.
+ * If none holds, the enemy uses a basic attack.
+ *
+ * Conditions per rule (all must hold):
+ * - Ready mask:    these skills are off cooldown (always includes the used skill)
+ * - Cooldown mask: these skills are on cooldown
+ * - HP below:      player HP / max HP < threshold
+ * - HP_FULL:       player is at full HP
+ * - LETHAL:        used skill's damage >= player HP
+ * - SETS_UP_KILL:  used skill leaves the player alive with less than
+ *                  (finisher skill damage x hits) HP
+ *
+ * Skills are referred to by slot index in the enemy's skill array.
+ * Reasons may contain {damage} (used skill damage) and {hp} (player HP).
+ *
+ * Design: Immutable, parallel primitive arrays indexed by rule - evaluation
+ * is a loop of array reads and bit tests (see EnemyAISystem), no allocation.
+ * Built by the data catalog from the declarative rule format.
+ */
+public final class AIRules implements Serializable {
+
+    // Rule flags
+    public static final int HP_FULL = 1;
+    public static final int LETHAL = 1 << 1;
+    public static final int SETS_UP_KILL = 1 << 2;
+
+    public static final int BASIC_ATTACK = -1;              // "use" value for a basic attack
+    public static final double NO_HP_LIMIT = Double.POSITIVE_INFINITY;
+    public static final int MAX_SKILL_SLOTS = 31;           // Masks are ints
+
+    private final int[] use;
+    private final int[] readyMask;
+    private final int[] cooldownMask;
+    private final double[] hpBelow;
+    private final int[] flags;
+    private final int[] finisher;
+    private final int[] hits;
+    private final String[] reasons;
+    private final int maxSkillIndex;
+
+    /**
+     * Build a rule table from parallel arrays (one entry per rule).
+     * The used skill is added to the ready mask automatically.
+     */
+    public AIRules(int[] use, int[] readyMask, int[] cooldownMask, double[] hpBelow,
+                   int[] flags, int[] finisher, int[] hits, String[] reasons) {
+        if (use == null || readyMask == null || cooldownMask == null || hpBelow == null ||
+            flags == null || finisher == null || hits == null || reasons == null) {
+            throw new IllegalArgumentException("Rule arrays cannot be null");
+        }
+        int count = use.length;
+        if (readyMask.length != count || cooldownMask.length != count || hpBelow.length != count ||
+            flags.length != count || finisher.length != count || hits.length != count || reasons.length != count) {
+            throw new IllegalArgumentException("Rule arrays must have the same length");
+        }
+
+        this.use = use.clone();
+        this.readyMask = readyMask.clone();
+        this.cooldownMask = cooldownMask.clone();
+        this.hpBelow = hpBelow.clone();
+        this.flags = flags.clone();
+        this.finisher = finisher.clone();
+        this.hits = hits.clone();
+        this.reasons = reasons.clone();
+
+        int highest = -1;
+        for (int r = 0; r < count; r++) {
+            if (use[r] < BASIC_ATTACK || use[r] >= MAX_SKILL_SLOTS) {
+                throw new IllegalArgumentException("Rule " + r + ": bad skill slot " + use[r]);
+            }
+            if ((flags[r] & (LETHAL | SETS_UP_KILL)) != 0 && use[r] == BASIC_ATTACK) {
+                throw new IllegalArgumentException("Rule " + r + ": damage checks need a skill");
+            }
+            if (use[r] >= 0) {
+                this.readyMask[r] |= 1 << use[r];
+            }
+            highest = Math.max(highest, 31 - Integer.numberOfLeadingZeros(this.readyMask[r] | this.cooldownMask[r]));
+            if ((flags[r] & SETS_UP_KILL) != 0) {
+                highest = Math.max(highest, finisher[r]);
+            }
+            if (this.reasons[r] == null) {
+                this.reasons[r] = "";
+            }
+        }
+        this.maxSkillIndex = highest;
+    }
+
+    // ===== RULE ACCESS =====
+
+    public int getRuleCount() { return use.length; }
+    public int getUse(int rule) { return use[rule]; }
+    public int getReadyMask(int rule) { return readyMask[rule]; }
+    public int getCooldownMask(int rule) { return cooldownMask[rule]; }
+    public double getHpBelow(int rule) { return hpBelow[rule]; }
+    public int getFlags(int rule) { return flags[rule]; }
+    public int getFinisher(int rule) { return finisher[rule]; }
+    public int getHits(int rule) { return hits[rule]; }
+    public String getReason(int rule) { return reasons[rule]; }
+
+    /**
+     * Highest skill slot any rule refers to (-1 if none).
+     * An enemy needs more skills than this for the rules to apply.
+     */
+    public int getMaxSkillIndex() { return maxSkillIndex; }
+}
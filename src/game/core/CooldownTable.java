@@ -0,0 +1,129 @@
+package game.core;
+
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.util.Arrays;
+
+/**
+ * CooldownTable stores remaining skill cooldowns for one entity.
+ * Cooldowns live in a primitive int[] indexed by Skill.getOrdinal().
+ *
+ * Rules (same as the old map-based storage):
+ * - Missing or 0 = ready
+ * - Setting 0 or negative clears the cooldown
+ * - tick() lowers every active cooldown by 1
+ *
+ * Design: Shared by Player and Enemy. No boxing, no hashing, no lambdas per turn.
+ * Ordinals are per-JVM, so serialization writes (skill ID, cooldown) pairs instead of the array.
+ */
+class CooldownTable implements Serializable {
+
+    private static final int INITIAL_CAPACITY = 16;
+
+    private transient int[] cooldowns;   // [ordinal] -> remaining turns
+    private transient int activeCount;   // Number of skills with cooldown > 0
+    private transient int version;       // Bumped whenever a cooldown changes
+
+    CooldownTable() {
+        this.cooldowns = new int[INITIAL_CAPACITY];
+        this.activeCount = 0;
+    }
+
+    // ===== ACCESS =====
+
+    int get(Skill skill) {
+        int ordinal = skill.getOrdinal();
+        return ordinal < cooldowns.length ? cooldowns[ordinal] : 0;
+    }
+
+    void set(Skill skill, int cooldown) {
+        int ordinal = skill.getOrdinal();
+
+        if (cooldown <= 0) {
+            if (ordinal < cooldowns.length && cooldowns[ordinal] > 0) {
+                cooldowns[ordinal] = 0;
+                activeCount--;
+                version++;
+            }
+            return;
+        }
+
+        if (ordinal >= cooldowns.length) {
+            cooldowns = Arrays.copyOf(cooldowns, Math.max(ordinal + 1, cooldowns.length * 2));
+        }
+        if (cooldowns[ordinal] == 0) {
+            activeCount++;
+        }
+        if (cooldowns[ordinal] != cooldown) {
+            cooldowns[ordinal] = cooldown;
+            version++;
+        }
+    }
+
+    /**
+     * Lower every active cooldown by 1.
+     * Skips the scan entirely when nothing is on cooldown.
+     */
+    void tick() {
+        if (activeCount == 0) return;
+
+        int remaining = 0;
+        for (int ordinal = 0; ordinal < cooldowns.length; ordinal++) {
+            int cooldown = cooldowns[ordinal];
+            if (cooldown > 0) {
+                cooldowns[ordinal] = cooldown - 1;
+                if (cooldown > 1) remaining++;
+            }
+        }
+        activeCount = remaining;
+        version++;
+    }
+
+    void clear() {
+        if (activeCount == 0) return;
+        Arrays.fill(cooldowns, 0);
+        activeCount = 0;
+        version++;
+    }
+
+    int getActiveCount() { return activeCount; }
+
+    /**
+     * Change counter - differs after any cooldown changed (set, tick, clear).
+     */
+    int getVersion() { return version; }
+
+    // ===== SERIALIZATION =====
+
+    private void writeObject(ObjectOutputStream out) throws IOException {
+        out.defaultWriteObject();
+        out.writeInt(activeCount);
+        for (int ordinal = 0; ordinal < cooldowns.length; ordinal++) {
+            if (cooldowns[ordinal] > 0) {
+                out.writeUTF(SkillRegistry.idOf(ordinal));
+                out.writeInt(cooldowns[ordinal]);
+            }
+        }
+    }
+
+    private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+        in.defaultReadObject();
+        cooldowns = new int[INITIAL_CAPACITY];
+        activeCount = 0;
+
+        int count = in.readInt();
+        for (int i = 0; i < count; i++) {
+            int ordinal = SkillRegistry.ordinalOf(in.readUTF());
+            int cooldown = in.readInt();
+            if (ordinal >= cooldowns.length) {
+                cooldowns = Arrays.copyOf(cooldowns, Math.max(ordinal + 1, cooldowns.length * 2));
+            }
+            if (cooldown > 0 && cooldowns[ordinal] == 0) {
+                activeCount++;
+            }
+            cooldowns[ordinal] = cooldown;
+        }
+    }
+}
@@ -1,12 +1,10 @@
 package game.core;
 
 import java.io.Serializable;
-import java.util.HashMap;
-import java.util.Map;
 
 /**
  * Enemy represents an enemy character.
- * Stores cooldown state for all skills using skill IDs as keys.
+ * Stores cooldown state for all skills in an ordinal-indexed CooldownTable.
  */
 public class Enemy implements Serializable {
 
@@ -14,13 +12,18 @@ public class Enemy implements Serializable {
     private final Stat stats;
     private final Skill[] skills; // Can be empty, but never null
 
-    private final Map<String, Integer> skillCooldowns; // key = skill.getId()
+    private final CooldownTable skillCooldowns; // indexed by skill.getOrdinal()
+    private final AIRules aiRules;              // null = EnemyAISystem picks by name
 
     public Enemy(String name, Stat stats) {
         this(name, stats, new Skill[0]); // No skills by default
     }
 
     public Enemy(String name, Stat stats, Skill[] skills) {
+        this(name, stats, skills, null);
+    }
+
+    public Enemy(String name, Stat stats, Skill[] skills, AIRules aiRules) {
         if (name == null || name.trim().isEmpty()) {
             throw new IllegalArgumentException("Enemy name cannot be null or empty");
         }
@@ -32,7 +35,8 @@ public class Enemy implements Serializable {
         this.stats = stats;
         // Never store null - use empty array instead
         this.skills = (skills != null) ? skills : new Skill[0];
-        this.skillCooldowns = new HashMap<>();
+        this.skillCooldowns = new CooldownTable();
+        this.aiRules = aiRules;
     }
 
     // ======== COMBAT METHODS ========
@@ -51,32 +55,26 @@ public class Enemy implements Serializable {
 
     /**
      * Get remaining cooldown for a skill.
-     * Uses skill ID for consistent lookup.
+     * Uses skill ordinal for consistent lookup.
      * 
      * @param skill The skill to check
      * @return Remaining cooldown in turns (0 = ready)
      */
     public int getSkillCooldown(Skill skill) {
         if (skill == null) return 0;
-        return skillCooldowns.getOrDefault(skill.getId(), 0);
+        return skillCooldowns.get(skill);
     }
 
     /**
      * Set cooldown for a skill.
-     * Uses skill ID for consistent lookup.
+     * Uses skill ordinal for consistent lookup.
      * 
      * @param skill The skill to set cooldown for
      * @param cooldown The cooldown value (0 or negative removes cooldown)
      */
     public void setSkillCooldown(Skill skill, int cooldown) {
         if (skill == null) return;
-
-        String key = skill.getId();
-        if (cooldown <= 0) {
-            skillCooldowns.remove(key);
-        } else {
-            skillCooldowns.put(key, cooldown);
-        }
+        skillCooldowns.set(skill, cooldown);
     }
 
     /**
@@ -84,8 +82,7 @@ public class Enemy implements Serializable {
      * Called at the start of each turn.
      */
     public void tickAllCooldowns() {
-        skillCooldowns.replaceAll((key, cd) -> Math.max(0, cd - 1));
-        skillCooldowns.entrySet().removeIf(entry -> entry.getValue() <= 0);
+        skillCooldowns.tick();
     }
 
     /**
@@ -96,6 +93,14 @@ public class Enemy implements Serializable {
         skillCooldowns.clear();
     }
 
+    /**
+     * Cooldown change counter.
+     * Any set, tick or reset that changes a cooldown gives a new value.
+     */
+    public int getCooldownVersion() {
+        return skillCooldowns.getVersion();
+    }
+
     // ======== GETTERS ========
 
     public String getName() { return name; }
@@ -109,6 +114,14 @@ public class Enemy implements Serializable {
         return skills; // Never null
     }
     
+    /**
+     * Get compiled AI rules.
+     * Null if the enemy was built without them.
+     */
+    public AIRules getAIRules() {
+        return aiRules;
+    }
+
     /**
      * Check if enemy has any skills.
      */
@@ -1,12 +1,10 @@
 package game.core;
 
 import java.io.Serializable;
-import java.util.HashMap;
-import java.util.Map;
 
 /**
  * Player represents the player character.
- * Stores cooldown state for all skills using skill IDs as keys.
+ * Stores cooldown state for all skills in an ordinal-indexed CooldownTable.
  */
 public class Player implements Serializable {
 
@@ -14,7 +12,7 @@ public class Player implements Serializable {
     private final Profession profession;
     private final Stat stats;
 
-    private final Map<String, Integer> skillCooldowns; // key = skill.getId()
+    private final CooldownTable skillCooldowns; // indexed by skill.getOrdinal()
 
     public Player(String name, Profession profession, Stat stats) {
         if (name == null || name.trim().isEmpty()) {
@@ -30,7 +28,7 @@ public class Player implements Serializable {
         this.name = name.trim();
         this.profession = profession;
         this.stats = stats;
-        this.skillCooldowns = new HashMap<>();
+        this.skillCooldowns = new CooldownTable();
     }
 
     // ======== COMBAT METHODS ========
@@ -49,32 +47,26 @@ public class Player implements Serializable {
 
     /**
      * Get remaining cooldown for a skill.
-     * Uses skill ID for consistent lookup.
+     * Uses skill ordinal for consistent lookup.
      * 
      * @param skill The skill to check
      * @return Remaining cooldown in turns (0 = ready)
      */
     public int getSkillCooldown(Skill skill) {
         if (skill == null) return 0;
-        return skillCooldowns.getOrDefault(skill.getId(), 0);
+        return skillCooldowns.get(skill);
     }
 
     /**
      * Set cooldown for a skill.
-     * Uses skill ID for consistent lookup.
+     * Uses skill ordinal for consistent lookup.
      * 
      * @param skill The skill to set cooldown for
      * @param cooldown The cooldown value (0 or negative removes cooldown)
      */
     public void setSkillCooldown(Skill skill, int cooldown) {
         if (skill == null) return;
-        
-        String key = skill.getId();
-        if (cooldown <= 0) {
-            skillCooldowns.remove(key);
-        } else {
-            skillCooldowns.put(key, cooldown);
-        }
+        skillCooldowns.set(skill, cooldown);
     }
 
     /**
@@ -82,8 +74,7 @@ public class Player implements Serializable {
      * Called at the start of each turn.
      */
     public void tickAllCooldowns() {
-        skillCooldowns.replaceAll((key, cd) -> Math.max(0, cd - 1));
-        skillCooldowns.entrySet().removeIf(entry -> entry.getValue() <= 0);
+        skillCooldowns.tick();
     }
 
     /**
@@ -94,6 +85,14 @@ public class Player implements Serializable {
         skillCooldowns.clear();
     }
 
+    /**
+     * Cooldown change counter.
+     * Any set, tick or reset that changes a cooldown gives a new value.
+     */
+    public int getCooldownVersion() {
+        return skillCooldowns.getVersion();
+    }
+
     // ======== GETTERS ========
 
     public String getName() { return name; }
@@ -9,15 +9,15 @@ import java.io.Serializable;
 public enum Profession implements Serializable {
 
     WARRIOR(new Skill[]{
-            new Skill("Power Strike", null, 18, 2)
+            SkillRegistry.intern("Power Strike", null, 18, 2)
     }),
 
     MAGE(new Skill[]{
-            new Skill("Fireball", null, 22, 3)
+            SkillRegistry.intern("Fireball", null, 22, 3)
     }),
 
     ROGUE(new Skill[]{
-            new Skill("Backstab", null, 16, 1)
+            SkillRegistry.intern("Backstab", null, 16, 1)
     });
 
     private final Skill[] skills;
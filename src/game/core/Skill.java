@@ -8,6 +8,9 @@ import java.io.Serializable;
  * 
  * DESIGN: Skills are templates that can be shared across multiple entities.
  * Each skill has a stable ID based on its name for consistent lookups.
+ * Each ID also maps to a dense integer ordinal (see SkillRegistry), used for
+ * equality, hashing and array-indexed cooldowns.
+ * Prefer SkillRegistry.intern() over the constructor so identical skills share one instance.
  */
 public class Skill implements Serializable {
 
@@ -16,6 +19,7 @@ public class Skill implements Serializable {
     private final Profession allowedProfession; // null = any profession can use
     private final int baseDamage;
     private final int baseCooldown;
+    private final transient int ordinal; // Dense index from SkillRegistry (same ID = same ordinal)
 
     /**
      * Creates a new skill template.
@@ -36,6 +40,7 @@ public class Skill implements Serializable {
         this.allowedProfession = allowedProfession;
         this.baseDamage = Math.max(0, baseDamage);
         this.baseCooldown = Math.max(0, baseCooldown);
+        this.ordinal = SkillRegistry.ordinalOf(this.id);
     }
 
     /**
@@ -71,9 +76,19 @@ public class Skill implements Serializable {
         return enemy != null; // Enemies can use any skill
     }
 
+    // ======== SERIALIZATION ========
+
+    /**
+     * Ordinals are per-JVM, so a deserialized skill is replaced by the interned instance.
+     */
+    private Object readResolve() {
+        return SkillRegistry.intern(name, allowedProfession, baseDamage, baseCooldown);
+    }
+
     // ======== GETTERS ========
 
     public String getId() { return id; }
+    public int getOrdinal() { return ordinal; }
     public String getName() { return name; }
     public Profession getAllowedProfession() { return allowedProfession; }
     public int getBaseDamage() { return baseDamage; }
@@ -82,7 +97,7 @@ public class Skill implements Serializable {
     // ======== EQUALITY & HASH ========
 
     /**
-     * Skills are equal if they have the same ID.
+     * Skills are equal if they have the same ID (compared via the ID's ordinal).
      * This allows proper comparison after serialization.
      */
     @Override
@@ -90,12 +105,12 @@ public class Skill implements Serializable {
         if (this == obj) return true;
         if (obj == null || getClass() != obj.getClass()) return false;
         Skill other = (Skill) obj;
-        return id.equals(other.id);
+        return ordinal == other.ordinal;
     }
 
     @Override
     public int hashCode() {
-        return id.hashCode();
+        return ordinal;
     }
 
     @Override
@@ -0,0 +1,118 @@
+package game.core;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * SkillRegistry interns skills and hands out dense integer ordinals.
+ *
+ * Responsibilities:
+ * - Intern: one shared Skill instance per distinct definition
+ *   (name + profession + damage + cooldown)
+ * - Ordinals: one int per skill ID, assigned 0, 1, 2... in first-seen order
+ * - Reverse lookup: ordinal -> ID (used when serializing cooldowns)
+ *
+ * Rules:
+ * - Same ID = same ordinal, even if two definitions differ in damage/cooldown
+ *   (Skill equality has always been by ID - this keeps it that way)
+ * - Ordinals never change while the JVM runs, but are NOT stable across runs
+ *
+ * Design: Static, thread-safe registry. Data classes call intern() instead of new Skill().
+ */
+public final class SkillRegistry {
+
+    // ID -> ordinal, and ordinal -> ID
+    private static final Map<String, Integer> ORDINALS = new ConcurrentHashMap<>();
+    private static final List<String> IDS = new ArrayList<>();
+
+    // Definition key -> canonical instance
+    private static final Map<String, Skill> INTERNED = new ConcurrentHashMap<>();
+
+    private SkillRegistry() {
+        // Static registry - no instances
+    }
+
+    // ===== INTERNING =====
+
+    /**
+     * Get the shared Skill for a definition, creating it on first use.
+     *
+     * @param name Skill name
+     * @param allowedProfession Profession restriction (null = any)
+     * @param baseDamage Base damage
+     * @param baseCooldown Base cooldown in turns
+     * @return Canonical Skill instance
+     */
+    public static Skill intern(String name, Profession allowedProfession, int baseDamage, int baseCooldown) {
+        String key = definitionKey(name, allowedProfession, baseDamage, baseCooldown);
+        Skill skill = INTERNED.get(key);
+        if (skill != null) return skill;
+
+        return INTERNED.computeIfAbsent(key,
+                k -> new Skill(name, allowedProfession, baseDamage, baseCooldown));
+    }
+
+    /**
+     * Get the shared instance equal in definition to the given skill.
+     *
+     * @param skill Any skill instance
+     * @return Canonical Skill instance, or null if skill is null
+     */
+    public static Skill intern(Skill skill) {
+        if (skill == null) return null;
+        return intern(skill.getName(), skill.getAllowedProfession(), skill.getBaseDamage(), skill.getBaseCooldown());
+    }
+
+    private static String definitionKey(String name, Profession allowedProfession, int baseDamage, int baseCooldown) {
+        String trimmed = name == null ? "" : name.trim();
+        return trimmed + "|" + (allowedProfession == null ? "" : allowedProfession.name()) +
+               "|" + Math.max(0, baseDamage) + "|" + Math.max(0, baseCooldown);
+    }
+
+    // ===== ORDINALS =====
+
+    /**
+     * Get (or assign) the ordinal for a skill ID.
+     *
+     * @param id Skill ID
+     * @return Ordinal (0-based)
+     */
+    public static int ordinalOf(String id) {
+        Integer ordinal = ORDINALS.get(id);
+        if (ordinal != null) return ordinal;
+
+        synchronized (IDS) {
+            ordinal = ORDINALS.get(id);
+            if (ordinal == null) {
+                ordinal = IDS.size();
+                IDS.add(id);
+                ORDINALS.put(id, ordinal);
+            }
+            return ordinal;
+        }
+    }
+
+    /**
+     * Get the skill ID that owns an ordinal.
+     *
+     * @param ordinal Ordinal
+     * @return Skill ID, or null if never assigned
+     */
+    public static String idOf(int ordinal) {
+        synchronized (IDS) {
+            return (ordinal >= 0 && ordinal < IDS.size()) ? IDS.get(ordinal) : null;
+        }
+    }
+
+    /**
+     * Number of ordinals assigned so far.
+     * Useful for sizing arrays indexed by ordinal.
+     */
+    public static int size() {
+        synchronized (IDS) {
+            return IDS.size();
+        }
+    }
+}
@@ -19,9 +19,11 @@ public class Stat implements Serializable {
     private static final double CDR_SCALER = 0.5;
     private static final double SPEED_SCALER = 1.5;
 
-    private int strength;
-    private int agility;
-    private int intelligence;
+    // Primary stats, indexed by StatType ordinal
+    private static final int STR = StatType.STRENGTH.ordinal();
+    private static final int AGI = StatType.AGILITY.ordinal();
+    private static final int INT = StatType.INTELLIGENCE.ordinal();
+    private final int[] primary = new int[StatType.COUNT];
 
     private int maxHp;
     private int hp;
@@ -31,24 +33,95 @@ public class Stat implements Serializable {
     private int cooldownReduction;
     private int speed;
 
+    private transient int version;   // Bumped on every change - lets callers cache derived answers
+
     public Stat(int strength, int agility, int intelligence) {
-        this.strength = Math.max(0, strength);
-        this.agility = Math.max(0, agility);
-        this.intelligence = Math.max(0, intelligence);
+        primary[STR] = Math.max(0, strength);
+        primary[AGI] = Math.max(0, agility);
+        primary[INT] = Math.max(0, intelligence);
         calculateDerivedStats();
         this.hp = maxHp;
     }
 
+    // ===== DERIVED STAT TABLES =====
+    // Derived curves precomputed for primary stats 0..TABLE_SIZE-1.
+    // Values come from the same formulas below, so results are identical.
+    private static final int TABLE_SIZE = 1024;
+    private static final int[] EVASION_TABLE = new int[TABLE_SIZE];
+    private static final int[] SPEED_TABLE = new int[TABLE_SIZE];
+    private static final int[] ACCURACY_TABLE = new int[TABLE_SIZE];
+    private static final int[] CDR_TABLE = new int[TABLE_SIZE];
+
+    static {
+        for (int value = 0; value < TABLE_SIZE; value++) {
+            EVASION_TABLE[value] = evasionFor(value);
+            SPEED_TABLE[value] = speedFor(value);
+            ACCURACY_TABLE[value] = accuracyFor(value);
+            CDR_TABLE[value] = cooldownReductionFor(value);
+        }
+    }
+
+    // ===== DERIVED STAT FORMULAS =====
+    private static int evasionFor(int agility) {
+        return (int)(Math.sqrt(agility) * EVASION_SCALER);
+    }
+
+    private static int speedFor(int agility) {
+        return (int)(Math.sqrt(agility) * SPEED_SCALER);
+    }
+
+    private static int accuracyFor(int intelligence) {
+        return BASE_ACCURACY + (int)(Math.sqrt(intelligence) * ACCURACY_SCALER);
+    }
+
+    private static int cooldownReductionFor(int intelligence) {
+        int intelligenceAboveBase = Math.max(0, intelligence - 20);
+        return (int)(Math.sqrt(intelligenceAboveBase) * CDR_SCALER);
+    }
+
     // ===== DERIVED STAT CALCULATION =====
+    // Each primary stat only feeds its own derived stats:
+    // STR -> maxHp, AGI -> evasion + speed, INT -> accuracy + CDR
     private void calculateDerivedStats() {
-        this.maxHp = BASE_HP + strength * HP_PER_STRENGTH;
-        this.evasion = (int)(Math.sqrt(agility) * EVASION_SCALER);
-        this.accuracy = BASE_ACCURACY + (int)(Math.sqrt(intelligence) * ACCURACY_SCALER);
+        recalculateStrengthStats();
+        recalculateAgilityStats();
+        recalculateIntelligenceStats();
+    }
 
-        int intelligenceAboveBase = Math.max(0, intelligence - 20);
-        this.cooldownReduction = (int)(Math.sqrt(intelligenceAboveBase) * CDR_SCALER);
+    private void recalculateStrengthStats() {
+        this.maxHp = maxHpOf(primary[STR]);
+    }
+
+    private void recalculateAgilityStats() {
+        this.evasion = evasionOf(primary[AGI]);
+        this.speed = speedOf(primary[AGI]);
+    }
+
+    private void recalculateIntelligenceStats() {
+        this.accuracy = accuracyOf(primary[INT]);
+        this.cooldownReduction = cooldownReductionOf(primary[INT]);
+    }
+
+    // ===== DERIVED STAT LOOKUP =====
+    // Table when in range, formula beyond it. Shared with StatSnapshot.
+    static int maxHpOf(int strength) {
+        return BASE_HP + strength * HP_PER_STRENGTH;
+    }
 
-        this.speed = (int)(Math.sqrt(agility) * SPEED_SCALER);
+    static int evasionOf(int agility) {
+        return agility < TABLE_SIZE ? EVASION_TABLE[agility] : evasionFor(agility);
+    }
+
+    static int speedOf(int agility) {
+        return agility < TABLE_SIZE ? SPEED_TABLE[agility] : speedFor(agility);
+    }
+
+    static int accuracyOf(int intelligence) {
+        return intelligence < TABLE_SIZE ? ACCURACY_TABLE[intelligence] : accuracyFor(intelligence);
+    }
+
+    static int cooldownReductionOf(int intelligence) {
+        return intelligence < TABLE_SIZE ? CDR_TABLE[intelligence] : cooldownReductionFor(intelligence);
     }
 
     // ===== STAT INCREASE METHODS =====
@@ -56,23 +129,63 @@ public class Stat implements Serializable {
         if (amount == 0) return;
 
         int oldMaxHp = maxHp;
-        strength = Math.max(0, strength + amount);
-        calculateDerivedStats();
+        primary[STR] = Math.max(0, primary[STR] + amount);
+        recalculateStrengthStats();
 
         int hpGain = maxHp - oldMaxHp;
         hp = Math.max(0, Math.min(maxHp, hp + hpGain));
+        version++;
     }
 
     public void increaseAgility(int amount) {
         if (amount == 0) return;
-        agility = Math.max(0, agility + amount);
-        calculateDerivedStats();
+        primary[AGI] = Math.max(0, primary[AGI] + amount);
+        recalculateAgilityStats();
+        version++;
     }
 
     public void increaseIntelligence(int amount) {
         if (amount == 0) return;
-        intelligence = Math.max(0, intelligence + amount);
-        calculateDerivedStats();
+        primary[INT] = Math.max(0, primary[INT] + amount);
+        recalculateIntelligenceStats();
+        version++;
+    }
+
+    /**
+     * Increase all three primary stats at once.
+     * Derived stats are recomputed once, only for stats that changed.
+     * For non-negative amounts this ends exactly where the three
+     * single-stat calls (in any order, any split) would.
+     */
+    public void increaseAll(int strength, int agility, int intelligence) {
+        if (strength == 0 && agility == 0 && intelligence == 0) return;
+
+        if (strength != 0) {
+            int oldMaxHp = maxHp;
+            primary[STR] = Math.max(0, primary[STR] + strength);
+            recalculateStrengthStats();
+            hp = Math.max(0, Math.min(maxHp, hp + (maxHp - oldMaxHp)));
+        }
+        if (agility != 0) {
+            primary[AGI] = Math.max(0, primary[AGI] + agility);
+            recalculateAgilityStats();
+        }
+        if (intelligence != 0) {
+            primary[INT] = Math.max(0, primary[INT] + intelligence);
+            recalculateIntelligenceStats();
+        }
+        version++;
+    }
+
+    /**
+     * Increase any primary stat (same rules as the named methods).
+     */
+    public void increase(StatType type, int amount) {
+        switch (type) {
+            case STRENGTH -> increaseStrength(amount);
+            case AGILITY -> increaseAgility(amount);
+            case INTELLIGENCE -> increaseIntelligence(amount);
+        }
     }
 
     // ===== COMBAT METHODS =====
@@ -83,16 +196,43 @@ public class Stat implements Serializable {
     public void takeDamage(int damage) {
         if (damage < 0) return;
         hp = Math.max(0, hp - damage);
+        version++;
     }
 
     public void fullHeal() {
         hp = maxHp;
+        version++;
+    }
+
+    // ===== SNAPSHOTS =====
+
+    /**
+     * Immutable copy of the current values (including current HP).
+     * Safe to hand to other threads or to use for what-if math.
+     */
+    public StatSnapshot snapshot() {
+        return new StatSnapshot(primary[STR], primary[AGI], primary[INT], hp,
+                                maxHp, evasion, accuracy, cooldownReduction, speed);
+    }
+
+    /**
+     * Set current HP directly (clamped to 0..maxHp).
+     * Used when turning a snapshot back into a live Stat.
+     */
+    void setHp(int hp) {
+        this.hp = Math.max(0, Math.min(maxHp, hp));
+        version++;
     }
 
     // ===== GETTERS =====
-    public int getStrength() { return strength; }
-    public int getAgility() { return agility; }
-    public int getIntelligence() { return intelligence; }
+    public int getStrength() { return primary[STR]; }
+    public int getAgility() { return primary[AGI]; }
+    public int getIntelligence() { return primary[INT]; }
+
+    /**
+     * Primary stat by type - array lookup, no switch.
+     */
+    public int get(StatType type) { return primary[type.ordinal()]; }
 
     public int getHp() { return hp; }
     public int getMaxHp() { return maxHp; }
@@ -101,9 +241,15 @@ public class Stat implements Serializable {
     public int getCooldownReduction() { return cooldownReduction; }
     public int getSpeed() { return speed; }
 
+    /**
+     * Change counter. Any stat or HP change gives a new value.
+     * Not persisted - only compare versions of the same instance.
+     */
+    public int getVersion() { return version; }
+
     @Override
     public String toString() {
-        return "Stat{STR=" + strength + ", AGI=" + agility + ", INT=" + intelligence + 
+        return "Stat{STR=" + primary[STR] + ", AGI=" + primary[AGI] + ", INT=" + primary[INT] + 
                ", HP=" + hp + "/" + maxHp + "}";
     }
 }
\ No newline at end of file
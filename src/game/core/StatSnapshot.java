@@ -0,0 +1,183 @@
+package game.core;
+
+/**
+ * StatSnapshot is an immutable copy of a Stat: primary stats, current HP
+ * and every derived stat.
+ *
+ * Use it for "what if" questions without touching or cloning an entity:
+ * - Training preview: stats.plusStrength(5).getMaxHp()
+ * - AI reasoning:     playerStats.withDamage(ultimateDamage).getHp()
+ * - Threads:          a snapshot taken on the game thread can be read by
+ *                     UI or simulation threads without locks
+ *
+ * Rules (same as Stat):
+ * - Primary stats never go below 0
+ * - HP is clamped to 0..maxHp
+ * - Raising STR adds the max HP gain to current HP, like Stat.increaseStrength
+ *
+ * Design: Every with* / plus* returns a new snapshot and only recomputes the
+ * derived stats fed by the changed attribute - the rest are carried over.
+ * Derived values come from the same lookup tables as Stat.
+ */
+public final class StatSnapshot {
+
+    private final int strength;
+    private final int agility;
+    private final int intelligence;
+    private final int hp;
+
+    private final int maxHp;
+    private final int evasion;
+    private final int accuracy;
+    private final int cooldownReduction;
+    private final int speed;
+
+    StatSnapshot(int strength, int agility, int intelligence, int hp,
+                 int maxHp, int evasion, int accuracy, int cooldownReduction, int speed) {
+        this.strength = strength;
+        this.agility = agility;
+        this.intelligence = intelligence;
+        this.hp = hp;
+        this.maxHp = maxHp;
+        this.evasion = evasion;
+        this.accuracy = accuracy;
+        this.cooldownReduction = cooldownReduction;
+        this.speed = speed;
+    }
+
+    /**
+     * Snapshot of fresh stats at full HP (same as new Stat(...).snapshot()).
+     */
+    public static StatSnapshot of(int strength, int agility, int intelligence) {
+        int str = Math.max(0, strength);
+        int agi = Math.max(0, agility);
+        int intel = Math.max(0, intelligence);
+        int maxHp = Stat.maxHpOf(str);
+
+        return new StatSnapshot(str, agi, intel, maxHp,
+                                maxHp, Stat.evasionOf(agi), Stat.accuracyOf(intel),
+                                Stat.cooldownReductionOf(intel), Stat.speedOf(agi));
+    }
+
+    // ===== PRIMARY STATS =====
+
+    public StatSnapshot withStrength(int value) {
+        int str = Math.max(0, value);
+        if (str == strength) return this;
+
+        int newMaxHp = Stat.maxHpOf(str);
+        int newHp = Math.max(0, Math.min(newMaxHp, hp + (newMaxHp - maxHp)));
+        return new StatSnapshot(str, agility, intelligence, newHp,
+                                newMaxHp, evasion, accuracy, cooldownReduction, speed);
+    }
+
+    public StatSnapshot withAgility(int value) {
+        int agi = Math.max(0, value);
+        if (agi == agility) return this;
+
+        return new StatSnapshot(strength, agi, intelligence, hp,
+                                maxHp, Stat.evasionOf(agi), accuracy, cooldownReduction, Stat.speedOf(agi));
+    }
+
+    public StatSnapshot withIntelligence(int value) {
+        int intel = Math.max(0, value);
+        if (intel == intelligence) return this;
+
+        return new StatSnapshot(strength, agility, intel, hp,
+                                maxHp, evasion, Stat.accuracyOf(intel), Stat.cooldownReductionOf(intel), speed);
+    }
+
+    public StatSnapshot plusStrength(int amount) { return withStrength(strength + amount); }
+    public StatSnapshot plusAgility(int amount) { return withAgility(agility + amount); }
+    public StatSnapshot plusIntelligence(int amount) { return withIntelligence(intelligence + amount); }
+
+    public StatSnapshot plus(StatType type, int amount) {
+        switch (type) {
+            case STRENGTH: return plusStrength(amount);
+            case AGILITY: return plusAgility(amount);
+            default: return plusIntelligence(amount);
+        }
+    }
+
+    // ===== HP =====
+
+    public StatSnapshot withHp(int value) {
+        int newHp = Math.max(0, Math.min(maxHp, value));
+        if (newHp == hp) return this;
+
+        return new StatSnapshot(strength, agility, intelligence, newHp,
+                                maxHp, evasion, accuracy, cooldownReduction, speed);
+    }
+
+    /**
+     * HP after taking damage (negative damage is ignored, like Stat.takeDamage).
+     */
+    public StatSnapshot withDamage(int damage) {
+        if (damage < 0) return this;
+        return withHp(hp - damage);
+    }
+
+    public StatSnapshot healed() {
+        return withHp(maxHp);
+    }
+
+    public boolean isDead() {
+        return hp <= 0;
+    }
+
+    /**
+     * HP as a fraction of max HP (0.0 to 1.0).
+     */
+    public double getHpPercent() {
+        return maxHp > 0 ? (double) hp / maxHp : 0.0;
+    }
+
+    // ===== CONVERSION =====
+
+    /**
+     * New mutable Stat with these values (including current HP).
+     */
+    public Stat toStat() {
+        Stat stat = new Stat(strength, agility, intelligence);
+        stat.setHp(hp);
+        return stat;
+    }
+
+    // ===== GETTERS =====
+    public int getStrength() { return strength; }
+    public int getAgility() { return agility; }
+    public int getIntelligence() { return intelligence; }
+
+    public int getHp() { return hp; }
+    public int getMaxHp() { return maxHp; }
+    public int getEvasion() { return evasion; }
+    public int getAccuracy() { return accuracy; }
+    public int getCooldownReduction() { return cooldownReduction; }
+    public int getSpeed() { return speed; }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) return true;
+        if (!(obj instanceof StatSnapshot)) return false;
+
+        StatSnapshot other = (StatSnapshot) obj;
+        // Derived stats follow from the primary ones
+        return strength == other.strength && agility == other.agility
+            && intelligence == other.intelligence && hp == other.hp;
+    }
+
+    @Override
+    public int hashCode() {
+        int result = strength;
+        result = 31 * result + agility;
+        result = 31 * result + intelligence;
+        result = 31 * result + hp;
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return "StatSnapshot{STR=" + strength + ", AGI=" + agility + ", INT=" + intelligence +
+               ", HP=" + hp + "/" + maxHp + "}";
+    }
+}
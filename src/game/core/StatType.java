@@ -0,0 +1,55 @@
+package game.core;
+
+/**
+ * StatType names the three trainable primary stats.
+ * The ordinal doubles as the index into Stat's primary stat array.
+ *
+ * Design: Use the enum in code; fromName() is the adapter for text input
+ * (console UI, protocols) that still speaks "STR" / "strength".
+ */
+public enum StatType {
+
+    STRENGTH("STR"),
+    AGILITY("AGI"),
+    INTELLIGENCE("INT");
+
+    /** Number of primary stats (array length for per-stat data). */
+    public static final int COUNT = 3;
+
+    private static final StatType[] VALUES = values();
+
+    private final String abbreviation;
+
+    StatType(String abbreviation) {
+        this.abbreviation = abbreviation;
+    }
+
+    public String getAbbreviation() {
+        return abbreviation;
+    }
+
+    /**
+     * Stat for an index (ordinal), without the values() copy.
+     */
+    public static StatType of(int index) {
+        return VALUES[index];
+    }
+
+    /**
+     * Parse a stat name or abbreviation, any case, surrounding spaces ignored.
+     *
+     * @param name "STR", "strength", " Agi ", ...
+     * @return The stat, or null if unknown
+     */
+    public static StatType fromName(String name) {
+        if (name == null) return null;
+
+        String trimmed = name.trim();
+        for (StatType type : VALUES) {
+            if (type.name().equalsIgnoreCase(trimmed) || type.abbreviation.equalsIgnoreCase(trimmed)) {
+                return type;
+            }
+        }
+        return null;
+    }
+}
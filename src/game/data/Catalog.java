@@ -0,0 +1,166 @@
+package game.data;
+
+import game.core.AIRules;
+import game.core.Profession;
+import game.core.Skill;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Catalog holds the game content loaded from the data catalog:
+ * every skill, the skill set of each profession and every enemy type.
+ *
+ * Indexes:
+ * - Skill by name (case-insensitive)
+ * - Enemy by name (case-insensitive)
+ * - Skills by profession
+ *
+ * Design: Immutable after loading. Skills are interned through SkillRegistry,
+ * so catalog skills are the same instances the rest of the game uses.
+ * EnemiesData and SkillsData read from getDefault(); CatalogLoader builds it.
+ */
+public final class Catalog {
+
+    // ===== ENEMY ENTRY CLASS =====
+
+    /**
+     * EnemyEntry is one enemy definition from the catalog.
+     */
+    public static final class EnemyEntry {
+        private final String name;
+        private final int strength;
+        private final int agility;
+        private final int intelligence;
+        private final String specialization;
+        private final String aiDescription;
+        private final Skill[] skills;
+        private final AIRules aiRules;
+
+        EnemyEntry(String name, int strength, int agility, int intelligence,
+                   String specialization, String aiDescription, Skill[] skills, AIRules aiRules) {
+            this.name = name;
+            this.strength = strength;
+            this.agility = agility;
+            this.intelligence = intelligence;
+            this.specialization = specialization;
+            this.aiDescription = aiDescription;
+            this.skills = skills;
+            this.aiRules = aiRules;
+        }
+
+        public String getName() { return name; }
+        public int getStrength() { return strength; }
+        public int getAgility() { return agility; }
+        public int getIntelligence() { return intelligence; }
+        public String getSpecialization() { return specialization; }
+        public String getAIDescription() { return aiDescription; }
+        public int getSkillCount() { return skills.length; }
+        public Skill getSkill(int index) { return skills[index]; }
+
+        /**
+         * Compiled AI rules, or null if the catalog gives none (default AI).
+         */
+        public AIRules getAIRules() { return aiRules; }
+
+        /**
+         * Skill array shared by every enemy of this type - treat as read-only.
+         */
+        Skill[] sharedSkills() { return skills; }
+    }
+
+    private final Skill[] skills;
+    private final Map<Profession, Skill[]> professionSkills;
+    private final EnemyEntry[] enemies;
+
+    private final Map<String, Skill> skillsByName;
+    private final Map<String, EnemyEntry> enemiesByName;
+
+    Catalog(Skill[] skills, Map<Profession, Skill[]> professionSkills, EnemyEntry[] enemies) {
+        this.skills = skills;
+        this.professionSkills = Collections.unmodifiableMap(new EnumMap<>(professionSkills));
+        this.enemies = enemies;
+
+        Map<String, Skill> skillIndex = new HashMap<>();
+        for (Skill skill : skills) {
+            if (skillIndex.put(key(skill.getName()), skill) != null) {
+                throw new IllegalArgumentException("Duplicate skill in catalog: " + skill.getName());
+            }
+        }
+        this.skillsByName = Collections.unmodifiableMap(skillIndex);
+
+        Map<String, EnemyEntry> enemyIndex = new HashMap<>();
+        for (EnemyEntry enemy : enemies) {
+            if (enemyIndex.put(key(enemy.getName()), enemy) != null) {
+                throw new IllegalArgumentException("Duplicate enemy in catalog: " + enemy.getName());
+            }
+        }
+        this.enemiesByName = Collections.unmodifiableMap(enemyIndex);
+    }
+
+    // ===== DEFAULT CATALOG =====
+
+    /**
+     * The game's catalog, loaded on first use (see CatalogLoader.loadDefault).
+     */
+    public static Catalog getDefault() {
+        return DefaultHolder.INSTANCE;
+    }
+
+    private static final class DefaultHolder {
+        private static final Catalog INSTANCE = CatalogLoader.loadDefault();
+    }
+
+    // ===== SKILLS =====
+
+    public int getSkillCount() { return skills.length; }
+    public Skill getSkill(int index) { return skills[index]; }
+
+    /**
+     * Find a skill by name (case-insensitive).
+     *
+     * @param name Skill name
+     * @return Skill, or null if not in the catalog
+     */
+    public Skill findSkill(String name) {
+        return name != null ? skillsByName.get(key(name)) : null;
+    }
+
+    /**
+     * Get the skills of a profession, in slot order.
+     *
+     * @param profession The profession
+     * @return New array of skills (empty if the catalog defines none)
+     */
+    public Skill[] getProfessionSkills(Profession profession) {
+        Skill[] skills = profession != null ? professionSkills.get(profession) : null;
+        return skills != null ? skills.clone() : new Skill[0];
+    }
+
+    // ===== ENEMIES =====
+
+    public int getEnemyCount() { return enemies.length; }
+    public EnemyEntry getEnemy(int index) { return enemies[index]; }
+
+    /**
+     * Find an enemy by name (case-insensitive).
+     *
+     * @param name Enemy name
+     * @return Enemy entry, or null if not in the catalog
+     */
+    public EnemyEntry findEnemy(String name) {
+        return name != null ? enemiesByName.get(key(name)) : null;
+    }
+
+    // ===== HELPER METHODS =====
+
+    Skill[] skillArray() { return skills; }
+    Map<Profession, Skill[]> professionMap() { return professionSkills; }
+    EnemyEntry[] enemyArray() { return enemies; }
+
+    private static String key(String name) {
+        return name.trim().toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,186 @@
+package game.data;
+
+import game.core.AIRules;
+import game.core.Profession;
+import game.core.Skill;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * CatalogCompiler turns the authoring JSON into the compact binary catalog.
+ * Run it after editing catalog.json (layout documented in CatalogLoader).
+ *
+ * Usage: java game.data.CatalogCompiler [catalog.json] [catalog.bin]
+ * Defaults: src/resources/data/catalog.json -> src/resources/data/catalog.bin
+ *
+ * Design: The JSON is fully loaded (and so validated) before anything is
+ * written. The binary records a CRC32 of the JSON, so CatalogLoader can tell
+ * when the binary is stale.
+ */
+public final class CatalogCompiler {
+
+    private static final String DEFAULT_JSON = "src/resources/data/catalog.json";
+    private static final String DEFAULT_BINARY = "src/resources/data/catalog.bin";
+    private static final int MAX_STRING_BYTES = 0xFFFF;
+
+    private CatalogCompiler() {
+        // Static utility - no instances
+    }
+
+    public static void main(String[] args) throws IOException {
+        Path jsonPath = Paths.get(args.length > 0 ? args[0] : DEFAULT_JSON);
+        Path binaryPath = Paths.get(args.length > 1 ? args[1] : DEFAULT_BINARY);
+
+        byte[] json = Files.readAllBytes(jsonPath);
+        byte[] binary = compile(json);
+        Files.write(binaryPath, binary);
+
+        Catalog catalog = CatalogLoader.fromJson(new String(json, StandardCharsets.UTF_8));
+        System.out.println("Compiled " + jsonPath + " -> " + binaryPath + " (" + binary.length + " bytes, " +
+                           catalog.getSkillCount() + " skills, " + catalog.getEnemyCount() + " enemies)");
+    }
+
+    /**
+     * Compile catalog JSON into the binary format.
+     *
+     * @param json UTF-8 JSON bytes
+     * @return Binary catalog
+     * @throws IllegalArgumentException if the JSON is not a valid catalog
+     */
+    public static byte[] compile(byte[] json) {
+        if (json == null) {
+            throw new IllegalArgumentException("JSON cannot be null");
+        }
+
+        Catalog catalog = CatalogLoader.fromJson(new String(json, StandardCharsets.UTF_8));
+        try {
+            return write(catalog, CatalogLoader.crc(json));
+        } catch (IOException e) {
+            // ByteArrayOutputStream never throws
+            throw new IllegalStateException(e);
+        }
+    }
+
+    // ===== WRITING =====
+
+    private static byte[] write(Catalog catalog, int sourceCrc) throws IOException {
+        StringTable strings = new StringTable();
+        Skill[] skills = catalog.skillArray();
+        Map<Skill, Integer> skillIndex = new IdentityHashMap<>();
+        for (int i = 0; i < skills.length; i++) {
+            skillIndex.put(skills[i], i);
+        }
+
+        // Body first (fills the string table), then header + strings + body
+        ByteArrayOutputStream bodyBytes = new ByteArrayOutputStream();
+        DataOutputStream body = new DataOutputStream(bodyBytes);
+
+        body.writeInt(skills.length);
+        for (Skill skill : skills) {
+            body.writeInt(strings.indexOf(skill.getName()));
+            Profession profession = skill.getAllowedProfession();
+            body.writeInt(profession != null ? strings.indexOf(profession.name()) : -1);
+            body.writeInt(skill.getBaseDamage());
+            body.writeInt(skill.getBaseCooldown());
+        }
+
+        Map<Profession, Skill[]> professions = catalog.professionMap();
+        body.writeInt(professions.size());
+        for (Map.Entry<Profession, Skill[]> entry : professions.entrySet()) {
+            body.writeInt(strings.indexOf(entry.getKey().name()));
+            writeSkillRefs(body, entry.getValue(), skillIndex);
+        }
+
+        Catalog.EnemyEntry[] enemies = catalog.enemyArray();
+        body.writeInt(enemies.length);
+        for (Catalog.EnemyEntry enemy : enemies) {
+            body.writeInt(strings.indexOf(enemy.getName()));
+            body.writeInt(enemy.getStrength());
+            body.writeInt(enemy.getAgility());
+            body.writeInt(enemy.getIntelligence());
+            body.writeInt(strings.indexOf(enemy.getSpecialization()));
+            body.writeInt(strings.indexOf(enemy.getAIDescription()));
+            writeSkillRefs(body, enemy.sharedSkills(), skillIndex);
+            writeRules(body, enemy.getAIRules(), strings);
+        }
+        body.flush();
+
+        ByteArrayOutputStream outBytes = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(outBytes);
+        out.writeInt(CatalogLoader.MAGIC);
+        out.writeShort(CatalogLoader.VERSION);
+        out.writeInt(sourceCrc);
+        strings.write(out);
+        bodyBytes.writeTo(out);
+        out.flush();
+
+        return outBytes.toByteArray();
+    }
+
+    private static void writeSkillRefs(DataOutputStream out, Skill[] skills, Map<Skill, Integer> skillIndex)
+            throws IOException {
+        out.writeInt(skills.length);
+        for (Skill skill : skills) {
+            out.writeInt(skillIndex.get(skill));
+        }
+    }
+
+    private static void writeRules(DataOutputStream out, AIRules rules, StringTable strings) throws IOException {
+        if (rules == null) {
+            out.writeInt(CatalogLoader.NO_RULES);
+            return;
+        }
+
+        out.writeInt(rules.getRuleCount());
+        for (int r = 0; r < rules.getRuleCount(); r++) {
+            out.writeInt(rules.getUse(r));
+            out.writeInt(rules.getReadyMask(r));
+            out.writeInt(rules.getCooldownMask(r));
+            out.writeDouble(rules.getHpBelow(r));
+            out.writeInt(rules.getFlags(r));
+            out.writeInt(rules.getFinisher(r));
+            out.writeInt(rules.getHits(r));
+            out.writeInt(strings.indexOf(rules.getReason(r)));
+        }
+    }
+
+    /**
+     * Deduplicated strings, written once and referenced by index.
+     */
+    private static class StringTable {
+        private final List<String> strings = new ArrayList<>();
+        private final Map<String, Integer> indexes = new HashMap<>();
+
+        int indexOf(String value) {
+            Integer index = indexes.get(value);
+            if (index == null) {
+                if (value.getBytes(StandardCharsets.UTF_8).length > MAX_STRING_BYTES) {
+                    throw new IllegalArgumentException("String too long for catalog: " + value);
+                }
+                index = strings.size();
+                strings.add(value);
+                indexes.put(value, index);
+            }
+            return index;
+        }
+
+        void write(DataOutputStream out) throws IOException {
+            out.writeInt(strings.size());
+            for (String value : strings) {
+                byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+                out.writeShort(bytes.length);
+                out.write(bytes);
+            }
+        }
+    }
+}
@@ -0,0 +1,462 @@
+package game.data;
+
+import game.core.AIRules;
+import game.core.Profession;
+import game.core.Skill;
+import game.core.SkillRegistry;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.zip.CRC32;
+
+/**
+ * CatalogLoader reads the game catalog in either of its two formats.
+ *
+ * Formats:
+ * - JSON   (data/catalog.json) - the authoring format, edited by hand
+ * - Binary (data/catalog.bin)  - compiled by CatalogCompiler, memory-mapped
+ *                                and read with no parsing
+ *
+ * HOW IT WORKS (loadDefault):
+ * 1. -Dgame.catalog=path overrides everything (.json or compiled binary)
+ * 2. Otherwise use the binary on the classpath if it was compiled from the
+ *    JSON next to it (the binary stores a CRC32 of its source JSON)
+ * 3. Otherwise parse the JSON - a stale or missing binary never wins
+ *
+ * BINARY LAYOUT (big-endian):
+ *   int magic 'GCAT', short version, int source CRC32
+ *   int stringCount, { short length, UTF-8 bytes }*
+ *   int skillCount,  { int name, int profession (-1 = any), int damage, int cooldown }*
+ *   int professionCount, { int name, int count, int skill* }*
+ *   int enemyCount,  { int name, int str, int agi, int int, int specialization, int ai,
+ *                      int count, int skill*, int ruleCount (-1 = default AI), rule* }*
+ *   rule = { int use, int readyMask, int cooldownMask, double hpBelow, int flags,
+ *            int finisher, int hits, int reason }
+ * Names are string table indexes, skills are skill table indexes.
+ * AI rules are stored already compiled (see AIRules), so loading them is a copy.
+ *
+ * AI RULE FORMAT (JSON, per enemy "rules", first match wins):
+ *   { "use": 2, "ready": [1], "onCooldown": [0], "hpBelow": 0.4, "hpFull": true,
+ *     "lethal": true, "setsUpKill": { "finisher": 1, "hits": 2 }, "reason": "..." }
+ * Only "use" is required (-1 = basic attack); the used skill must be ready.
+ *
+ * Design: Static utility. Errors in content throw IllegalArgumentException;
+ * I/O problems throw IllegalStateException.
+ */
+public final class CatalogLoader {
+
+    // Classpath locations (src/resources is a source folder)
+    static final String JSON_RESOURCE = "/data/catalog.json";
+    static final String BINARY_RESOURCE = "/data/catalog.bin";
+    static final String PATH_PROPERTY = "game.catalog";
+
+    // Binary format
+    static final int MAGIC = 0x47434154; // "GCAT"
+    static final short VERSION = 2;
+    static final int NO_RULES = -1;      // Rule count for "use default AI"
+
+    private CatalogLoader() {
+        // Static utility - no instances
+    }
+
+    // ===== LOADING =====
+
+    /**
+     * Load the game catalog (see class comment for the lookup order).
+     *
+     * @return Loaded catalog
+     */
+    public static Catalog loadDefault() {
+        String override = System.getProperty(PATH_PROPERTY);
+        if (override != null && !override.trim().isEmpty()) {
+            return load(Paths.get(override.trim()));
+        }
+
+        URL jsonUrl = CatalogLoader.class.getResource(JSON_RESOURCE);
+        URL binaryUrl = CatalogLoader.class.getResource(BINARY_RESOURCE);
+
+        try {
+            byte[] json = jsonUrl != null ? readAll(jsonUrl) : null;
+
+            if (binaryUrl != null) {
+                ByteBuffer binary = map(binaryUrl);
+                if (json == null || sourceCrc(binary) == crc(json)) {
+                    return fromBinary(binary);
+                }
+            }
+            if (json != null) {
+                return fromJson(new String(json, StandardCharsets.UTF_8));
+            }
+        } catch (IOException | URISyntaxException e) {
+            throw new IllegalStateException("Could not load game catalog", e);
+        }
+
+        throw new IllegalStateException("Game catalog not found: " + JSON_RESOURCE);
+    }
+
+    /**
+     * Load a catalog file. ".json" files are parsed, anything else is
+     * treated as a compiled binary and memory-mapped.
+     *
+     * @param path Catalog file
+     * @return Loaded catalog
+     */
+    public static Catalog load(Path path) {
+        if (path == null) {
+            throw new IllegalArgumentException("Catalog path cannot be null");
+        }
+
+        try {
+            if (path.getFileName().toString().toLowerCase(Locale.ROOT).endsWith(".json")) {
+                return fromJson(new String(Files.readAllBytes(path), StandardCharsets.UTF_8));
+            }
+            return fromBinary(map(path));
+        } catch (IOException e) {
+            throw new IllegalStateException("Could not load game catalog: " + path, e);
+        }
+    }
+
+    // ===== JSON =====
+
+    /**
+     * Build a catalog from JSON text.
+     *
+     * @param json Catalog JSON
+     * @return Loaded catalog
+     * @throws IllegalArgumentException if the JSON is malformed or inconsistent
+     */
+    public static Catalog fromJson(String json) {
+        Map<String, Object> root = asObject(JsonReader.parse(json), "catalog");
+
+        // Skills
+        List<Object> skillList = asArray(root.get("skills"), "skills");
+        Skill[] skills = new Skill[skillList.size()];
+        Map<String, Skill> skillsByName = new HashMap<>();
+        for (int i = 0; i < skills.length; i++) {
+            Map<String, Object> entry = asObject(skillList.get(i), "skills[" + i + "]");
+            String professionName = optionalString(entry, "profession", null);
+
+            skills[i] = SkillRegistry.intern(
+                requiredString(entry, "name"),
+                professionName != null ? parseProfession(professionName) : null,
+                requiredInt(entry, "damage"),
+                requiredInt(entry, "cooldown"));
+            skillsByName.put(skills[i].getName().toLowerCase(Locale.ROOT), skills[i]);
+        }
+
+        // Professions
+        Map<Profession, Skill[]> professionSkills = new EnumMap<>(Profession.class);
+        List<Object> professionList = asArray(root.get("professions"), "professions");
+        for (int i = 0; i < professionList.size(); i++) {
+            Map<String, Object> entry = asObject(professionList.get(i), "professions[" + i + "]");
+            Profession profession = parseProfession(requiredString(entry, "name"));
+            professionSkills.put(profession, resolveSkills(entry, skillsByName));
+        }
+
+        // Enemies
+        List<Object> enemyList = asArray(root.get("enemies"), "enemies");
+        Catalog.EnemyEntry[] enemies = new Catalog.EnemyEntry[enemyList.size()];
+        for (int i = 0; i < enemies.length; i++) {
+            Map<String, Object> entry = asObject(enemyList.get(i), "enemies[" + i + "]");
+            Skill[] enemySkills = resolveSkills(entry, skillsByName);
+            enemies[i] = new Catalog.EnemyEntry(
+                requiredString(entry, "name"),
+                requiredInt(entry, "strength"),
+                requiredInt(entry, "agility"),
+                requiredInt(entry, "intelligence"),
+                optionalString(entry, "specialization", "UNKNOWN"),
+                optionalString(entry, "ai", "Standard AI"),
+                enemySkills,
+                parseRules(entry, enemySkills.length));
+        }
+
+        return new Catalog(skills, professionSkills, enemies);
+    }
+
+    private static Skill[] resolveSkills(Map<String, Object> entry, Map<String, Skill> skillsByName) {
+        List<Object> names = asArray(entry.get("skills"), "skills of " + entry.get("name"));
+        Skill[] skills = new Skill[names.size()];
+        for (int i = 0; i < skills.length; i++) {
+            Object name = names.get(i);
+            Skill skill = name instanceof String ? skillsByName.get(((String) name).toLowerCase(Locale.ROOT)) : null;
+            if (skill == null) {
+                throw new IllegalArgumentException("Unknown skill '" + name + "' in " + entry.get("name"));
+            }
+            skills[i] = skill;
+        }
+        return skills;
+    }
+
+    /**
+     * Compile an enemy's declarative AI rules into an AIRules table.
+     * Returns null if the enemy has no "rules" (default AI).
+     */
+    private static AIRules parseRules(Map<String, Object> entry, int skillCount) {
+        if (entry.get("rules") == null) return null;
+
+        String enemy = String.valueOf(entry.get("name"));
+        List<Object> list = asArray(entry.get("rules"), "rules of " + enemy);
+        int count = list.size();
+        int[] use = new int[count];
+        int[] readyMask = new int[count];
+        int[] cooldownMask = new int[count];
+        double[] hpBelow = new double[count];
+        int[] flags = new int[count];
+        int[] finisher = new int[count];
+        int[] hits = new int[count];
+        String[] reasons = new String[count];
+
+        for (int r = 0; r < count; r++) {
+            String where = enemy + " rule " + r;
+            Map<String, Object> rule = asObject(list.get(r), where);
+
+            use[r] = requiredInt(rule, "use");
+            if (use[r] != AIRules.BASIC_ATTACK) {
+                checkSlot(use[r], skillCount, where);
+            }
+            readyMask[r] = slotMask(rule.get("ready"), skillCount, where);
+            cooldownMask[r] = slotMask(rule.get("onCooldown"), skillCount, where);
+            hpBelow[r] = optionalDouble(rule, "hpBelow", AIRules.NO_HP_LIMIT);
+            reasons[r] = optionalString(rule, "reason", "");
+
+            if (Boolean.TRUE.equals(rule.get("hpFull"))) flags[r] |= AIRules.HP_FULL;
+            if (Boolean.TRUE.equals(rule.get("lethal"))) flags[r] |= AIRules.LETHAL;
+            if (rule.get("setsUpKill") != null) {
+                Map<String, Object> setup = asObject(rule.get("setsUpKill"), where + " setsUpKill");
+                flags[r] |= AIRules.SETS_UP_KILL;
+                finisher[r] = requiredInt(setup, "finisher");
+                hits[r] = requiredInt(setup, "hits");
+                checkSlot(finisher[r], skillCount, where);
+            }
+        }
+
+        try {
+            return new AIRules(use, readyMask, cooldownMask, hpBelow, flags, finisher, hits, reasons);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException(enemy + ": " + e.getMessage());
+        }
+    }
+
+    private static int slotMask(Object value, int skillCount, String where) {
+        int mask = 0;
+        for (Object slot : asArray(value, where)) {
+            if (!(slot instanceof Long)) {
+                throw new IllegalArgumentException("Skill slots must be integers in " + where);
+            }
+            int index = Math.toIntExact((Long) slot);
+            checkSlot(index, skillCount, where);
+            mask |= 1 << index;
+        }
+        return mask;
+    }
+
+    private static void checkSlot(int slot, int skillCount, String where) {
+        if (slot < 0 || slot >= skillCount || slot >= AIRules.MAX_SKILL_SLOTS) {
+            throw new IllegalArgumentException("Skill slot " + slot + " out of range in " + where);
+        }
+    }
+
+    // ===== BINARY =====
+
+    /**
+     * Build a catalog from a compiled binary.
+     *
+     * @param buffer Binary catalog (position 0 = start)
+     * @return Loaded catalog
+     * @throws IllegalArgumentException if the data is not a valid catalog
+     */
+    public static Catalog fromBinary(ByteBuffer buffer) {
+        ByteBuffer in = buffer.duplicate();
+        try {
+            if (in.getInt() != MAGIC) {
+                throw new IllegalArgumentException("Not a catalog binary");
+            }
+            short version = in.getShort();
+            if (version != VERSION) {
+                throw new IllegalArgumentException("Unsupported catalog version: " + version);
+            }
+            in.getInt(); // Source CRC - only used by loadDefault
+
+            String[] strings = new String[in.getInt()];
+            for (int i = 0; i < strings.length; i++) {
+                byte[] bytes = new byte[in.getShort() & 0xFFFF];
+                in.get(bytes);
+                strings[i] = new String(bytes, StandardCharsets.UTF_8);
+            }
+
+            Skill[] skills = new Skill[in.getInt()];
+            for (int i = 0; i < skills.length; i++) {
+                String name = strings[in.getInt()];
+                int profession = in.getInt();
+                skills[i] = SkillRegistry.intern(
+                    name,
+                    profession >= 0 ? parseProfession(strings[profession]) : null,
+                    in.getInt(),
+                    in.getInt());
+            }
+
+            Map<Profession, Skill[]> professionSkills = new EnumMap<>(Profession.class);
+            int professionCount = in.getInt();
+            for (int i = 0; i < professionCount; i++) {
+                Profession profession = parseProfession(strings[in.getInt()]);
+                professionSkills.put(profession, readSkillRefs(in, skills));
+            }
+
+            Catalog.EnemyEntry[] enemies = new Catalog.EnemyEntry[in.getInt()];
+            for (int i = 0; i < enemies.length; i++) {
+                String name = strings[in.getInt()];
+                int strength = in.getInt();
+                int agility = in.getInt();
+                int intelligence = in.getInt();
+                String specialization = strings[in.getInt()];
+                String ai = strings[in.getInt()];
+                Skill[] enemySkills = readSkillRefs(in, skills);
+                enemies[i] = new Catalog.EnemyEntry(name, strength, agility, intelligence,
+                                                    specialization, ai, enemySkills, readRules(in, strings));
+            }
+
+            return new Catalog(skills, professionSkills, enemies);
+        } catch (BufferUnderflowException | ArrayIndexOutOfBoundsException | NegativeArraySizeException e) {
+            throw new IllegalArgumentException("Corrupt catalog binary", e);
+        }
+    }
+
+    private static Skill[] readSkillRefs(ByteBuffer in, Skill[] skills) {
+        Skill[] refs = new Skill[in.getInt()];
+        for (int i = 0; i < refs.length; i++) {
+            refs[i] = skills[in.getInt()];
+        }
+        return refs;
+    }
+
+    private static AIRules readRules(ByteBuffer in, String[] strings) {
+        int count = in.getInt();
+        if (count == NO_RULES) return null;
+
+        int[] use = new int[count];
+        int[] readyMask = new int[count];
+        int[] cooldownMask = new int[count];
+        double[] hpBelow = new double[count];
+        int[] flags = new int[count];
+        int[] finisher = new int[count];
+        int[] hits = new int[count];
+        String[] reasons = new String[count];
+        for (int r = 0; r < count; r++) {
+            use[r] = in.getInt();
+            readyMask[r] = in.getInt();
+            cooldownMask[r] = in.getInt();
+            hpBelow[r] = in.getDouble();
+            flags[r] = in.getInt();
+            finisher[r] = in.getInt();
+            hits[r] = in.getInt();
+            reasons[r] = strings[in.getInt()];
+        }
+        return new AIRules(use, readyMask, cooldownMask, hpBelow, flags, finisher, hits, reasons);
+    }
+
+    /**
+     * CRC32 of the JSON a binary was compiled from.
+     */
+    static int sourceCrc(ByteBuffer binary) {
+        if (binary.limit() < 10 || binary.getInt(0) != MAGIC) return 0;
+        return binary.getInt(6);
+    }
+
+    static int crc(byte[] bytes) {
+        CRC32 crc = new CRC32();
+        crc.update(bytes);
+        return (int) crc.getValue();
+    }
+
+    // ===== JSON HELPERS =====
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, Object> asObject(Object value, String what) {
+        if (!(value instanceof Map)) {
+            throw new IllegalArgumentException("Expected object for " + what);
+        }
+        return (Map<String, Object>) value;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static List<Object> asArray(Object value, String what) {
+        if (value == null) return new ArrayList<>();
+        if (!(value instanceof List)) {
+            throw new IllegalArgumentException("Expected array for " + what);
+        }
+        return (List<Object>) value;
+    }
+
+    private static String requiredString(Map<String, Object> entry, String key) {
+        Object value = entry.get(key);
+        if (!(value instanceof String) || ((String) value).trim().isEmpty()) {
+            throw new IllegalArgumentException("Missing '" + key + "' in " + entry);
+        }
+        return (String) value;
+    }
+
+    private static String optionalString(Map<String, Object> entry, String key, String fallback) {
+        Object value = entry.get(key);
+        return value instanceof String ? (String) value : fallback;
+    }
+
+    private static double optionalDouble(Map<String, Object> entry, String key, double fallback) {
+        Object value = entry.get(key);
+        return value instanceof Number ? ((Number) value).doubleValue() : fallback;
+    }
+
+    private static int requiredInt(Map<String, Object> entry, String key) {
+        Object value = entry.get(key);
+        if (!(value instanceof Long)) {
+            throw new IllegalArgumentException("Missing integer '" + key + "' in " + entry.get("name"));
+        }
+        return Math.toIntExact((Long) value);
+    }
+
+    private static Profession parseProfession(String name) {
+        try {
+            return Profession.valueOf(name.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Unknown profession: " + name);
+        }
+    }
+
+    // ===== I/O HELPERS =====
+
+    private static byte[] readAll(URL url) throws IOException {
+        try (InputStream in = url.openStream()) {
+            return in.readAllBytes();
+        }
+    }
+
+    /**
+     * Memory-map a file URL; other URLs (e.g. inside a jar) are read into memory.
+     */
+    private static ByteBuffer map(URL url) throws IOException, URISyntaxException {
+        if ("file".equals(url.getProtocol())) {
+            return map(Paths.get(url.toURI()));
+        }
+        return ByteBuffer.wrap(readAll(url));
+    }
+
+    private static ByteBuffer map(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            return channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+    }
+}
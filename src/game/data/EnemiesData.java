@@ -1,12 +1,21 @@
 package game.data;
 
+import game.core.AIRules;
 import game.core.Enemy;
 import game.core.Stat;
 import game.core.Skill;
+import game.core.StatSnapshot;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
 
 /**
  * EnemiesData provides enemy templates and definitions.
  * Contains all enemy types with their base stats and skills.
+ *
+ * Data Source: Enemy definitions live in data/catalog.json (compiled to
+ * data/catalog.bin) and are loaded through Catalog at startup.
  * 
  * BALANCED VERSION:
  * - Enemy baseline stats: 20/20/20
@@ -25,50 +34,118 @@ import game.core.Skill;
  */
 public class EnemiesData {
 
+    // ===== TEMPLATE CACHE =====
+    // Built once at class load. Lookups and spawns never rebuild stats or skills.
+    private static final EnemyTemplate[] TEMPLATES = loadTemplates(Catalog.getDefault());
+    private static final Map<String, EnemyTemplate> TEMPLATES_BY_NAME = indexByName(TEMPLATES);
+    private static final String[] NAMES = namesOf(TEMPLATES);
+
+    // ===== ENEMY TEMPLATE CLASS =====
+
+    /**
+     * EnemyTemplate is the immutable definition of an enemy type.
+     * One shared instance per type - spawn() turns it into a fighting Enemy.
+     *
+     * Flyweight: Every spawned Enemy gets its own Stat (HP changes in battle)
+     * but shares the template's Skill[] (skills never change). Treat
+     * enemy.getSkills() as read-only.
+     */
+    public static final class EnemyTemplate {
+        private final String name;
+        private final StatSnapshot stats;
+        private final Skill[] skills;
+        private final String specialization;
+        private final String aiDescription;
+        private final AIRules aiRules;
+
+        private EnemyTemplate(Catalog.EnemyEntry entry) {
+            this.name = entry.getName();
+            this.stats = StatSnapshot.of(entry.getStrength(), entry.getAgility(), entry.getIntelligence());
+            this.skills = entry.sharedSkills();
+            this.specialization = entry.getSpecialization();
+            this.aiDescription = entry.getAIDescription();
+            this.aiRules = entry.getAIRules();
+        }
+
+        /**
+         * Create a fresh enemy (full HP, no cooldowns) of this type.
+         */
+        public Enemy spawn() {
+            return new Enemy(name, stats.toStat(), skills, aiRules);
+        }
+
+        public String getName() { return name; }
+        public StatSnapshot getStats() { return stats; }
+        public int getSkillCount() { return skills.length; }
+        public Skill getSkill(int index) { return skills[index]; }
+        public String getSpecialization() { return specialization; }
+        public String getAIDescription() { return aiDescription; }
+        public AIRules getAIRules() { return aiRules; }
+    }
+
+    // ===== TEMPLATE LOOKUP =====
+
+    /**
+     * Get a cached template by index.
+     *
+     * @param index Enemy index (0 = Killer Bunny, 1 = Minotaur, 2 = Mindflayer)
+     * @return Shared template, or null if invalid index
+     */
+    public static EnemyTemplate getTemplate(int index) {
+        if (index >= 0 && index < TEMPLATES.length) {
+            return TEMPLATES[index];
+        }
+        return null;
+    }
+
+    /**
+     * Get a cached template by name (case-insensitive).
+     *
+     * @param name Enemy name
+     * @return Shared template, or null if not found
+     */
+    public static EnemyTemplate getTemplate(String name) {
+        if (name == null) return null;
+        return TEMPLATES_BY_NAME.get(name.toLowerCase(Locale.ROOT));
+    }
+
+    // ===== ENEMY INSTANCES =====
+
     /**
      * Get all enemy types for the game.
      * Returns an array of 3 enemies in order.
+     * Each call returns fresh enemies - safe to fight and modify.
      * 
      * @return Array of enemy templates
      */
     public static Enemy[] getAllEnemyTypes() {
-        return new Enemy[] {
-            createKillerBunny(),
-            createMinotaur(),
-            createMindflayer()
-        };
+        Enemy[] enemies = new Enemy[TEMPLATES.length];
+        for (int i = 0; i < TEMPLATES.length; i++) {
+            enemies[i] = TEMPLATES[i].spawn();
+        }
+        return enemies;
     }
 
     /**
      * Get a specific enemy by index.
      * 
      * @param index Enemy index (0 = Killer Bunny, 1 = Minotaur, 2 = Mindflayer)
-     * @return Enemy template, or null if invalid index
+     * @return Fresh enemy, or null if invalid index
      */
     public static Enemy getEnemyByIndex(int index) {
-        Enemy[] enemies = getAllEnemyTypes();
-        if (index >= 0 && index < enemies.length) {
-            return enemies[index];
-        }
-        return null;
+        EnemyTemplate template = getTemplate(index);
+        return template != null ? template.spawn() : null;
     }
 
     /**
      * Get a specific enemy by name.
      * 
      * @param name Enemy name
-     * @return Enemy template, or null if not found
+     * @return Fresh enemy, or null if not found
      */
     public static Enemy getEnemyByName(String name) {
-        if (name == null) return null;
-
-        Enemy[] enemies = getAllEnemyTypes();
-        for (Enemy enemy : enemies) {
-            if (enemy.getName().equalsIgnoreCase(name)) {
-                return enemy;
-            }
-        }
-        return null;
+        EnemyTemplate template = getTemplate(name);
+        return template != null ? template.spawn() : null;
     }
 
     /**
@@ -88,113 +165,7 @@ public class EnemiesData {
             stats.getIntelligence()
         );
 
-        return new Enemy(template.getName(), newStats, template.getSkills());
-    }
-
-    // ===== ENEMY DEFINITIONS =====
-
-    /**
-     * Killer Bunny - AGI Specialist
-     * 
-     * Base Stats: STR 20, AGI 30, INT 20
-     * Specialization: AGILITY
-     * AI Strategy: Aggressive burst - always uses highest damage skill
-     * 
-     * Strategy: Speed demon that gets more turns than player
-     * Threat: Pressure through frequency of attacks
-     * Counter: Rogue (speed vs speed) or high evasion builds
-     * 
-     * Skills:
-     * - Rapid Bite: 8 damage, 0 cooldown (basic attack)
-     * - Pounce: 18 damage, 2 cooldown
-     * - Frenzy: 28 damage, 3 cooldown (ultimate)
-     * 
-     * At 20 STR:
-     * - Rapid Bite: 28 total damage
-     * - Pounce: 38 total damage
-     * - Frenzy: 48 total damage
-     */
-    private static Enemy createKillerBunny() {
-        // AGI specialist: baseline 20, specialized 30
-        Stat stats = new Stat(20, 30, 20);
-
-        Skill[] skills = new Skill[] {
-            new Skill("Rapid Bite", null, 8, 0),      // Basic
-            new Skill("Pounce", null, 18, 2),         // Normal
-            new Skill("Frenzy", null, 28, 3)          // Ultimate
-        };
-
-        return new Enemy("Killer Bunny", stats, skills);
-    }
-
-    /**
-     * Minotaur - STR Specialist
-     * 
-     * Base Stats: STR 30, AGI 20, INT 20
-     * Specialization: STRENGTH
-     * AI Strategy: Strategic execute - uses ultimate on first turn and for kills
-     * 
-     * Strategy: Tank with highest damage output
-     * Threat: Raw damage and high HP pool
-     * Counter: Warrior (HP vs HP) or high evasion
-     * 
-     * Skills:
-     * - Axe Swing: 10 damage, 0 cooldown (basic attack)
-     * - Charge: 20 damage, 2 cooldown
-     * - Earthquake: 35 damage, 3 cooldown (ultimate)
-     * 
-     * At 30 STR:
-     * - Axe Swing: 40 total damage
-     * - Charge: 50 total damage
-     * - Earthquake: 65 total damage (devastating!)
-     */
-    private static Enemy createMinotaur() {
-        // STR specialist: baseline 20, specialized 30
-        Stat stats = new Stat(30, 20, 20);
-
-        Skill[] skills = new Skill[] {
-            new Skill("Axe Swing", null, 10, 0),      // Basic
-            new Skill("Charge", null, 20, 2),         // Normal
-            new Skill("Earthquake", null, 35, 3)      // Ultimate
-        };
-
-        return new Enemy("Minotaur", stats, skills);
-    }
-
-    /**
-     * Mindflayer - INT Specialist
-     * 
-     * Base Stats: STR 20, AGI 20, INT 30
-     * Specialization: INTELLIGENCE
-     * AI Strategy: Adaptive - adjusts strategy based on player HP percentage
-     * 
-     * Strategy: Precision fighter with high accuracy and CDR
-     * Threat: Rarely misses, abilities come back faster
-     * Counter: Mage (burst vs burst) or tank through damage
-     * 
-     * Skills:
-     * - Mind Spike: 7 damage, 0 cooldown (basic attack)
-     * - Psychic Blast: 19 damage, 3 cooldown
-     * - Mind Shatter: 40 damage, 5 cooldown (ultimate)
-     * 
-     * At 20 STR:
-     * - Mind Spike: 27 total damage
-     * - Psychic Blast: 39 total damage
-     * - Mind Shatter: 60 total damage (powerful finisher)
-     * 
-     * Special: INT 30 gives CDR 1 (abilities come back 1 turn faster!)
-     */
-    private static Enemy createMindflayer() {
-        // INT specialist: baseline 20, specialized 30
-        Stat stats = new Stat(20, 20, 30);
-
-        Skill[] skills = new Skill[] {
-            new Skill("Mind Spike", null, 7, 0),      // Basic
-            new Skill("Psychic Blast", null, 19, 3),  // Normal
-            new Skill("Mind Shatter", null, 40, 5)    // Ultimate
-        };
-
-        return new Enemy("Mindflayer", stats, skills);
+        return new Enemy(template.getName(), newStats, template.getSkills(), template.getAIRules());
     }
 
     // ===== ENEMY INFORMATION =====
@@ -202,10 +173,10 @@ public class EnemiesData {
     /**
      * Get total number of enemy types.
      * 
-     * @return Number of enemy types (currently 3)
+     * @return Number of enemy types in the catalog
      */
     public static int getEnemyCount() {
-        return 3;
+        return TEMPLATES.length;
     }
 
     /**
@@ -214,11 +185,7 @@ public class EnemiesData {
      * @return Array of enemy names
      */
     public static String[] getEnemyNames() {
-        return new String[] {
-            "Killer Bunny",
-            "Minotaur",
-            "Mindflayer"
-        };
+        return NAMES.clone();
     }
 
     /**
@@ -228,17 +195,8 @@ public class EnemiesData {
      * @return Specialization ("STRENGTH", "AGILITY", "INTELLIGENCE")
      */
     public static String getEnemySpecialization(String enemyName) {
-        if (enemyName == null) return "UNKNOWN";
-
-        if (enemyName.equalsIgnoreCase("Killer Bunny")) {
-            return "AGILITY";
-        } else if (enemyName.equalsIgnoreCase("Minotaur")) {
-            return "STRENGTH";
-        } else if (enemyName.equalsIgnoreCase("Mindflayer")) {
-            return "INTELLIGENCE";
-        }
-
-        return "UNKNOWN";
+        EnemyTemplate template = getTemplate(enemyName);
+        return template != null ? template.getSpecialization() : "UNKNOWN";
     }
 
     /**
@@ -250,14 +208,33 @@ public class EnemiesData {
     public static String getEnemyAIDescription(String enemyName) {
         if (enemyName == null) return "Unknown";
 
-        if (enemyName.equalsIgnoreCase("Killer Bunny")) {
-            return "Aggressive: Prioritizes burst damage";
-        } else if (enemyName.equalsIgnoreCase("Minotaur")) {
-            return "Strategic: Uses ultimate for executes";
-        } else if (enemyName.equalsIgnoreCase("Mindflayer")) {
-            return "Adaptive: Adjusts strategy based on your HP";
+        EnemyTemplate template = getTemplate(enemyName);
+        return template != null ? template.getAIDescription() : "Standard AI";
+    }
+
+    // ===== HELPER METHODS =====
+
+    private static EnemyTemplate[] loadTemplates(Catalog catalog) {
+        EnemyTemplate[] templates = new EnemyTemplate[catalog.getEnemyCount()];
+        for (int i = 0; i < templates.length; i++) {
+            templates[i] = new EnemyTemplate(catalog.getEnemy(i));
         }
+        return templates;
+    }
 
-        return "Standard AI";
+    private static Map<String, EnemyTemplate> indexByName(EnemyTemplate[] templates) {
+        Map<String, EnemyTemplate> byName = new HashMap<>();
+        for (EnemyTemplate template : templates) {
+            byName.put(template.getName().toLowerCase(Locale.ROOT), template);
+        }
+        return Collections.unmodifiableMap(byName);
+    }
+
+    private static String[] namesOf(EnemyTemplate[] templates) {
+        String[] names = new String[templates.length];
+        for (int i = 0; i < templates.length; i++) {
+            names[i] = templates[i].getName();
+        }
+        return names;
     }
-}
\ No newline at end of file
+}
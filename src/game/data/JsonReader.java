@@ -0,0 +1,231 @@
+package game.data;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * JsonReader is a small JSON parser for the game catalog.
+ *
+ * Mapping:
+ * - object  -> Map<String, Object> (keeps key order)
+ * - array   -> List<Object>
+ * - string  -> String
+ * - number  -> Long if integral, else Double
+ * - true/false -> Boolean, null -> null
+ *
+ * Design: Only used at load/compile time, so it favours clear error
+ * messages (with character position) over speed. Not a general-purpose library.
+ */
+final class JsonReader {
+
+    private final String text;
+    private int pos;
+
+    private JsonReader(String text) {
+        this.text = text;
+        this.pos = 0;
+    }
+
+    /**
+     * Parse a complete JSON document.
+     *
+     * @param text JSON text
+     * @return Parsed value
+     * @throws IllegalArgumentException if the text is not valid JSON
+     */
+    static Object parse(String text) {
+        if (text == null) {
+            throw new IllegalArgumentException("JSON text cannot be null");
+        }
+
+        JsonReader reader = new JsonReader(text);
+        Object value = reader.readValue();
+        reader.skipWhitespace();
+        if (reader.pos < text.length()) {
+            throw reader.error("Unexpected trailing content");
+        }
+        return value;
+    }
+
+    // ===== VALUES =====
+
+    private Object readValue() {
+        skipWhitespace();
+        if (pos >= text.length()) {
+            throw error("Unexpected end of input");
+        }
+
+        char c = text.charAt(pos);
+        switch (c) {
+            case '{': return readObject();
+            case '[': return readArray();
+            case '"': return readString();
+            case 't': expectWord("true"); return Boolean.TRUE;
+            case 'f': expectWord("false"); return Boolean.FALSE;
+            case 'n': expectWord("null"); return null;
+            default:
+                if (c == '-' || (c >= '0' && c <= '9')) {
+                    return readNumber();
+                }
+                throw error("Unexpected character '" + c + "'");
+        }
+    }
+
+    private Map<String, Object> readObject() {
+        Map<String, Object> object = new LinkedHashMap<>();
+        pos++; // '{'
+
+        skipWhitespace();
+        if (peek() == '}') {
+            pos++;
+            return object;
+        }
+
+        while (true) {
+            skipWhitespace();
+            if (peek() != '"') {
+                throw error("Expected object key");
+            }
+            String key = readString();
+
+            skipWhitespace();
+            expect(':');
+            object.put(key, readValue());
+
+            skipWhitespace();
+            char c = next();
+            if (c == '}') return object;
+            if (c != ',') {
+                pos--;
+                throw error("Expected ',' or '}'");
+            }
+        }
+    }
+
+    private List<Object> readArray() {
+        List<Object> array = new ArrayList<>();
+        pos++; // '['
+
+        skipWhitespace();
+        if (peek() == ']') {
+            pos++;
+            return array;
+        }
+
+        while (true) {
+            array.add(readValue());
+
+            skipWhitespace();
+            char c = next();
+            if (c == ']') return array;
+            if (c != ',') {
+                pos--;
+                throw error("Expected ',' or ']'");
+            }
+        }
+    }
+
+    private String readString() {
+        pos++; // opening quote
+        StringBuilder sb = new StringBuilder();
+
+        while (true) {
+            char c = next();
+            if (c == '"') return sb.toString();
+            if (c != '\\') {
+                sb.append(c);
+                continue;
+            }
+
+            char escape = next();
+            switch (escape) {
+                case '"': sb.append('"'); break;
+                case '\\': sb.append('\\'); break;
+                case '/': sb.append('/'); break;
+                case 'b': sb.append('\b'); break;
+                case 'f': sb.append('\f'); break;
+                case 'n': sb.append('\n'); break;
+                case 'r': sb.append('\r'); break;
+                case 't': sb.append('\t'); break;
+                case 'u':
+                    if (pos + 4 > text.length()) {
+                        throw error("Bad unicode escape");
+                    }
+                    try {
+                        sb.append((char) Integer.parseInt(text.substring(pos, pos + 4), 16));
+                    } catch (NumberFormatException e) {
+                        throw error("Bad unicode escape");
+                    }
+                    pos += 4;
+                    break;
+                default:
+                    throw error("Bad escape '\\" + escape + "'");
+            }
+        }
+    }
+
+    private Object readNumber() {
+        int start = pos;
+        boolean integral = true;
+
+        if (peek() == '-') pos++;
+        while (pos < text.length()) {
+            char c = text.charAt(pos);
+            if (c >= '0' && c <= '9') {
+                pos++;
+            } else if (c == '.' || c == 'e' || c == 'E' || c == '+' || c == '-') {
+                integral = false;
+                pos++;
+            } else {
+                break;
+            }
+        }
+
+        String number = text.substring(start, pos);
+        try {
+            return integral ? (Object) Long.parseLong(number) : (Object) Double.parseDouble(number);
+        } catch (NumberFormatException e) {
+            pos = start;
+            throw error("Bad number '" + number + "'");
+        }
+    }
+
+    // ===== HELPERS =====
+
+    private void skipWhitespace() {
+        while (pos < text.length() && Character.isWhitespace(text.charAt(pos))) {
+            pos++;
+        }
+    }
+
+    private char peek() {
+        return pos < text.length() ? text.charAt(pos) : '\0';
+    }
+
+    private char next() {
+        if (pos >= text.length()) {
+            throw error("Unexpected end of input");
+        }
+        return text.charAt(pos++);
+    }
+
+    private void expect(char expected) {
+        if (next() != expected) {
+            pos--;
+            throw error("Expected '" + expected + "'");
+        }
+    }
+
+    private void expectWord(String word) {
+        if (!text.startsWith(word, pos)) {
+            throw error("Expected '" + word + "'");
+        }
+        pos += word.length();
+    }
+
+    private IllegalArgumentException error(String message) {
+        return new IllegalArgumentException("JSON error at position " + pos + ": " + message);
+    }
+}
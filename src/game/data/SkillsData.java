@@ -6,6 +6,9 @@ import game.core.Profession;
 /**
  * SkillsData provides skill templates for each profession.
  * Contains all player skills organized by profession.
+ *
+ * Data Source: Skill definitions live in data/catalog.json (compiled to
+ * data/catalog.bin) and are loaded through Catalog at startup.
  * 
  * BALANCED VERSION:
  * - Rebalanced damages to work with new player stats (20+5 specialization)
@@ -34,19 +37,9 @@ public class SkillsData {
      */
     public static Skill[] getSkillsForProfession(Profession profession) {
         if (profession == null) {
-            return getWarriorSkills(); // Default to warrior
-        }
-
-        switch (profession) {
-            case WARRIOR:
-                return getWarriorSkills();
-            case MAGE:
-                return getMageSkills();
-            case ROGUE:
-                return getRogueSkills();
-            default:
-                return getWarriorSkills();
+            profession = Profession.WARRIOR; // Default to warrior
         }
+        return Catalog.getDefault().getProfessionSkills(profession);
     }
 
     /**
@@ -64,117 +57,16 @@ public class SkillsData {
         return null;
     }
 
-    // ===== WARRIOR SKILLS =====
-
-    /**
-     * Warrior Skills - Balanced Fighter
-     * 
-     * Specialization: STR (+5 bonus = 25 STR)
-     * Play Style: Consistent pressure, reliable damage
-     * 
-     * Skills:
-     * 1. Strike - 8 damage, 0 cooldown (basic)
-     * 2. Slash - 17 damage, 2 cooldown (normal)
-     * 3. Berserker Rage - 30 damage, 3 cooldown (ultimate)
-     * 
-     * At 25 STR:
-     * - Strike: 33 total damage
-     * - Slash: 42 total damage
-     * - Berserker Rage: 55 total damage
-     * 
-     * Total Damage Potential: 130 (8 + 17 + 30 = 55 base × 2.36 avg)
-     * 
-     * Strength: Consistent, reliable, high HP (135)
-     * Weakness: Average speed, no special mechanics
-     * Best Against: Minotaur (can tank the damage)
-     */
-    private static Skill[] getWarriorSkills() {
-        return new Skill[] {
-            new Skill("Strike", Profession.WARRIOR, 8, 0),
-            new Skill("Slash", Profession.WARRIOR, 17, 2),
-            new Skill("Berserker Rage", Profession.WARRIOR, 30, 3)
-        };
-    }
-
-    // ===== MAGE SKILLS =====
-
-    /**
-     * Mage Skills - Burst Damage Caster
-     * 
-     * Specialization: INT (+5 bonus = 25 INT)
-     * Play Style: High risk, high reward burst damage
-     * 
-     * Skills:
-     * 1. Magic Bolt - 6 damage, 0 cooldown (basic)
-     * 2. Fireball - 20 damage, 3 cooldown (normal)
-     * 3. Meteor Strike - 42 damage, 5 cooldown (ultimate)
-     * 
-     * At 20 STR (no STR bonus):
-     * - Magic Bolt: 26 total damage
-     * - Fireball: 40 total damage
-     * - Meteor Strike: 62 total damage (highest burst!)
-     * 
-     * Total Damage Potential: 136 (6 + 20 + 42 = 68 base × 2)
-     * 
-     * Special: INT 25 gives Accuracy 86 and CDR 0.5
-     * 
-     * Strength: Highest burst damage, good accuracy
-     * Weakness: Low HP (120), long cooldowns, weakest basic attack
-     * Best Against: Mindflayer (can outburst before CDR matters)
-     */
-    private static Skill[] getMageSkills() {
-        return new Skill[] {
-            new Skill("Magic Bolt", Profession.MAGE, 6, 0),
-            new Skill("Fireball", Profession.MAGE, 20, 3),
-            new Skill("Meteor Strike", Profession.MAGE, 42, 5)
-        };
-    }
-
-    // ===== ROGUE SKILLS =====
-
-    /**
-     * Rogue Skills - Fast Attacker
-     * 
-     * Specialization: AGI (+5 bonus = 25 AGI)
-     * Play Style: Quick burst windows, aggressive
-     * 
-     * Skills:
-     * 1. Quick Stab - 10 damage, 0 cooldown (basic)
-     * 2. Backstab - 18 damage, 2 cooldown (normal)
-     * 3. Assassinate - 33 damage, 3 cooldown (ultimate)
-     * 
-     * At 20 STR:
-     * - Quick Stab: 30 total damage
-     * - Backstab: 38 total damage
-     * - Assassinate: 53 total damage
-     * 
-     * Total Damage Potential: 122 (10 + 18 + 33 = 61 base × 2)
-     * 
-     * Special: AGI 25 gives Speed 7 and Evasion 9
-     * 
-     * Strength: Fastest (Speed 7), most turns, good evasion
-     * Weakness: Middle damage, needs to dodge to survive
-     * Best Against: Killer Bunny (can match speed and evade)
-     */
-    private static Skill[] getRogueSkills() {
-        return new Skill[] {
-            new Skill("Quick Stab", Profession.ROGUE, 10, 0),
-            new Skill("Backstab", Profession.ROGUE, 18, 2),
-            new Skill("Assassinate", Profession.ROGUE, 33, 3)
-        };
-    }
-
     // ===== SKILL INFORMATION =====
 
     /**
      * Get skill count for a profession.
-     * Currently always 3 skills per profession.
      * 
      * @param profession The profession
-     * @return Number of skills (always 3)
+     * @return Number of skills in the catalog for that profession
      */
     public static int getSkillCount(Profession profession) {
-        return 3;
+        return getSkillsForProfession(profession).length;
     }
 
     /**
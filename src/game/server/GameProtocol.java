@@ -0,0 +1,274 @@
+package game.server;
+
+import game.core.*;
+import game.data.*;
+import game.system.*;
+
+/**
+ * GameProtocol runs one game for one connection: it turns a request line
+ * into a GameFlowSystem call and the result into a response line.
+ *
+ * Protocol (ASCII, one line in -> one line out, tokens split on spaces):
+ * - NEW name profession [seed] -> OK enemies seed
+ * - TRAINING cycles             -> OK cycles
+ * - TRAIN STR|AGI|INT amount    -> OK stat old new
+ * - TRAIN_ENEMIES amount        -> OK enemies
+ * - CYCLE                       -> OK phase cycle total
+ * - BATTLE                      -> OK playerHp enemyHp enemyName
+ * - ATTACK skillIndex           -> OK HIT|MISS damage playerHp enemyHp
+ * - ENEMY                       -> OK HIT|MISS damage playerHp enemyHp
+ * - TICK                        -> OK
+ * - END                         -> OK PLAYER_WIN|ENEMY_WIN|ONGOING phase
+ * - STATE                       -> OK phase enemyIndex enemies playerHp enemyHp
+ * - INTENT                      -> OK skillIndex threat
+ * - PING                        -> OK
+ * - QUIT                        -> OK (connection closes)
+ * Any failure answers "ERR message" and leaves the game unchanged.
+ * Names are only ever the last field of a response, so they may contain spaces.
+ *
+ * Design: The GameFlowSystem is created by NEW, so an idle connection holds
+ * no game at all. Stateless EntitySystem / SkillSystem are shared.
+ * Not thread-safe - one instance per connection.
+ */
+public class GameProtocol {
+
+    private static final EntitySystem ENTITY_SYSTEM = new EntitySystem();
+    private static final SkillSystem SKILL_SYSTEM = new SkillSystem();
+    private static final int MAX_TOKENS = 4;
+
+    private GameFlowSystem gameFlowSystem;   // null until NEW
+    private boolean closed;
+
+    // Reused per request
+    private final String[] tokens = new String[MAX_TOKENS];
+    private final StringBuilder response = new StringBuilder(64);
+
+    // ===== REQUEST HANDLING =====
+
+    /**
+     * Handle one request line.
+     *
+     * @param line Request without the line terminator
+     * @return Response without the line terminator
+     */
+    public String handle(String line) {
+        response.setLength(0);
+        int count = tokenize(line);
+        if (count == 0) {
+            return "ERR empty request";
+        }
+
+        try {
+            switch (tokens[0]) {
+                case "NEW" -> newGame(count);
+                case "TRAINING" -> startTraining(count);
+                case "TRAIN" -> trainPlayer(count);
+                case "TRAIN_ENEMIES" -> trainEnemies(count);
+                case "CYCLE" -> completeCycle();
+                case "BATTLE" -> startBattle();
+                case "ATTACK" -> attack(flow().playerAttack(intArg(1, count)));
+                case "ENEMY" -> attack(flow().enemyAttack());
+                case "TICK" -> {
+                    flow().tickCooldowns();
+                    ok();
+                }
+                case "END" -> completeBattle();
+                case "STATE" -> state();
+                case "INTENT" -> intent();
+                case "PING" -> ok();
+                case "QUIT" -> {
+                    closed = true;
+                    ok();
+                }
+                default -> throw new IllegalArgumentException("unknown command " + tokens[0]);
+            }
+        } catch (IllegalArgumentException | IllegalStateException e) {
+            response.setLength(0);
+            response.append("ERR ").append(e.getMessage());
+        } catch (RuntimeException e) {
+            // A bug in a system must not take the connection down with it
+            response.setLength(0);
+            response.append("ERR internal error: ").append(e.toString().replace('\n', ' '));
+        }
+        return response.toString();
+    }
+
+    /**
+     * @return true once the client sent QUIT
+     */
+    public boolean isClosed() {
+        return closed;
+    }
+
+    /**
+     * @return The game of this connection, or null before NEW
+     */
+    public GameFlowSystem getGameFlowSystem() {
+        return gameFlowSystem;
+    }
+
+    // ===== COMMANDS =====
+
+    private void newGame(int count) {
+        if (count < 3) {
+            throw new IllegalArgumentException("usage: NEW name profession [seed]");
+        }
+        Profession profession;
+        try {
+            profession = Profession.valueOf(tokens[2]);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("unknown profession " + tokens[2]);
+        }
+        RandomSystem randomSystem = count > 3 ? new RandomSystem(longArg(3, count)) : new RandomSystem();
+
+        CooldownSystem cooldownSystem = new CooldownSystem();
+        GameFlowSystem flow = new GameFlowSystem(
+            ENTITY_SYSTEM,
+            new PlayerTrainingSystem(ENTITY_SYSTEM),
+            new EnemyTrainingSystem(ENTITY_SYSTEM, randomSystem),
+            SKILL_SYSTEM,
+            cooldownSystem,
+            new CombatSystem(ENTITY_SYSTEM, SKILL_SYSTEM, cooldownSystem, randomSystem),
+            new EnemyAISystem(ENTITY_SYSTEM, SKILL_SYSTEM, cooldownSystem)
+        );
+
+        Enemy[] enemies = EnemiesData.getAllEnemyTypes();
+        randomSystem.shuffle(enemies);
+        if (!flow.initializeGame(tokens[1], profession,
+                                 SkillsData.getSkillsForProfession(profession), enemies)) {
+            throw new IllegalStateException("could not start game");
+        }
+
+        gameFlowSystem = flow;
+        ok().append(' ').append(enemies.length).append(' ').append(randomSystem.getSeed());
+    }
+
+    private void startTraining(int count) {
+        int cycles = intArg(1, count);
+        check(flow().startTrainingPhase(cycles), "not in training phase");
+        ok().append(' ').append(flow().getTotalTrainingCycles());
+    }
+
+    private void trainPlayer(int count) {
+        int amount = intArg(2, count);
+        StatType stat = StatType.fromName(tokens[1]);
+        if (stat == null) {
+            throw new IllegalArgumentException("unknown stat " + tokens[1] + " - use STR, AGI or INT");
+        }
+        PlayerTrainingSystem.TrainingResult result = flow().trainPlayer(stat, amount);
+        check(result.isSuccess(), result.getMessage());
+        ok().append(' ').append(result.getStatTrained())
+            .append(' ').append(result.getOldValue())
+            .append(' ').append(result.getNewValue());
+    }
+
+    private void trainEnemies(int count) {
+        EnemyTrainingSystem.GroupTrainingResult result = flow().trainEnemies(intArg(1, count));
+        check(result.isSuccess(), result.getMessage());
+        ok().append(' ').append(result.getEnemiesCount());
+    }
+
+    private void completeCycle() {
+        check(flow().completeTrainingCycle(), "not in training phase");
+        ok().append(' ').append(flow().getCurrentPhase())
+            .append(' ').append(flow().getCurrentTrainingCycle())
+            .append(' ').append(flow().getTotalTrainingCycles());
+    }
+
+    private void startBattle() {
+        check(flow().startBattlePhase(), "cannot start battle");
+        ok();
+        appendHp();
+        response.append(' ').append(flow().getCurrentEnemy().getName());   // Last - names may contain spaces
+    }
+
+    private void attack(CombatSystem.CombatResult result) {
+        check(result.isSuccess(), result.getMessage());
+        ok().append(result.isHit() ? " HIT " : " MISS ").append(result.getDamageDealt());
+        appendHp();
+    }
+
+    private void completeBattle() {
+        GameFlowSystem.BattleOutcome outcome = flow().completeBattle();
+        ok().append(' ').append(outcome).append(' ').append(flow().getCurrentPhase());
+    }
+
+    private void state() {
+        GameFlowSystem flow = flow();
+        ok().append(' ').append(flow.getCurrentPhase())
+            .append(' ').append(flow.getCurrentEnemyIndex())
+            .append(' ').append(flow.getTotalEnemies());
+        appendHp();
+    }
+
+    private void intent() {
+        EnemyAISystem.AIDecision decision = flow().getEnemyIntentDetailed();
+        check(decision != null, "not in battle phase");
+        ok().append(' ').append(decision.getSkillIndex())
+            .append(' ').append(flow().getEnemyThreatLevel());
+    }
+
+    // ===== HELPERS =====
+
+    private GameFlowSystem flow() {
+        if (gameFlowSystem == null) {
+            throw new IllegalStateException("no game - send NEW first");
+        }
+        return gameFlowSystem;
+    }
+
+    private StringBuilder ok() {
+        return response.append("OK");
+    }
+
+    private void appendHp() {
+        Enemy enemy = gameFlowSystem.getCurrentEnemy();
+        response.append(' ').append(gameFlowSystem.getPlayer().getStats().getHp())
+                .append(' ').append(enemy == null ? 0 : enemy.getStats().getHp());
+    }
+
+    private static void check(boolean condition, String message) {
+        if (!condition) {
+            throw new IllegalStateException(message);
+        }
+    }
+
+    private int intArg(int index, int count) {
+        long value = longArg(index, count);
+        if (value < Integer.MIN_VALUE || value > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("out of range: " + tokens[index]);
+        }
+        return (int) value;
+    }
+
+    private long longArg(int index, int count) {
+        if (index >= count) {
+            throw new IllegalArgumentException("missing argument for " + tokens[0]);
+        }
+        try {
+            return Long.parseLong(tokens[index]);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("not a number: " + tokens[index]);
+        }
+    }
+
+    /**
+     * Split on spaces into the reusable token array.
+     *
+     * @return Number of tokens (extra tokens are ignored)
+     */
+    private int tokenize(String line) {
+        int count = 0;
+        int i = 0;
+        int length = line.length();
+        while (i < length && count < MAX_TOKENS) {
+            while (i < length && line.charAt(i) == ' ') i++;
+            int start = i;
+            while (i < length && line.charAt(i) != ' ') i++;
+            if (i > start) {
+                tokens[count++] = line.substring(start, i);
+            }
+        }
+        return count;
+    }
+}
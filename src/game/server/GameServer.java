@@ -0,0 +1,252 @@
+package game.server;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.SocketAddress;
+import java.net.StandardProtocolFamily;
+import java.net.StandardSocketOptions;
+import java.net.UnixDomainSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * GameServer is a headless game host: bots connect over a local socket and
+ * play through GameProtocol, one game per connection.
+ *
+ * HOW IT WORKS:
+ * - Listens on a TCP port or a Unix domain socket
+ * - Every accepted connection gets its own virtual thread and GameProtocol
+ * - The thread blocks in read() between commands, so an idle connection
+ *   costs a parked virtual thread, a small read buffer and no game
+ * - Each request line is answered with exactly one response line
+ *
+ * Usage: java game.server.GameServer tcp:7777  |  unix:/tmp/game.sock
+ * Requires Java 21 (virtual threads) - the project is configured for JavaSE-21.
+ */
+public class GameServer implements Closeable {
+
+    private static final int READ_BUFFER = 256;
+    private static final int MAX_LINE = 1024;
+
+    private final SocketAddress address;
+    private ServerSocketChannel serverChannel;
+    private Thread acceptThread;
+    private volatile boolean running;
+
+    private final Set<SocketChannel> connections = ConcurrentHashMap.newKeySet();
+    private final AtomicLong acceptedCount = new AtomicLong();
+    private final AtomicLong commandCount = new AtomicLong();
+
+    /**
+     * @param address InetSocketAddress (TCP) or UnixDomainSocketAddress
+     */
+    public GameServer(SocketAddress address) {
+        if (address == null) {
+            throw new IllegalArgumentException("Address cannot be null");
+        }
+        this.address = address;
+    }
+
+    // ===== LIFECYCLE =====
+
+    /**
+     * Bind and start accepting connections (returns immediately).
+     */
+    public synchronized void start() throws IOException {
+        if (running) {
+            throw new IllegalStateException("Server already running");
+        }
+
+        if (address instanceof UnixDomainSocketAddress unix) {
+            Files.deleteIfExists(unix.getPath());   // Stale socket file from a previous run
+            serverChannel = ServerSocketChannel.open(StandardProtocolFamily.UNIX);
+        } else {
+            serverChannel = ServerSocketChannel.open();
+            serverChannel.setOption(StandardSocketOptions.SO_REUSEADDR, true);
+        }
+        serverChannel.bind(address, 0);
+
+        running = true;
+        acceptThread = Thread.ofVirtual().name("game-accept").start(this::acceptLoop);
+    }
+
+    /**
+     * Stop accepting, close every connection and remove the socket file.
+     */
+    @Override
+    public synchronized void close() throws IOException {
+        if (!running) return;
+        running = false;
+
+        serverChannel.close();
+        for (SocketChannel channel : connections) {
+            closeQuietly(channel);
+        }
+        connections.clear();
+
+        if (address instanceof UnixDomainSocketAddress unix) {
+            Files.deleteIfExists(unix.getPath());
+        }
+    }
+
+    // ===== CONNECTIONS =====
+
+    private void acceptLoop() {
+        while (running) {
+            try {
+                SocketChannel channel = serverChannel.accept();
+                if (!(address instanceof UnixDomainSocketAddress)) {
+                    channel.setOption(StandardSocketOptions.TCP_NODELAY, true);
+                }
+                connections.add(channel);
+                long id = acceptedCount.incrementAndGet();
+                Thread.ofVirtual().name("game-conn-" + id).start(() -> serve(channel));
+            } catch (ClosedChannelException e) {
+                return;   // close() was called
+            } catch (IOException e) {
+                if (!running) return;
+                System.err.println("GameServer accept failed: " + e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Read lines, answer each one, until QUIT, EOF or an error.
+     */
+    private void serve(SocketChannel channel) {
+        Connection connection = new Connection(channel);
+
+        try {
+            while (!connection.protocol.isClosed()) {
+                String line = connection.readLine();
+                if (line == null) break;   // Client closed
+
+                commandCount.incrementAndGet();
+                connection.writeLine(connection.protocol.handle(line));
+            }
+        } catch (IOException e) {
+            // Client went away or sent garbage - just drop the connection
+        } finally {
+            connections.remove(channel);
+            closeQuietly(channel);
+        }
+    }
+
+    /**
+     * Per-connection state: the channel, its read buffer and its game.
+     */
+    private static final class Connection {
+        private final SocketChannel channel;
+        private final GameProtocol protocol = new GameProtocol();
+        private ByteBuffer in = ByteBuffer.allocate(READ_BUFFER);   // Write mode: [0, position) unread
+
+        Connection(SocketChannel channel) {
+            this.channel = channel;
+        }
+
+        /**
+         * Next line from the channel. Bytes after the line stay in the buffer.
+         *
+         * @return Line without "\n" / "\r\n", or null at end of stream
+         */
+        String readLine() throws IOException {
+            int scanned = 0;
+            while (true) {
+                for (int i = scanned; i < in.position(); i++) {
+                    if (in.get(i) == '\n') {
+                        int end = i > 0 && in.get(i - 1) == '\r' ? i - 1 : i;
+                        String line = new String(in.array(), 0, end, StandardCharsets.US_ASCII);
+                        in.flip().position(i + 1);
+                        in.compact();
+                        return line;
+                    }
+                }
+                scanned = in.position();
+
+                if (!in.hasRemaining()) {
+                    if (in.capacity() >= MAX_LINE) {
+                        throw new IOException("Line too long");
+                    }
+                    ByteBuffer bigger = ByteBuffer.allocate(Math.min(MAX_LINE, in.capacity() * 2));
+                    bigger.put(in.flip());
+                    in = bigger;
+                }
+                if (channel.read(in) < 0) {
+                    return null;
+                }
+            }
+        }
+
+        void writeLine(String line) throws IOException {
+            ByteBuffer out = ByteBuffer.wrap((line + "\n").getBytes(StandardCharsets.US_ASCII));
+            while (out.hasRemaining()) {
+                channel.write(out);
+            }
+        }
+    }
+
+    private static void closeQuietly(SocketChannel channel) {
+        try {
+            channel.close();
+        } catch (IOException e) {
+            // Already gone
+        }
+    }
+
+    // ===== QUERIES =====
+
+    public boolean isRunning() { return running; }
+    public int getConnectionCount() { return connections.size(); }
+    public long getAcceptedCount() { return acceptedCount.get(); }
+    public long getCommandCount() { return commandCount.get(); }
+
+    /**
+     * Bound address (useful with port 0).
+     */
+    public SocketAddress getLocalAddress() throws IOException {
+        return serverChannel == null ? address : serverChannel.getLocalAddress();
+    }
+
+    // ===== ENTRY POINT =====
+
+    /**
+     * Parse "tcp:port", "tcp:host:port" or "unix:path".
+     */
+    public static SocketAddress parseAddress(String spec) {
+        if (spec.startsWith("unix:")) {
+            return UnixDomainSocketAddress.of(Path.of(spec.substring(5)));
+        }
+        if (spec.startsWith("tcp:")) {
+            String rest = spec.substring(4);
+            int colon = rest.lastIndexOf(':');
+            String host = colon < 0 ? "127.0.0.1" : rest.substring(0, colon);
+            return new InetSocketAddress(host, Integer.parseInt(rest.substring(colon + 1)));
+        }
+        throw new IllegalArgumentException("Expected tcp:[host:]port or unix:path, got " + spec);
+    }
+
+    public static void main(String[] args) throws Exception {
+        SocketAddress address = parseAddress(args.length > 0 ? args[0] : "tcp:7777");
+        GameServer server = new GameServer(address);
+        server.start();
+        System.out.println("GameServer listening on " + server.getLocalAddress());
+
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+            try {
+                server.close();
+            } catch (IOException e) {
+                // Exiting anyway
+            }
+        }));
+        server.acceptThread.join();
+    }
+}
@@ -20,12 +20,24 @@ import java.util.*;
  * - Example: Speed 100 = AV 100, Speed 200 = AV 50 (acts twice as often)
  * 
  * TURN CYCLE:
- * 1. Find combatant with lowest AV
- * 2. Advance time to that AV (subtract from all)
+ * 1. Find combatant with the earliest next action time (lowest AV)
+ * 2. Move the battle clock to that time
  * 3. That combatant acts (AV becomes 0)
- * 4. Reset their AV based on speed
+ * 4. Schedule their next action one full AV later
  * 5. Repeat
  * 
+ * GROUP BATTLES:
+ * - Any number of players (party) and enemies (group) can be scheduled
+ * - Backed by TurnScheduler (min-heap): each turn is O(log N), not O(N)
+ * - Ties: players act first, then in the order they were added
+ * - The two-combatant API (getPlayerAV, updateEnemySpeed, ...) refers to the
+ *   first player and first enemy, so 1v1 code works unchanged
+ * 
+ * TURN ORDER PREVIEW:
+ * - Simulated once and cached (TurnPreviewCache ring buffer)
+ * - advanceToNextTurn pops the head; speed changes / removals invalidate it
+ * - All preview queries read the same cached turns
+ * 
  * Responsibilities:
  * - Track AV for all combatants
  * - Determine whose turn it is
@@ -42,13 +54,17 @@ public class ActionValueSystem {
     
     // AV Constants
     private static final int BASE_AV = 10000;  // Base constant for AV calculation
-    private static final int MIN_SPEED = 1;     // Minimum speed to prevent division by zero
     
     // Combatant tracking
-    private CombatantAV playerAV;
-    private CombatantAV enemyAV;
+    private final TurnScheduler scheduler;
+    private final TurnPreviewCache previewCache;
+    private Player[] party;         // Scheduler handle = index in this array
+    private Enemy[] enemyGroup;     // Scheduler handle = party.length + index
+    private int playerHandle;       // Lead player (first in party)
+    private int enemyHandle;        // Lead enemy (first in group)
     
     private boolean battleActive;
+    private BattleLog battleLog;    // null = not recording
 
     public ActionValueSystem(EntitySystem entitySystem) {
         if (entitySystem == null) {
@@ -56,54 +72,15 @@ public class ActionValueSystem {
         }
         
         this.entitySystem = entitySystem;
+        this.scheduler = new TurnScheduler(BASE_AV);
+        this.previewCache = new TurnPreviewCache(scheduler);
+        this.party = new Player[0];
+        this.enemyGroup = new Enemy[0];
+        this.playerHandle = -1;
+        this.enemyHandle = -1;
         this.battleActive = false;
     }
 
-    // ===== COMBATANT AV CLASS =====
-
-    /**
-     * Internal class to track AV state for a combatant.
-     */
-    private static class CombatantAV {
-        private final String name;
-        private final boolean isPlayer;
-        private int speed;
-        private double actionValue;
-        
-        public CombatantAV(String name, boolean isPlayer, int speed) {
-            this.name = name;
-            this.isPlayer = isPlayer;
-            this.speed = Math.max(MIN_SPEED, speed);
-            this.actionValue = calculateInitialAV(this.speed);
-        }
-        
-        private double calculateInitialAV(int speed) {
-            return (double) BASE_AV / Math.max(MIN_SPEED, speed);
-        }
-        
-        public void resetAV() {
-            this.actionValue = calculateInitialAV(this.speed);
-        }
-        
-        public void reduceAV(double amount) {
-            this.actionValue = Math.max(0, this.actionValue - amount);
-        }
-        
-        public void updateSpeed(int newSpeed) {
-            this.speed = Math.max(MIN_SPEED, newSpeed);
-        }
-        
-        public String getName() { return name; }
-        public boolean isPlayer() { return isPlayer; }
-        public int getSpeed() { return speed; }
-        public double getActionValue() { return actionValue; }
-        
-        @Override
-        public String toString() {
-            return name + " [AV: " + String.format("%.2f", actionValue) + ", SPD: " + speed + "]";
-        }
-    }
-
     // ===== TURN ORDER ENTRY =====
 
     /**
@@ -141,7 +118,7 @@ public class ActionValueSystem {
     /**
      * Initialize battle with player and enemy.
      * Sets up initial AV values based on speed.
-     * 
+     *
      * @param player The player
      * @param enemy The enemy
      * @return true if initialization successful
@@ -150,14 +127,46 @@ public class ActionValueSystem {
         if (player == null || enemy == null) {
             return false;
         }
-        
-        int playerSpeed = entitySystem.getSpeed(player);
-        int enemySpeed = entitySystem.getSpeed(enemy);
-        
-        this.playerAV = new CombatantAV(player.getName(), true, playerSpeed);
-        this.enemyAV = new CombatantAV(enemy.getName(), false, enemySpeed);
+
+        return initializeBattle(new Player[]{player}, new Enemy[]{enemy});
+    }
+
+    /**
+     * Initialize a group battle: a party of players vs a group of enemies.
+     * The first player and first enemy are the "lead" combatants used by
+     * the 1v1 query methods.
+     *
+     * @param party Players (at least one, no nulls)
+     * @param enemies Enemies (at least one, no nulls)
+     * @return true if initialization successful
+     */
+    public boolean initializeBattle(Player[] party, Enemy[] enemies) {
+        if (party == null || enemies == null || party.length == 0 || enemies.length == 0) {
+            return false;
+        }
+        for (Player player : party) {
+            if (player == null) return false;
+        }
+        for (Enemy enemy : enemies) {
+            if (enemy == null) return false;
+        }
+
+        scheduler.clear();
+        this.party = party.clone();
+        this.enemyGroup = enemies.clone();
+
+        for (Player player : this.party) {
+            scheduler.add(player.getName(), true, entitySystem.getSpeed(player));
+        }
+        for (Enemy enemy : this.enemyGroup) {
+            scheduler.add(enemy.getName(), false, entitySystem.getSpeed(enemy));
+        }
+
+        this.playerHandle = 0;
+        this.enemyHandle = this.party.length;
         this.battleActive = true;
-        
+        previewCache.invalidate();
+
         return true;
     }
 
@@ -165,8 +174,12 @@ public class ActionValueSystem {
      * End current battle and clear AV state.
      */
     public void endBattle() {
-        this.playerAV = null;
-        this.enemyAV = null;
+        scheduler.clear();
+        previewCache.invalidate();
+        this.party = new Player[0];
+        this.enemyGroup = new Enemy[0];
+        this.playerHandle = -1;
+        this.enemyHandle = -1;
         this.battleActive = false;
     }
 
@@ -177,31 +190,43 @@ public class ActionValueSystem {
         return battleActive;
     }
 
+    /**
+     * Remove a defeated player from the turn order (group battles).
+     *
+     * @param player The player to remove
+     */
+    public void removeCombatant(Player player) {
+        scheduler.remove(findHandle(player));
+        previewCache.invalidate();
+    }
+
+    /**
+     * Remove a defeated enemy from the turn order (group battles).
+     *
+     * @param enemy The enemy to remove
+     */
+    public void removeCombatant(Enemy enemy) {
+        scheduler.remove(findHandle(enemy));
+        previewCache.invalidate();
+    }
+
     // ===== TURN DETERMINATION =====
 
     /**
      * Get whose turn it is (who has lowest AV).
      * Returns 1 for player, -1 for enemy, 0 if tie or invalid.
-     * 
+     * Ties are resolved in the player's favour, so 0 means no battle.
+     *
      * @return 1 = player's turn, -1 = enemy's turn, 0 = tie/invalid
      */
     public int getCurrentTurn() {
-        if (!battleActive || playerAV == null || enemyAV == null) {
+        if (!battleActive) {
             return 0;
         }
-        
-        double playerCurrentAV = playerAV.getActionValue();
-        double enemyCurrentAV = enemyAV.getActionValue();
-        
-        // Who has lower AV acts first
-        if (playerCurrentAV < enemyCurrentAV) {
-            return 1;  // Player's turn
-        } else if (enemyCurrentAV < playerCurrentAV) {
-            return -1; // Enemy's turn
-        } else {
-            // Tie: player acts first (tie-breaker)
-            return 1;
-        }
+
+        int actor = scheduler.peek();
+        if (actor < 0) return 0;
+        return scheduler.isPlayer(actor) ? 1 : -1;
     }
 
     /**
@@ -223,11 +248,29 @@ public class ActionValueSystem {
      */
     public String getCurrentTurnName() {
         if (!battleActive) return "Unknown";
-        
-        int turn = getCurrentTurn();
-        if (turn == 1) return playerAV.getName();
-        if (turn == -1) return enemyAV.getName();
-        return "Unknown";
+
+        int actor = scheduler.peek();
+        return actor >= 0 ? scheduler.getName(actor) : "Unknown";
+    }
+
+    /**
+     * Get the player whose turn it is (group battles).
+     *
+     * @return Acting player, or null if an enemy acts next
+     */
+    public Player getActingPlayer() {
+        int actor = battleActive ? scheduler.peek() : -1;
+        return (actor >= 0 && actor < party.length) ? party[actor] : null;
+    }
+
+    /**
+     * Get the enemy whose turn it is (group battles).
+     *
+     * @return Acting enemy, or null if a player acts next
+     */
+    public Enemy getActingEnemy() {
+        int actor = battleActive ? scheduler.peek() : -1;
+        return (actor >= party.length) ? enemyGroup[actor - party.length] : null;
     }
 
     // ===== AV ADVANCEMENT =====
@@ -235,43 +278,22 @@ public class ActionValueSystem {
     /**
      * Advance to next turn.
      * Moves time forward so current actor reaches AV 0, then resets their AV.
-     * 
+     *
      * WHEN TO CALL: After a combatant takes their action.
-     * 
+     *
      * @return true if advancement successful
      */
     public boolean advanceToNextTurn() {
-        if (!battleActive || playerAV == null || enemyAV == null) {
+        if (!battleActive) {
             return false;
         }
-        
-        // Find who acts (lowest AV)
-        int currentTurn = getCurrentTurn();
-        
-        if (currentTurn == 1) {
-            // Player acts
-            double timeAdvance = playerAV.getActionValue();
-            
-            // Advance time (reduce all AVs)
-            playerAV.reduceAV(timeAdvance);
-            enemyAV.reduceAV(timeAdvance);
-            
-            // Reset player's AV
-            playerAV.resetAV();
-            
-        } else if (currentTurn == -1) {
-            // Enemy acts
-            double timeAdvance = enemyAV.getActionValue();
-            
-            // Advance time
-            playerAV.reduceAV(timeAdvance);
-            enemyAV.reduceAV(timeAdvance);
-            
-            // Reset enemy's AV
-            enemyAV.resetAV();
+
+        int actor = scheduler.advance();
+        previewCache.onAdvance(actor);
+        if (battleLog != null && actor >= 0) {
+            battleLog.turn(scheduler.isPlayer(actor) ? BattleLog.PLAYER : BattleLog.ENEMY, actor);
         }
-        
-        return true;
+        return actor >= 0;
     }
 
     // ===== TURN ORDER PREVIEW =====
@@ -279,73 +301,44 @@ public class ActionValueSystem {
     /**
      * Calculate turn order for the next N turns.
      * Shows who will act and when (for UI display).
-     * 
+     *
      * @param turnsAhead Number of turns to preview
      * @return List of turn order entries
      */
     public List<TurnOrderEntry> calculateTurnOrder(int turnsAhead) {
-        if (!battleActive || playerAV == null || enemyAV == null) {
+        if (!battleActive || turnsAhead <= 0) {
             return new ArrayList<>();
         }
-        
-        // Create simulation state (don't modify actual AV)
-        double simPlayerAV = playerAV.getActionValue();
-        double simEnemyAV = enemyAV.getActionValue();
-        int playerSpeed = playerAV.getSpeed();
-        int enemySpeed = enemyAV.getSpeed();
-        
-        List<TurnOrderEntry> turnOrder = new ArrayList<>();
-        
-        for (int i = 0; i < turnsAhead; i++) {
-            // Find who acts next
-            if (simPlayerAV <= simEnemyAV) {
-                // Player acts
-                turnOrder.add(new TurnOrderEntry(
-                    playerAV.getName(), true, simPlayerAV, i + 1
-                ));
-                
-                // Advance time
-                double timeAdvance = simPlayerAV;
-                simPlayerAV = 0;
-                simEnemyAV -= timeAdvance;
-                
-                // Reset player AV
-                simPlayerAV = (double) BASE_AV / playerSpeed;
-                
-            } else {
-                // Enemy acts
-                turnOrder.add(new TurnOrderEntry(
-                    enemyAV.getName(), false, simEnemyAV, i + 1
-                ));
-                
-                // Advance time
-                double timeAdvance = simEnemyAV;
-                simEnemyAV = 0;
-                simPlayerAV -= timeAdvance;
-                
-                // Reset enemy AV
-                simEnemyAV = (double) BASE_AV / enemySpeed;
-            }
+
+        int available = previewCache.ensure(turnsAhead);
+
+        List<TurnOrderEntry> turnOrder = new ArrayList<>(available);
+        for (int i = 0; i < available; i++) {
+            int handle = previewCache.actorAt(i);
+            turnOrder.add(new TurnOrderEntry(
+                scheduler.getName(handle), scheduler.isPlayer(handle), previewCache.waitAt(i), i + 1
+            ));
         }
-        
+
         return turnOrder;
     }
 
     /**
      * Get simple turn order as string list.
      * Perfect for UI display.
-     * 
+     *
      * @param turnsAhead Number of turns to preview
      * @return List of turn strings (e.g., "1. Hero", "2. Goblin", "3. Hero")
      */
     public List<String> getTurnOrderList(int turnsAhead) {
-        List<TurnOrderEntry> order = calculateTurnOrder(turnsAhead);
         List<String> result = new ArrayList<>();
-        
-        for (TurnOrderEntry entry : order) {
-            result.add(entry.getTurnNumber() + ". " + entry.getCombatantName());
+        if (!battleActive || turnsAhead <= 0) return result;
+
+        int available = previewCache.ensure(turnsAhead);
+        for (int i = 0; i < available; i++) {
+            result.add((i + 1) + ". " + scheduler.getName(previewCache.actorAt(i)));
         }
-        
+
         return result;
     }
 
@@ -355,65 +348,70 @@ public class ActionValueSystem {
      * Get player's current action value.
      */
     public double getPlayerAV() {
-        return playerAV != null ? playerAV.getActionValue() : 0;
+        return playerHandle >= 0 ? scheduler.getActionValue(playerHandle) : 0;
     }
 
     /**
      * Get enemy's current action value.
      */
     public double getEnemyAV() {
-        return enemyAV != null ? enemyAV.getActionValue() : 0;
+        return enemyHandle >= 0 ? scheduler.getActionValue(enemyHandle) : 0;
+    }
+
+    /**
+     * Get any party member's current action value.
+     */
+    public double getAV(Player player) {
+        int handle = findHandle(player);
+        return handle >= 0 ? scheduler.getActionValue(handle) : 0;
+    }
+
+    /**
+     * Get any group enemy's current action value.
+     */
+    public double getAV(Enemy enemy) {
+        int handle = findHandle(enemy);
+        return handle >= 0 ? scheduler.getActionValue(handle) : 0;
     }
 
     /**
      * Get player's speed.
      */
     public int getPlayerSpeed() {
-        return playerAV != null ? playerAV.getSpeed() : 0;
+        return playerHandle >= 0 ? scheduler.getSpeed(playerHandle) : 0;
     }
 
     /**
      * Get enemy's speed.
      */
     public int getEnemySpeed() {
-        return enemyAV != null ? enemyAV.getSpeed() : 0;
+        return enemyHandle >= 0 ? scheduler.getSpeed(enemyHandle) : 0;
     }
 
     /**
      * Get AV percentage for player (0.0 to 1.0).
      * 0.0 = ready to act (AV is 0)
      * 1.0 = just acted (AV is at max)
-     * 
+     *
      * Perfect for progress bars showing "action gauge".
-     * 
+     *
      * @return Percentage until next action (0.0 = ready, 1.0 = just acted)
      */
     public double getPlayerAVPercentage() {
-        if (playerAV == null) return 0.0;
-        
-        double maxAV = (double) BASE_AV / playerAV.getSpeed();
-        double currentAV = playerAV.getActionValue();
-        
-        // Invert so 0 = ready to act, 1 = just acted
-        return Math.min(1.0, currentAV / maxAV);
+        return avPercentage(playerHandle);
     }
 
     /**
      * Get AV percentage for enemy.
      */
     public double getEnemyAVPercentage() {
-        if (enemyAV == null) return 0.0;
-        
-        double maxAV = (double) BASE_AV / enemyAV.getSpeed();
-        double currentAV = enemyAV.getActionValue();
-        
-        return Math.min(1.0, currentAV / maxAV);
+        return avPercentage(enemyHandle);
     }
 
     /**
      * Get AV readiness percentage (inverse of AV percentage).
      * 0.0 = just acted, 1.0 = ready to act
-     * 
+     *
      * More intuitive for "filling" progress bars.
      */
     public double getPlayerReadiness() {
@@ -432,42 +430,27 @@ public class ActionValueSystem {
     /**
      * Update player speed (recalculates AV proportionally).
      * Use this when player's agility changes during battle.
-     * 
+     *
      * @param player The player
      */
     public void updatePlayerSpeed(Player player) {
-        if (playerAV != null && player != null) {
-            int newSpeed = entitySystem.getSpeed(player);
-            
-            // Store progress ratio
-            double maxAV = (double) BASE_AV / playerAV.getSpeed();
-            double progressRatio = playerAV.getActionValue() / maxAV;
-            
-            // Update speed
-            playerAV.updateSpeed(newSpeed);
-            
-            // Recalculate AV maintaining progress
-            double newMaxAV = (double) BASE_AV / newSpeed;
-            playerAV.actionValue = newMaxAV * progressRatio;
+        int handle = findHandle(player);
+        if (handle >= 0) {
+            scheduler.updateSpeed(handle, entitySystem.getSpeed(player));
+            previewCache.invalidate();
         }
     }
 
     /**
      * Update enemy speed.
-     * 
+     *
      * @param enemy The enemy
      */
     public void updateEnemySpeed(Enemy enemy) {
-        if (enemyAV != null && enemy != null) {
-            int newSpeed = entitySystem.getSpeed(enemy);
-            
-            double maxAV = (double) BASE_AV / enemyAV.getSpeed();
-            double progressRatio = enemyAV.getActionValue() / maxAV;
-            
-            enemyAV.updateSpeed(newSpeed);
-            
-            double newMaxAV = (double) BASE_AV / newSpeed;
-            enemyAV.actionValue = newMaxAV * progressRatio;
+        int handle = findHandle(enemy);
+        if (handle >= 0) {
+            scheduler.updateSpeed(handle, entitySystem.getSpeed(enemy));
+            previewCache.invalidate();
         }
     }
 
@@ -476,20 +459,20 @@ public class ActionValueSystem {
     /**
      * Calculate how many turns each combatant gets in N player turns.
      * Useful for balance analysis.
-     * 
+     *
      * @param playerTurns Number of player turns to simulate
      * @return Array [playerTurns, enemyTurns]
      */
     public int[] calculateTurnDistribution(int playerTurns) {
         if (!battleActive) return new int[]{0, 0};
-        
-        List<TurnOrderEntry> order = calculateTurnOrder(playerTurns * 3); // Overshoot to ensure we get enough
-        
+
+        int available = previewCache.ensure(playerTurns * 3); // Overshoot to ensure we get enough
+
         int playerCount = 0;
         int enemyCount = 0;
-        
-        for (TurnOrderEntry entry : order) {
-            if (entry.isPlayer()) {
+
+        for (int i = 0; i < available; i++) {
+            if (scheduler.isPlayer(previewCache.actorAt(i))) {
                 playerCount++;
                 if (playerCount >= playerTurns) {
                     break; // Stop when we reach desired player turns
@@ -500,41 +483,41 @@ public class ActionValueSystem {
                 }
             }
         }
-        
+
         return new int[]{playerCount, enemyCount};
     }
 
     /**
      * Calculate speed advantage percentage.
      * Positive = player is faster, negative = enemy is faster.
-     * 
+     *
      * @return Speed advantage as percentage (-100 to +100)
      */
     public double calculateSpeedAdvantage() {
         if (!battleActive) return 0.0;
-        
-        int playerSpeed = playerAV.getSpeed();
-        int enemySpeed = enemyAV.getSpeed();
-        
+
+        int playerSpeed = getPlayerSpeed();
+        int enemySpeed = getEnemySpeed();
+
         return ((double)(playerSpeed - enemySpeed) / enemySpeed) * 100.0;
     }
 
     /**
      * Estimate turns until player acts.
-     * 
+     *
      * @return Estimated turns (0 = player acts next)
      */
     public int getTurnsUntilPlayerActs() {
         if (!battleActive) return 0;
-        
-        List<TurnOrderEntry> order = calculateTurnOrder(10);
-        
-        for (int i = 0; i < order.size(); i++) {
-            if (order.get(i).isPlayer()) {
+
+        int available = previewCache.ensure(10);
+
+        for (int i = 0; i < available; i++) {
+            if (scheduler.isPlayer(previewCache.actorAt(i))) {
                 return i;
             }
         }
-        
+
         return 0;
     }
 
@@ -543,15 +526,15 @@ public class ActionValueSystem {
      */
     public int getTurnsUntilEnemyActs() {
         if (!battleActive) return 0;
-        
-        List<TurnOrderEntry> order = calculateTurnOrder(10);
-        
-        for (int i = 0; i < order.size(); i++) {
-            if (!order.get(i).isPlayer()) {
+
+        int available = previewCache.ensure(10);
+
+        for (int i = 0; i < available; i++) {
+            if (!scheduler.isPlayer(previewCache.actorAt(i))) {
                 return i;
             }
         }
-        
+
         return 0;
     }
 
@@ -560,45 +543,82 @@ public class ActionValueSystem {
     /**
      * Get formatted turn order display.
      * Shows next N turns with visual indicators.
-     * 
+     *
      * @param turnsAhead Number of turns to display
      * @return Formatted string for display
      */
     public String getFormattedTurnOrder(int turnsAhead) {
         if (!battleActive) return "No battle active";
-        
-        List<TurnOrderEntry> order = calculateTurnOrder(turnsAhead);
+
+        int available = turnsAhead > 0 ? previewCache.ensure(turnsAhead) : 0;
         StringBuilder sb = new StringBuilder();
         sb.append("=== Turn Order ===\n");
-        
-        for (TurnOrderEntry entry : order) {
-            String icon = entry.isPlayer() ? "►" : "▼";
+
+        for (int i = 0; i < available; i++) {
+            int handle = previewCache.actorAt(i);
+            String icon = scheduler.isPlayer(handle) ? "►" : "▼";
             sb.append(icon).append(" ")
-              .append(entry.getTurnNumber()).append(". ")
-              .append(entry.getCombatantName()).append("\n");
+              .append(i + 1).append(". ")
+              .append(scheduler.getName(handle)).append("\n");
         }
-        
+
         return sb.toString();
     }
 
     /**
      * Get battle status summary.
-     * Shows current AV state for both combatants.
+     * Shows current AV state for every scheduled combatant.
      */
     public String getBattleStatus() {
         if (!battleActive) return "No battle active";
-        
+
         StringBuilder sb = new StringBuilder();
         sb.append("=== Battle Status ===\n");
-        sb.append(playerAV.toString()).append("\n");
-        sb.append(enemyAV.toString()).append("\n");
+        for (int handle = 0; handle < scheduler.getCombatantCount(); handle++) {
+            if (!scheduler.isScheduled(handle)) continue;
+            sb.append(scheduler.getName(handle))
+              .append(" [AV: ").append(String.format("%.2f", scheduler.getActionValue(handle)))
+              .append(", SPD: ").append(scheduler.getSpeed(handle)).append("]\n");
+        }
         sb.append("Current Turn: ").append(getCurrentTurnName()).append("\n");
-        
+
         return sb.toString();
     }
 
+    // ===== HELPER METHODS =====
+
+    private double avPercentage(int handle) {
+        if (handle < 0) return 0.0;
+
+        // Invert so 0 = ready to act, 1 = just acted
+        return Math.min(1.0, scheduler.getActionValue(handle) / scheduler.getMaxActionValue(handle));
+    }
+
+    private int findHandle(Player player) {
+        if (player == null) return -1;
+        for (int i = 0; i < party.length; i++) {
+            if (party[i] == player) return i;
+        }
+        return -1;
+    }
+
+    private int findHandle(Enemy enemy) {
+        if (enemy == null) return -1;
+        for (int i = 0; i < enemyGroup.length; i++) {
+            if (enemyGroup[i] == enemy) return party.length + i;
+        }
+        return -1;
+    }
+
     // ===== ACCESSORS =====
 
     public EntitySystem getEntitySystem() { return entitySystem; }
+    public TurnScheduler getScheduler() { return scheduler; }
     public int getBaseAV() { return BASE_AV; }
-}
\ No newline at end of file
+
+    /**
+     * Record turn advances into a log (null = stop recording).
+     */
+    public void setBattleLog(BattleLog battleLog) { this.battleLog = battleLog; }
+    public BattleLog getBattleLog() { return battleLog; }
+}
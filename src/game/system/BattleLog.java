@@ -0,0 +1,462 @@
+package game.system;
+
+import game.core.Enemy;
+import game.core.Player;
+import game.core.Skill;
+import game.core.Stat;
+import game.core.StatType;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * BattleLog is an append-only binary record of every combat action.
+ * Cheap enough to keep for every simulated battle; BattleReplay folds it
+ * back into the battle state at any point.
+ *
+ * HOW IT WORKS:
+ * - Each event = 1 header byte (type | side | hit) + varint fields
+ * - Names (skills, combatants) go into the log's own name table once,
+ *   after that they are a small index - most events are 1-4 bytes
+ * - Systems with a log attached (setBattleLog) append as they act;
+ *   with no log attached they pay a single null check
+ *
+ * Events:
+ * - BATTLE_START: player, enemy, then STR AGI INT HP maxHP for each
+ * - ATTACK:       skill (0 = basic attack), damage if it hit
+ * - COOLDOWN:     skill, turns
+ * - TICK / RESET: all cooldowns of one side
+ * - TURN:         AV advance - scheduler handle of who acted
+ * - TRAIN:        entity, stat, amount, new value, HP, maxHP
+ *
+ * Design: Names are stored instead of skill ordinals (ordinals change between
+ * runs), so a saved log replays in any JVM. Not thread-safe - one log per game
+ * or per simulator.
+ */
+public class BattleLog {
+
+    // Sides
+    public static final int PLAYER = 0;
+    public static final int ENEMY = 1;
+
+    // Event types (low 4 bits of the header byte)
+    public static final int BATTLE_START = 1;
+    public static final int ATTACK = 2;
+    public static final int COOLDOWN = 3;
+    public static final int TICK = 4;
+    public static final int RESET = 5;
+    public static final int TURN = 6;
+    public static final int TRAIN = 7;
+    private static final int NAME = 15;      // Name table entry - hidden from readers
+
+    // Training stats (same order as StatType)
+    public static final int STRENGTH = 0;
+    public static final int AGILITY = 1;
+    public static final int INTELLIGENCE = 2;
+
+    private static final int TYPE_MASK = 0x0F;
+    private static final int SIDE_BIT = 0x10;
+    private static final int HIT_BIT = 0x20;
+    private static final int INITIAL_CAPACITY = 256;
+
+    private byte[] data;
+    private int size;
+    private int eventCount;
+
+    // Name table
+    private final List<String> names = new ArrayList<>();
+    private final Map<String, Integer> nameRefs = new HashMap<>();
+    private int[] skillRefs = new int[16];   // [skill ordinal] -> name ref + 1 (0 = not yet named)
+
+    public BattleLog() {
+        this.data = new byte[INITIAL_CAPACITY];
+    }
+
+    // ===== RECORDING =====
+
+    /**
+     * Start of a battle: both combatants' full state.
+     */
+    public void battleStart(Player player, Enemy enemy) {
+        if (player == null || enemy == null) return;
+
+        int playerRef = nameRef(player.getName());
+        int enemyRef = nameRef(enemy.getName());
+        header(BATTLE_START, PLAYER, false);
+        writeVarint(playerRef);
+        writeVarint(enemyRef);
+        writeStats(player.getStats());
+        writeStats(enemy.getStats());
+    }
+
+    /**
+     * A successful attack (hit or miss).
+     *
+     * @param side Attacker (PLAYER or ENEMY)
+     * @param skill Skill used, null = basic attack
+     * @param hit Whether it hit
+     * @param damage Damage dealt (ignored on a miss)
+     */
+    public void attack(int side, Skill skill, boolean hit, int damage) {
+        int skillRef = skill == null ? 0 : skillRef(skill) + 1;
+        header(ATTACK, side, hit);
+        writeVarint(skillRef);
+        if (hit) {
+            writeVarint(damage);
+        }
+    }
+
+    /**
+     * A skill's cooldown was set (0 = cleared).
+     */
+    public void cooldown(int side, Skill skill, int turns) {
+        if (skill == null) return;
+
+        int skillRef = skillRef(skill);
+        header(COOLDOWN, side, false);
+        writeVarint(skillRef);
+        writeVarint(Math.max(0, turns));
+    }
+
+    /**
+     * Every cooldown of one side went down by 1.
+     */
+    public void tick(int side) {
+        header(TICK, side, false);
+    }
+
+    /**
+     * Every cooldown of one side was cleared.
+     */
+    public void reset(int side) {
+        header(RESET, side, false);
+    }
+
+    /**
+     * The turn order advanced past an actor.
+     *
+     * @param side Side of the actor who just acted
+     * @param handle Scheduler handle of that actor
+     */
+    public void turn(int side, int handle) {
+        header(TURN, side, false);
+        writeVarint(handle);
+    }
+
+    /**
+     * A stat was trained.
+     *
+     * @param side PLAYER or ENEMY
+     * @param name Who trained
+     * @param stat STRENGTH, AGILITY or INTELLIGENCE
+     * @param amount Amount trained
+     * @param stats Stats after training
+     */
+    public void train(int side, String name, int stat, int amount, Stat stats) {
+        if (name == null || stats == null) return;
+
+        int ref = nameRef(name);
+        header(TRAIN, side, false);
+        writeVarint(ref);
+        writeVarint(stat);
+        writeVarint(amount);
+        writeVarint(stat == STRENGTH ? stats.getStrength()
+                  : stat == AGILITY ? stats.getAgility() : stats.getIntelligence());
+        writeVarint(stats.getHp());
+        writeVarint(stats.getMaxHp());
+    }
+
+    /**
+     * Training stat code for a normalized stat name ("STRENGTH", "AGILITY", "INTELLIGENCE").
+     *
+     * @return Stat code, or -1 if unknown
+     */
+    public static int statCode(String normalizedStat) {
+        switch (normalizedStat) {
+            case "STRENGTH": return STRENGTH;
+            case "AGILITY": return AGILITY;
+            case "INTELLIGENCE": return INTELLIGENCE;
+            default: return -1;
+        }
+    }
+
+    /**
+     * Training stat code for a stat type (codes follow StatType order).
+     */
+    public static int statCode(StatType stat) {
+        return stat.ordinal();
+    }
+
+    // ===== LOG ACCESS =====
+
+    /**
+     * Read the events from the start.
+     */
+    public Reader reader() {
+        return new Reader(data, size);
+    }
+
+    /**
+     * Number of events recorded (name table entries not counted).
+     */
+    public int getEventCount() { return eventCount; }
+
+    /**
+     * Encoded size in bytes.
+     */
+    public int size() { return size; }
+
+    /**
+     * Copy of the encoded events.
+     */
+    public byte[] toByteArray() {
+        return Arrays.copyOf(data, size);
+    }
+
+    /**
+     * Write the encoded events to a stream.
+     */
+    public void writeTo(OutputStream out) throws IOException {
+        out.write(data, 0, size);
+    }
+
+    /**
+     * Load a log saved with toByteArray / writeTo. New events can be appended.
+     *
+     * @param bytes Encoded events
+     * @return BattleLog holding a copy of the bytes
+     */
+    public static BattleLog fromBytes(byte[] bytes) {
+        if (bytes == null) {
+            throw new IllegalArgumentException("Bytes cannot be null");
+        }
+
+        BattleLog log = new BattleLog();
+        log.data = Arrays.copyOf(bytes, Math.max(INITIAL_CAPACITY, bytes.length));
+        log.size = bytes.length;
+
+        Reader reader = log.reader();
+        while (reader.next()) {
+            log.eventCount++;
+        }
+        for (String name : reader.names) {
+            log.nameRefs.put(name, log.names.size());
+            log.names.add(name);
+        }
+        return log;
+    }
+
+    /**
+     * Drop every event (keeps the allocated buffer).
+     */
+    public void clear() {
+        size = 0;
+        eventCount = 0;
+        names.clear();
+        nameRefs.clear();
+        Arrays.fill(skillRefs, 0);
+    }
+
+    // ===== READER =====
+
+    /**
+     * Forward-only event cursor. Fields of the current event are read with the getters.
+     * One reader allocates nothing per event.
+     */
+    public static class Reader {
+        private final byte[] data;
+        private final int limit;
+        private int position;
+        private final List<String> names = new ArrayList<>();
+
+        private int type;
+        private int side;
+        private boolean hit;
+        private String name;           // Skill (ATTACK/COOLDOWN), player (BATTLE_START), trainee (TRAIN)
+        private String otherName;      // Enemy (BATTLE_START)
+        private final int[] values = new int[10];
+
+        Reader(byte[] data, int limit) {
+            this.data = data;
+            this.limit = limit;
+        }
+
+        /**
+         * Move to the next event.
+         *
+         * @return false at the end of the log
+         */
+        public boolean next() {
+            while (position < limit) {
+                int header = data[position++] & 0xFF;
+                type = header & TYPE_MASK;
+                side = (header & SIDE_BIT) != 0 ? ENEMY : PLAYER;
+                hit = (header & HIT_BIT) != 0;
+                name = null;
+                otherName = null;
+
+                switch (type) {
+                    case NAME:
+                        names.add(readString());
+                        continue;
+                    case BATTLE_START:
+                        name = names.get(readVarint());
+                        otherName = names.get(readVarint());
+                        readValues(10);
+                        return true;
+                    case ATTACK: {
+                        int skillRef = readVarint();
+                        name = skillRef == 0 ? null : names.get(skillRef - 1);
+                        values[0] = hit ? readVarint() : 0;
+                        return true;
+                    }
+                    case COOLDOWN:
+                        name = names.get(readVarint());
+                        values[0] = readVarint();
+                        return true;
+                    case TICK:
+                    case RESET:
+                        return true;
+                    case TURN:
+                        values[0] = readVarint();
+                        return true;
+                    case TRAIN:
+                        name = names.get(readVarint());
+                        readValues(5);
+                        return true;
+                    default:
+                        throw new IllegalStateException("Corrupt battle log: unknown event " + type + " at byte " + (position - 1));
+                }
+            }
+            return false;
+        }
+
+        public int getType() { return type; }
+        public int getSide() { return side; }
+        public boolean isHit() { return hit; }
+
+        /**
+         * Skill name (ATTACK, COOLDOWN - null = basic attack), player name
+         * (BATTLE_START) or trainee name (TRAIN).
+         */
+        public String getName() { return name; }
+
+        /**
+         * Enemy name (BATTLE_START).
+         */
+        public String getOtherName() { return otherName; }
+
+        /**
+         * Numeric field i of the current event:
+         * - BATTLE_START: 0-4 player STR AGI INT HP maxHP, 5-9 the same for the enemy
+         * - ATTACK: 0 damage
+         * - COOLDOWN: 0 turns
+         * - TURN: 0 handle
+         * - TRAIN: 0 stat, 1 amount, 2 new value, 3 HP, 4 maxHP
+         */
+        public int getValue(int i) { return values[i]; }
+
+        private void readValues(int count) {
+            for (int i = 0; i < count; i++) {
+                values[i] = readVarint();
+            }
+        }
+
+        private int readVarint() {
+            int value = 0;
+            int shift = 0;
+            while (true) {
+                if (position >= limit) {
+                    throw new IllegalStateException("Corrupt battle log: truncated event");
+                }
+                int b = data[position++];
+                value |= (b & 0x7F) << shift;
+                if ((b & 0x80) == 0) return value;
+                shift += 7;
+            }
+        }
+
+        private String readString() {
+            int length = readVarint();
+            if (length < 0 || position + length > limit) {
+                throw new IllegalStateException("Corrupt battle log: bad name length");
+            }
+            String value = new String(data, position, length, StandardCharsets.UTF_8);
+            position += length;
+            return value;
+        }
+    }
+
+    // ===== ENCODING =====
+
+    private void header(int type, int side, boolean hit) {
+        ensureCapacity(1);
+        data[size++] = (byte) (type | (side == ENEMY ? SIDE_BIT : 0) | (hit ? HIT_BIT : 0));
+        eventCount++;
+    }
+
+    private void writeStats(Stat stats) {
+        writeVarint(stats.getStrength());
+        writeVarint(stats.getAgility());
+        writeVarint(stats.getIntelligence());
+        writeVarint(stats.getHp());
+        writeVarint(stats.getMaxHp());
+    }
+
+    private void writeVarint(int value) {
+        ensureCapacity(5);
+        while ((value & ~0x7F) != 0) {
+            data[size++] = (byte) ((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        data[size++] = (byte) value;
+    }
+
+    /**
+     * Index of a name in the table, writing a NAME entry the first time.
+     */
+    private int nameRef(String name) {
+        Integer ref = nameRefs.get(name);
+        if (ref != null) return ref;
+
+        byte[] utf8 = name.getBytes(StandardCharsets.UTF_8);
+        ensureCapacity(1);
+        data[size++] = (byte) NAME;
+        writeVarint(utf8.length);
+        ensureCapacity(utf8.length);
+        System.arraycopy(utf8, 0, data, size, utf8.length);
+        size += utf8.length;
+
+        int newRef = names.size();
+        names.add(name);
+        nameRefs.put(name, newRef);
+        return newRef;
+    }
+
+    /**
+     * Name ref of a skill - array lookup by ordinal after the first use.
+     */
+    private int skillRef(Skill skill) {
+        int ordinal = skill.getOrdinal();
+        if (ordinal >= skillRefs.length) {
+            skillRefs = Arrays.copyOf(skillRefs, Math.max(ordinal + 1, skillRefs.length * 2));
+        }
+        int cached = skillRefs[ordinal];
+        if (cached != 0) return cached - 1;
+
+        int ref = nameRef(skill.getName());
+        skillRefs[ordinal] = ref + 1;
+        return ref;
+    }
+
+    private void ensureCapacity(int extra) {
+        if (size + extra > data.length) {
+            data = Arrays.copyOf(data, Math.max(size + extra, data.length * 2));
+        }
+    }
+}
@@ -0,0 +1,456 @@
+package game.system;
+
+import game.core.Player;
+import game.core.Enemy;
+import game.core.Skill;
+import game.core.Stat;
+import game.data.SkillsData;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * BattleOddsSystem computes exact battle outcome probabilities.
+ * A battle is a finite Markov chain - this walks the chain instead of
+ * sampling it, so one call replaces a large Monte Carlo run.
+ *
+ * WHY IT WORKS:
+ * - Turn order depends only on speed, so the AV sequence is fixed for a matchup
+ * - Damage and hit chance are constants for a matchup
+ * - Skill choice (player policy and EnemyAISystem) is deterministic given
+ *   HP and cooldowns
+ * - The only randomness is hit vs miss on each action
+ *
+ * HOW IT WORKS (forward dynamic programming over turns):
+ * - State = (player HP, enemy HP, every skill cooldown), packed into a long
+ * - Layer t maps state -> probability of being there after t actions
+ * - Each state has two successors (hit, miss); a hit may end the battle
+ * - Transitions are memoized per state, so AI is evaluated once per state
+ * - Stops when the remaining probability mass is negligible or MAX_TURNS
+ *
+ * Rules match BattleSimulator exactly (same tick/choose/hit/cooldown order).
+ *
+ * Design: Reuses the real systems on private scratch entities, so AI and
+ * cooldown rules are never duplicated. Not thread-safe - one per thread.
+ * GUI-Friendly: Returns a result object with a formatted summary.
+ */
+public class BattleOddsSystem {
+
+    private final EntitySystem entitySystem;
+    private final SkillSystem skillSystem;
+    private final CooldownSystem cooldownSystem;
+    private final CombatSystem combatSystem;
+    private final EnemyAISystem enemyAISystem;
+    private final ActionValueSystem actionValueSystem;
+
+    // Calculation constants
+    private static final int MAX_TURNS = 1000;             // Same cap as BattleSimulator
+    private static final double MASS_TOLERANCE = 1e-12;    // Stop when this little mass is left
+
+    // State packing: [playerHP:16][enemyHP:16][cooldown:4 x 8]
+    private static final int HP_BITS = 16;
+    private static final int COOLDOWN_BITS = 4;
+    private static final int MAX_PACKED_HP = (1 << HP_BITS) - 1;
+    private static final int MAX_PACKED_COOLDOWN = (1 << COOLDOWN_BITS) - 1;
+    private static final int MAX_COOLDOWN_SLOTS = (64 - 2 * HP_BITS) / COOLDOWN_BITS;
+    private static final long NO_STATE = -1L;
+
+    public BattleOddsSystem() {
+        this.entitySystem = new EntitySystem();
+        this.skillSystem = new SkillSystem();
+        this.cooldownSystem = new CooldownSystem();
+        this.combatSystem = new CombatSystem(entitySystem, skillSystem, cooldownSystem);
+        this.enemyAISystem = new EnemyAISystem(entitySystem, skillSystem, cooldownSystem);
+        this.actionValueSystem = new ActionValueSystem(entitySystem);
+    }
+
+    public BattleOddsSystem(CombatSystem combatSystem, EnemyAISystem enemyAISystem) {
+        if (combatSystem == null || enemyAISystem == null) {
+            throw new IllegalArgumentException("All systems must be non-null");
+        }
+
+        this.entitySystem = combatSystem.getEntitySystem();
+        this.skillSystem = combatSystem.getSkillSystem();
+        this.cooldownSystem = combatSystem.getCooldownSystem();
+        this.combatSystem = combatSystem;
+        this.enemyAISystem = enemyAISystem;
+        this.actionValueSystem = new ActionValueSystem(entitySystem);
+    }
+
+    // ===== ODDS RESULT CLASS =====
+
+    /**
+     * Exact outcome distribution of a matchup.
+     */
+    public static class OddsResult {
+        private final double winProbability;
+        private final double lossProbability;
+        private final double unresolvedProbability;   // Still alive after last evaluated turn
+        private final double expectedTurns;
+        private final double[] playerHPOnWin;         // [hp] -> probability, player won with hp left
+        private final double[] enemyHPOnLoss;         // [hp] -> probability, enemy won with hp left
+        private final int turnsEvaluated;
+        private final int distinctStates;
+
+        public OddsResult(double winProbability, double lossProbability, double unresolvedProbability,
+                          double expectedTurns, double[] playerHPOnWin, double[] enemyHPOnLoss,
+                          int turnsEvaluated, int distinctStates) {
+            this.winProbability = winProbability;
+            this.lossProbability = lossProbability;
+            this.unresolvedProbability = unresolvedProbability;
+            this.expectedTurns = expectedTurns;
+            this.playerHPOnWin = playerHPOnWin;
+            this.enemyHPOnLoss = enemyHPOnLoss;
+            this.turnsEvaluated = turnsEvaluated;
+            this.distinctStates = distinctStates;
+        }
+
+        // Getters
+        public double getWinProbability() { return winProbability; }
+        public double getLossProbability() { return lossProbability; }
+        public double getUnresolvedProbability() { return unresolvedProbability; }
+        public double getExpectedTurns() { return expectedTurns; }
+        public int getTurnsEvaluated() { return turnsEvaluated; }
+        public int getDistinctStates() { return distinctStates; }
+        public double[] getPlayerHPOnWin() { return playerHPOnWin.clone(); }
+        public double[] getEnemyHPOnLoss() { return enemyHPOnLoss.clone(); }
+
+        /**
+         * Expected player HP left, given that the player won.
+         */
+        public double getExpectedPlayerHPOnWin() {
+            return conditionalMean(playerHPOnWin, winProbability);
+        }
+
+        /**
+         * Expected enemy HP left, given that the enemy won.
+         */
+        public double getExpectedEnemyHPOnLoss() {
+            return conditionalMean(enemyHPOnLoss, lossProbability);
+        }
+
+        private static double conditionalMean(double[] distribution, double total) {
+            if (total <= 0) return 0.0;
+            double sum = 0;
+            for (int hp = 0; hp < distribution.length; hp++) {
+                sum += hp * distribution[hp];
+            }
+            return sum / total;
+        }
+
+        /**
+         * Get formatted summary for console display.
+         */
+        public String getSummary() {
+            StringBuilder sb = new StringBuilder();
+            sb.append("=== Exact Battle Odds ===\n");
+            sb.append("Win: ").append(String.format("%.4f%%", winProbability * 100))
+              .append(" | Loss: ").append(String.format("%.4f%%", lossProbability * 100))
+              .append(" | Unresolved: ").append(String.format("%.2e", unresolvedProbability)).append("\n");
+            sb.append("Expected Turns: ").append(String.format("%.2f", expectedTurns)).append("\n");
+            sb.append("Player HP left on win: ").append(String.format("%.1f", getExpectedPlayerHPOnWin())).append("\n");
+            sb.append("Enemy HP left on loss: ").append(String.format("%.1f", getExpectedEnemyHPOnLoss())).append("\n");
+            sb.append("Turns evaluated: ").append(turnsEvaluated)
+              .append(" | Distinct states: ").append(distinctStates).append("\n");
+            return sb.toString();
+        }
+
+        @Override
+        public String toString() {
+            return getSummary();
+        }
+    }
+
+    // ===== CALCULATION =====
+
+    /**
+     * Exact odds for a player (using their profession's skills) vs an enemy.
+     *
+     * @param playerTemplate Player to evaluate (not modified)
+     * @param enemyTemplate Enemy to evaluate (not modified)
+     * @return OddsResult with exact probabilities
+     */
+    public OddsResult calculate(Player playerTemplate, Enemy enemyTemplate) {
+        if (playerTemplate == null) {
+            throw new IllegalArgumentException("Player template cannot be null");
+        }
+        return calculate(playerTemplate,
+                SkillsData.getSkillsForProfession(playerTemplate.getProfession()), enemyTemplate);
+    }
+
+    /**
+     * Exact odds with an explicit player skill set.
+     *
+     * @param playerTemplate Player to evaluate (not modified)
+     * @param playerSkills Skills available to the player
+     * @param enemyTemplate Enemy to evaluate (not modified)
+     * @return OddsResult with exact probabilities
+     */
+    public OddsResult calculate(Player playerTemplate, Skill[] playerSkills, Enemy enemyTemplate) {
+        if (playerTemplate == null || enemyTemplate == null) {
+            throw new IllegalArgumentException("Templates cannot be null");
+        }
+        if (playerSkills == null) {
+            throw new IllegalArgumentException("Player skills cannot be null");
+        }
+
+        Chain chain = new Chain(playerTemplate, playerSkills, enemyTemplate);
+        return chain.run();
+    }
+
+    // ===== MARKOV CHAIN =====
+
+    /**
+     * One matchup's chain: scratch entities, constants and transition memo.
+     */
+    private class Chain {
+        private final Player player;
+        private final Enemy enemy;
+        private final Skill[] playerSkills;
+        private final Skill[] enemySkills;
+
+        private final double playerHitChance;
+        private final double enemyHitChance;
+        private final int[] playerDamage;
+        private final int[] enemyDamage;
+        private final int enemyBasicDamage;
+
+        // Memoized transitions: state -> {missState, hitState} (NO_STATE = battle over)
+        private final Map<Long, long[]> playerMoves = new HashMap<>();
+        private final Map<Long, long[]> enemyMoves = new HashMap<>();
+
+        Chain(Player playerTemplate, Skill[] playerSkills, Enemy enemyTemplate) {
+            this.player = entitySystem.createPlayer(
+                playerTemplate.getName(),
+                playerTemplate.getProfession(),
+                playerTemplate.getStats().getStrength(),
+                playerTemplate.getStats().getAgility(),
+                playerTemplate.getStats().getIntelligence()
+            );
+            this.enemy = entitySystem.copyEnemy(enemyTemplate);
+            this.playerSkills = playerSkills;
+            this.enemySkills = enemy.getSkills();
+
+            validate();
+
+            this.playerHitChance = combatSystem.calculateHitChance(
+                    entitySystem.getAccuracy(player), entitySystem.getEvasion(enemy)) / 100.0;
+            this.enemyHitChance = combatSystem.calculateHitChance(
+                    entitySystem.getAccuracy(enemy), entitySystem.getEvasion(player)) / 100.0;
+
+            this.playerDamage = new int[playerSkills.length];
+            for (int i = 0; i < playerSkills.length; i++) {
+                playerDamage[i] = skillSystem.calculateDamage(player, playerSkills[i]);
+            }
+            this.enemyDamage = new int[enemySkills.length];
+            for (int i = 0; i < enemySkills.length; i++) {
+                enemyDamage[i] = skillSystem.calculateDamage(enemy, enemySkills[i]);
+            }
+            this.enemyBasicDamage = enemy.getStats().getStrength();
+        }
+
+        private void validate() {
+            if (playerSkills.length + enemySkills.length > MAX_COOLDOWN_SLOTS) {
+                throw new IllegalArgumentException("Too many skills for exact odds (max " + MAX_COOLDOWN_SLOTS + ")");
+            }
+            if (entitySystem.getMaxHP(player) > MAX_PACKED_HP || entitySystem.getMaxHP(enemy) > MAX_PACKED_HP) {
+                throw new IllegalArgumentException("HP too large for exact odds (max " + MAX_PACKED_HP + ")");
+            }
+            for (Skill skill : playerSkills) {
+                if (skill.getBaseCooldown() > MAX_PACKED_COOLDOWN) {
+                    throw new IllegalArgumentException("Cooldown too large for exact odds: " + skill.getName());
+                }
+            }
+            for (Skill skill : enemySkills) {
+                if (skill.getBaseCooldown() > MAX_PACKED_COOLDOWN) {
+                    throw new IllegalArgumentException("Cooldown too large for exact odds: " + skill.getName());
+                }
+            }
+        }
+
+        OddsResult run() {
+            combatSystem.prepareBattle(player, enemy);
+            actionValueSystem.initializeBattle(player, enemy);
+
+            double[] playerHPOnWin = new double[entitySystem.getMaxHP(player) + 1];
+            double[] enemyHPOnLoss = new double[entitySystem.getMaxHP(enemy) + 1];
+            double win = 0;
+            double loss = 0;
+            double expectedTurns = 0;
+
+            Map<Long, Double> layer = new HashMap<>();
+            layer.put(pack(), 1.0);
+            double liveMass = 1.0;
+            int turn = 0;
+
+            while (turn < MAX_TURNS && liveMass > MASS_TOLERANCE) {
+                boolean playerActs = actionValueSystem.isPlayerTurn();
+                double hitChance = playerActs ? playerHitChance : enemyHitChance;
+                Map<Long, Double> next = new HashMap<>(layer.size() * 2);
+                turn++;
+
+                for (Map.Entry<Long, Double> entry : layer.entrySet()) {
+                    long state = entry.getKey();
+                    double mass = entry.getValue();
+                    long[] moves = playerActs ? playerMove(state) : enemyMove(state);
+
+                    // Skipped turn (player had nothing ready): no roll
+                    if (moves.length == 1) {
+                        next.merge(moves[0], mass, Double::sum);
+                        continue;
+                    }
+
+                    next.merge(moves[0], mass * (1.0 - hitChance), Double::sum);
+
+                    double hitMass = mass * hitChance;
+                    if (moves[1] != NO_STATE) {
+                        next.merge(moves[1], hitMass, Double::sum);
+                    } else if (playerActs) {
+                        win += hitMass;
+                        playerHPOnWin[playerHP(state)] += hitMass;
+                        expectedTurns += hitMass * turn;
+                    } else {
+                        loss += hitMass;
+                        enemyHPOnLoss[enemyHP(state)] += hitMass;
+                        expectedTurns += hitMass * turn;
+                    }
+                }
+
+                layer = next;
+                liveMass = 0;
+                for (double mass : layer.values()) {
+                    liveMass += mass;
+                }
+                actionValueSystem.advanceToNextTurn();
+            }
+
+            actionValueSystem.endBattle();
+            expectedTurns += liveMass * turn; // Unresolved battles end at the cap, like draws
+
+            return new OddsResult(win, loss, liveMass, expectedTurns, playerHPOnWin, enemyHPOnLoss,
+                                  turn, playerMoves.size() + enemyMoves.size());
+        }
+
+        // ===== TRANSITIONS =====
+
+        /**
+         * Player turn from a state: tick, choose, cooldown, then hit/miss successors.
+         * Returns {nextState} for a skipped turn, else {missState, hitState}.
+         */
+        private long[] playerMove(long state) {
+            long[] moves = playerMoves.get(state);
+            if (moves != null) return moves;
+
+            unpack(state);
+            cooldownSystem.tickPlayerCooldowns(player);
+
+            int skillIndex = choosePlayerSkill();
+            if (skillIndex < 0) {
+                moves = new long[]{pack()};
+            } else {
+                cooldownSystem.applySkillCooldown(player, playerSkills[skillIndex]);
+                long miss = pack();
+                entitySystem.applyDamage(enemy, playerDamage[skillIndex]);
+                long hit = entitySystem.isAlive(enemy) ? pack() : NO_STATE;
+                moves = new long[]{miss, hit};
+            }
+
+            playerMoves.put(state, moves);
+            return moves;
+        }
+
+        /**
+         * Enemy turn from a state: tick, AI choice, cooldown, then hit/miss successors.
+         */
+        private long[] enemyMove(long state) {
+            long[] moves = enemyMoves.get(state);
+            if (moves != null) return moves;
+
+            unpack(state);
+            cooldownSystem.tickEnemyCooldowns(enemy);
+
+            int skillIndex = enemyAISystem.chooseSkillIndex(enemy, player);
+            int damage;
+            if (skillIndex < 0) {
+                damage = enemyBasicDamage;
+            } else {
+                damage = enemyDamage[skillIndex];
+                cooldownSystem.applySkillCooldown(enemy, enemySkills[skillIndex]);
+            }
+
+            long miss = pack();
+            entitySystem.applyDamage(player, damage);
+            long hit = entitySystem.isAlive(player) ? pack() : NO_STATE;
+            moves = new long[]{miss, hit};
+
+            enemyMoves.put(state, moves);
+            return moves;
+        }
+
+        /**
+         * Same policy as BattleSimulator.choosePlayerSkill.
+         */
+        private int choosePlayerSkill() {
+            for (int i = playerSkills.length - 1; i >= 0; i--) {
+                if (skillSystem.canUseSkill(player, playerSkills[i])) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+
+        // ===== STATE PACKING =====
+
+        /**
+         * Pack the scratch entities' HP and cooldowns into a long.
+         */
+        private long pack() {
+            long state = entitySystem.getCurrentHP(player)
+                       | ((long) entitySystem.getCurrentHP(enemy) << HP_BITS);
+            int shift = 2 * HP_BITS;
+            for (Skill skill : playerSkills) {
+                state |= (long) player.getSkillCooldown(skill) << shift;
+                shift += COOLDOWN_BITS;
+            }
+            for (Skill skill : enemySkills) {
+                state |= (long) enemy.getSkillCooldown(skill) << shift;
+                shift += COOLDOWN_BITS;
+            }
+            return state;
+        }
+
+        /**
+         * Load a packed state into the scratch entities.
+         */
+        private void unpack(long state) {
+            setHP(player.getStats(), playerHP(state));
+            setHP(enemy.getStats(), enemyHP(state));
+
+            int shift = 2 * HP_BITS;
+            for (Skill skill : playerSkills) {
+                player.setSkillCooldown(skill, (int) ((state >>> shift) & MAX_PACKED_COOLDOWN));
+                shift += COOLDOWN_BITS;
+            }
+            for (Skill skill : enemySkills) {
+                enemy.setSkillCooldown(skill, (int) ((state >>> shift) & MAX_PACKED_COOLDOWN));
+                shift += COOLDOWN_BITS;
+            }
+        }
+
+        private void setHP(Stat stats, int hp) {
+            stats.fullHeal();
+            stats.takeDamage(stats.getMaxHp() - hp);
+        }
+    }
+
+    private static int playerHP(long state) {
+        return (int) (state & MAX_PACKED_HP);
+    }
+
+    private static int enemyHP(long state) {
+        return (int) ((state >>> HP_BITS) & MAX_PACKED_HP);
+    }
+
+    // ===== ACCESSORS =====
+
+    public int getMaxTurns() { return MAX_TURNS; }
+}
@@ -0,0 +1,218 @@
+package game.system;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * BattleReplay rebuilds battle state from a BattleLog.
+ * State is never stored in the log - it is the fold of the events.
+ *
+ * HOW IT WORKS:
+ * - BATTLE_START loads both combatants' stats, HP and clears cooldowns
+ * - ATTACK lowers the target's HP, COOLDOWN / TICK / RESET update cooldowns
+ * - TURN counts turns, TRAIN updates a trained stat and HP
+ * - Stop after N events to see the state at any point of the log
+ *
+ * Design: Static helper - no systems needed, so logs can be analysed offline.
+ * GUI-Friendly: State has simple getters and a formatted summary.
+ */
+public final class BattleReplay {
+
+    private BattleReplay() {
+        // Static helper - no instances
+    }
+
+    // ===== REPLAY STATE CLASS =====
+
+    /**
+     * Battle state after folding some events.
+     * Sides are indexed by BattleLog.PLAYER / BattleLog.ENEMY.
+     */
+    public static class State {
+        private final String[] names = new String[2];
+        private final int[][] stats = new int[2][3];          // [side] -> STR, AGI, INT
+        private final int[] hp = new int[2];
+        private final int[] maxHp = new int[2];
+        private final Map<String, Integer> playerCooldowns = new LinkedHashMap<>();   // Skill name -> turns
+        private final Map<String, Integer> enemyCooldowns = new LinkedHashMap<>();
+        private final int[] damageDealt = new int[2];         // [side] -> dealt this battle
+        private final int[] hits = new int[2];
+        private final int[] misses = new int[2];
+        private int battles;
+        private int turns;                                    // This battle
+        private int trainings;
+        private int eventsApplied;
+
+        private Map<String, Integer> cooldowns(int side) {
+            return side == BattleLog.PLAYER ? playerCooldowns : enemyCooldowns;
+        }
+
+        void apply(BattleLog.Reader event) {
+            int side = event.getSide();
+            int other = 1 - side;
+
+            switch (event.getType()) {
+                case BattleLog.BATTLE_START:
+                    battles++;
+                    turns = 0;
+                    names[BattleLog.PLAYER] = event.getName();
+                    names[BattleLog.ENEMY] = event.getOtherName();
+                    for (int s = 0; s < 2; s++) {
+                        int base = s * 5;
+                        stats[s][0] = event.getValue(base);
+                        stats[s][1] = event.getValue(base + 1);
+                        stats[s][2] = event.getValue(base + 2);
+                        hp[s] = event.getValue(base + 3);
+                        maxHp[s] = event.getValue(base + 4);
+                        cooldowns(s).clear();
+                        damageDealt[s] = 0;
+                        hits[s] = 0;
+                        misses[s] = 0;
+                    }
+                    break;
+
+                case BattleLog.ATTACK:
+                    if (event.isHit()) {
+                        int damage = event.getValue(0);
+                        hp[other] = Math.max(0, hp[other] - damage);
+                        damageDealt[side] += damage;
+                        hits[side]++;
+                    } else {
+                        misses[side]++;
+                    }
+                    break;
+
+                case BattleLog.COOLDOWN:
+                    if (event.getValue(0) > 0) {
+                        cooldowns(side).put(event.getName(), event.getValue(0));
+                    } else {
+                        cooldowns(side).remove(event.getName());
+                    }
+                    break;
+
+                case BattleLog.TICK:
+                    cooldowns(side).replaceAll((skill, remaining) -> remaining - 1);
+                    cooldowns(side).values().removeIf(remaining -> remaining <= 0);
+                    break;
+
+                case BattleLog.RESET:
+                    cooldowns(side).clear();
+                    break;
+
+                case BattleLog.TURN:
+                    turns++;
+                    break;
+
+                case BattleLog.TRAIN:
+                    trainings++;
+                    if (event.getName().equals(names[side]) || names[side] == null) {
+                        names[side] = event.getName();
+                        stats[side][event.getValue(0)] = event.getValue(2);
+                        hp[side] = event.getValue(3);
+                        maxHp[side] = event.getValue(4);
+                    }
+                    break;
+
+                default:
+                    break;
+            }
+            eventsApplied++;
+        }
+
+        // Getters
+        public String getName(int side) { return names[side]; }
+        public int getStrength(int side) { return stats[side][0]; }
+        public int getAgility(int side) { return stats[side][1]; }
+        public int getIntelligence(int side) { return stats[side][2]; }
+        public int getHp(int side) { return hp[side]; }
+        public int getMaxHp(int side) { return maxHp[side]; }
+        public int getDamageDealt(int side) { return damageDealt[side]; }
+        public int getHits(int side) { return hits[side]; }
+        public int getMisses(int side) { return misses[side]; }
+        public int getBattles() { return battles; }
+        public int getTurns() { return turns; }
+        public int getTrainings() { return trainings; }
+        public int getEventsApplied() { return eventsApplied; }
+
+        /**
+         * Remaining cooldown of a skill (0 = ready).
+         */
+        public int getCooldown(int side, String skillName) {
+            Integer remaining = cooldowns(side).get(skillName);
+            return remaining == null ? 0 : remaining;
+        }
+
+        /**
+         * Skills on cooldown for a side (read-only view).
+         */
+        public Map<String, Integer> getCooldowns(int side) {
+            return Collections.unmodifiableMap(cooldowns(side));
+        }
+
+        /**
+         * Same convention as CombatSystem.getCombatWinner:
+         * 1 = player won, -1 = enemy won, 0 = still going (or no battle).
+         */
+        public int getWinner() {
+            if (battles == 0) return 0;
+            if (hp[BattleLog.ENEMY] <= 0) return 1;
+            if (hp[BattleLog.PLAYER] <= 0) return -1;
+            return 0;
+        }
+
+        /**
+         * Get formatted summary for console display.
+         */
+        public String getSummary() {
+            StringBuilder sb = new StringBuilder();
+            sb.append("=== Replay (").append(eventsApplied).append(" events) ===\n");
+            sb.append("Battle #").append(battles).append(", turn ").append(turns).append("\n");
+            for (int s = 0; s < 2; s++) {
+                sb.append(names[s]).append(": HP ").append(hp[s]).append("/").append(maxHp[s])
+                  .append(" | STR ").append(stats[s][0]).append(" AGI ").append(stats[s][1])
+                  .append(" INT ").append(stats[s][2])
+                  .append(" | hits ").append(hits[s]).append(", misses ").append(misses[s])
+                  .append(" | cooldowns ").append(cooldowns(s)).append("\n");
+            }
+            return sb.toString();
+        }
+
+        @Override
+        public String toString() {
+            return getSummary();
+        }
+    }
+
+    // ===== REPLAY =====
+
+    /**
+     * Fold the whole log.
+     *
+     * @param log Log to replay
+     * @return State after the last event
+     */
+    public static State replay(BattleLog log) {
+        return replay(log, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Fold the first N events.
+     *
+     * @param log Log to replay
+     * @param events Number of events to apply
+     * @return State after those events
+     */
+    public static State replay(BattleLog log, int events) {
+        if (log == null) {
+            throw new IllegalArgumentException("Log cannot be null");
+        }
+
+        State state = new State();
+        BattleLog.Reader reader = log.reader();
+        while (state.getEventsApplied() < events && reader.next()) {
+            state.apply(reader);
+        }
+        return state;
+    }
+}
@@ -0,0 +1,418 @@
+package game.system;
+
+import game.core.Player;
+import game.core.Enemy;
+import game.core.Skill;
+import game.data.SkillsData;
+import java.util.Arrays;
+
+/**
+ * BattleSimulator runs complete headless battles for balance analysis.
+ * Uses the same rules as an interactive battle (AV turn order, cooldown ticks,
+ * enemy AI, hit rolls) through the same CombatSystem calls, but reuses one
+ * CombatResult for every attack and never asks for its message.
+ *
+ * Responsibilities:
+ * - Copy player/enemy templates into private working entities
+ * - Run N full battles back to back
+ * - Collect win rate, turn counts and damage distributions
+ *
+ * BATTLE LOOP (same order as ConsoleUITest):
+ * 1. Actor with lowest AV takes the turn
+ * 2. Actor's cooldowns tick
+ * 3. Actor picks a skill (player policy or EnemyAISystem)
+ * 4. Hit roll, damage, cooldown
+ * 5. AV advances
+ *
+ * Player Policy: Uses the highest-index ready skill (usually highest damage).
+ *
+ * Design: Stateful engine - owns its own ActionValueSystem, so one simulator
+ * must not be shared between threads. Templates are never modified.
+ */
+public class BattleSimulator {
+
+    private final EntitySystem entitySystem;
+    private final SkillSystem skillSystem;
+    private final CooldownSystem cooldownSystem;
+    private final CombatSystem combatSystem;
+    private final EnemyAISystem enemyAISystem;
+    private final ActionValueSystem actionValueSystem;
+
+    // Overwritten by every attack - messages are never built
+    private final CombatSystem.CombatResult scratchResult = new CombatSystem.CombatResult();
+
+    // Simulation constants
+    private static final int MAX_TURNS = 1000;  // Safety cap - battle counts as a draw
+
+    public BattleSimulator() {
+        this(new RandomSystem());
+    }
+
+    /**
+     * Create a simulator with its own random stream.
+     * Give each thread its own stream (see RandomSystem.split).
+     *
+     * @param randomSystem Random stream for hit rolls
+     */
+    public BattleSimulator(RandomSystem randomSystem) {
+        if (randomSystem == null) {
+            throw new IllegalArgumentException("RandomSystem cannot be null");
+        }
+
+        this.entitySystem = new EntitySystem();
+        this.skillSystem = new SkillSystem();
+        this.cooldownSystem = new CooldownSystem();
+        this.combatSystem = new CombatSystem(entitySystem, skillSystem, cooldownSystem, randomSystem);
+        this.enemyAISystem = new EnemyAISystem(entitySystem, skillSystem, cooldownSystem);
+        this.actionValueSystem = new ActionValueSystem(entitySystem);
+    }
+
+    public BattleSimulator(CombatSystem combatSystem, EnemyAISystem enemyAISystem) {
+        if (combatSystem == null || enemyAISystem == null) {
+            throw new IllegalArgumentException("All systems must be non-null");
+        }
+
+        this.entitySystem = combatSystem.getEntitySystem();
+        this.skillSystem = combatSystem.getSkillSystem();
+        this.cooldownSystem = combatSystem.getCooldownSystem();
+        this.combatSystem = combatSystem;
+        this.enemyAISystem = enemyAISystem;
+        this.actionValueSystem = new ActionValueSystem(entitySystem);
+    }
+
+    // ===== SIMULATION RESULT CLASS =====
+
+    /**
+     * SimulationResult holds aggregated statistics for a batch of battles.
+     * Damage distributions are stored as histograms indexed by total damage
+     * per battle, so memory does not grow with the number of battles.
+     */
+    public static class SimulationResult {
+        private int battles;
+        private int playerWins;
+        private int enemyWins;
+        private int draws;
+        private long totalTurns;
+        private int maxTurns;
+
+        private int[] damageDealtHistogram = new int[256];  // Player -> enemy, per battle
+        private int[] damageTakenHistogram = new int[256];  // Enemy -> player, per battle
+
+        void record(int winner, int turns, int damageDealt, int damageTaken) {
+            battles++;
+            if (winner == 1) {
+                playerWins++;
+            } else if (winner == -1) {
+                enemyWins++;
+            } else {
+                draws++;
+            }
+
+            totalTurns += turns;
+            maxTurns = Math.max(maxTurns, turns);
+
+            damageDealtHistogram = addToHistogram(damageDealtHistogram, damageDealt);
+            damageTakenHistogram = addToHistogram(damageTakenHistogram, damageTaken);
+        }
+
+        /**
+         * Merge another result into this one.
+         * Lets callers combine results from several simulators.
+         */
+        public void merge(SimulationResult other) {
+            if (other == null) return;
+
+            battles += other.battles;
+            playerWins += other.playerWins;
+            enemyWins += other.enemyWins;
+            draws += other.draws;
+            totalTurns += other.totalTurns;
+            maxTurns = Math.max(maxTurns, other.maxTurns);
+
+            damageDealtHistogram = mergeHistogram(damageDealtHistogram, other.damageDealtHistogram);
+            damageTakenHistogram = mergeHistogram(damageTakenHistogram, other.damageTakenHistogram);
+        }
+
+        private static int[] addToHistogram(int[] histogram, int value) {
+            if (value >= histogram.length) {
+                histogram = Arrays.copyOf(histogram, Math.max(value + 1, histogram.length * 2));
+            }
+            histogram[value]++;
+            return histogram;
+        }
+
+        private static int[] mergeHistogram(int[] target, int[] source) {
+            if (source.length > target.length) {
+                target = Arrays.copyOf(target, source.length);
+            }
+            for (int i = 0; i < source.length; i++) {
+                target[i] += source[i];
+            }
+            return target;
+        }
+
+        private static double histogramMean(int[] histogram, int count) {
+            if (count == 0) return 0.0;
+            long sum = 0;
+            for (int i = 0; i < histogram.length; i++) {
+                sum += (long) i * histogram[i];
+            }
+            return (double) sum / count;
+        }
+
+        private static int histogramPercentile(int[] histogram, int count, double percentile) {
+            if (count == 0) return 0;
+            long target = (long) Math.ceil(Math.max(0.0, Math.min(1.0, percentile)) * count);
+            long seen = 0;
+            for (int i = 0; i < histogram.length; i++) {
+                seen += histogram[i];
+                if (seen >= Math.max(1, target)) {
+                    return i;
+                }
+            }
+            return histogram.length - 1;
+        }
+
+        // Getters
+        public int getBattles() { return battles; }
+        public int getPlayerWins() { return playerWins; }
+        public int getEnemyWins() { return enemyWins; }
+        public int getDraws() { return draws; }
+        public long getTotalTurns() { return totalTurns; }
+        public int getMaxTurns() { return maxTurns; }
+
+        /**
+         * Get player win rate (0.0 to 1.0).
+         */
+        public double getWinRate() {
+            return battles == 0 ? 0.0 : (double) playerWins / battles;
+        }
+
+        /**
+         * Get mean number of turns (actions by either side) per battle.
+         */
+        public double getMeanTurns() {
+            return battles == 0 ? 0.0 : (double) totalTurns / battles;
+        }
+
+        /**
+         * Get mean total damage the player dealt per battle.
+         */
+        public double getMeanDamageDealt() {
+            return histogramMean(damageDealtHistogram, battles);
+        }
+
+        /**
+         * Get mean total damage the player took per battle.
+         */
+        public double getMeanDamageTaken() {
+            return histogramMean(damageTakenHistogram, battles);
+        }
+
+        /**
+         * Get damage-dealt percentile (e.g., 0.5 = median).
+         */
+        public int getDamageDealtPercentile(double percentile) {
+            return histogramPercentile(damageDealtHistogram, battles, percentile);
+        }
+
+        /**
+         * Get damage-taken percentile (e.g., 0.9 = 90th percentile).
+         */
+        public int getDamageTakenPercentile(double percentile) {
+            return histogramPercentile(damageTakenHistogram, battles, percentile);
+        }
+
+        /**
+         * Get copy of damage-dealt histogram.
+         * Index = total damage in one battle, value = number of battles.
+         */
+        public int[] getDamageDealtHistogram() {
+            return damageDealtHistogram.clone();
+        }
+
+        /**
+         * Get copy of damage-taken histogram.
+         */
+        public int[] getDamageTakenHistogram() {
+            return damageTakenHistogram.clone();
+        }
+
+        /**
+         * Get formatted summary for console display.
+         */
+        public String getSummary() {
+            StringBuilder sb = new StringBuilder();
+            sb.append("=== Simulation Results ===\n");
+            sb.append("Battles: ").append(battles).append("\n");
+            sb.append("Win Rate: ").append(String.format("%.2f%%", getWinRate() * 100))
+              .append(" (W ").append(playerWins).append(" / L ").append(enemyWins)
+              .append(" / D ").append(draws).append(")\n");
+            sb.append("Mean Turns: ").append(String.format("%.2f", getMeanTurns()))
+              .append(" (max ").append(maxTurns).append(")\n");
+            sb.append("Damage Dealt: mean ").append(String.format("%.1f", getMeanDamageDealt()))
+              .append(" | p10 ").append(getDamageDealtPercentile(0.1))
+              .append(" | p50 ").append(getDamageDealtPercentile(0.5))
+              .append(" | p90 ").append(getDamageDealtPercentile(0.9)).append("\n");
+            sb.append("Damage Taken: mean ").append(String.format("%.1f", getMeanDamageTaken()))
+              .append(" | p10 ").append(getDamageTakenPercentile(0.1))
+              .append(" | p50 ").append(getDamageTakenPercentile(0.5))
+              .append(" | p90 ").append(getDamageTakenPercentile(0.9)).append("\n");
+            return sb.toString();
+        }
+
+        @Override
+        public String toString() {
+            return getSummary();
+        }
+    }
+
+    // ===== SIMULATION =====
+
+    /**
+     * Simulate N battles between copies of the given templates.
+     * Player uses the skills of their profession.
+     *
+     * @param playerTemplate Player to copy (stats and profession)
+     * @param enemyTemplate Enemy to copy (stats and skills)
+     * @param battles Number of battles to run
+     * @return SimulationResult with aggregated statistics
+     */
+    public SimulationResult simulate(Player playerTemplate, Enemy enemyTemplate, int battles) {
+        if (playerTemplate == null) {
+            throw new IllegalArgumentException("Player template cannot be null");
+        }
+        return simulate(playerTemplate,
+                SkillsData.getSkillsForProfession(playerTemplate.getProfession()),
+                enemyTemplate, battles);
+    }
+
+    /**
+     * Simulate N battles with an explicit player skill set.
+     *
+     * @param playerTemplate Player to copy
+     * @param playerSkills Skills available to the player
+     * @param enemyTemplate Enemy to copy
+     * @param battles Number of battles to run
+     * @return SimulationResult with aggregated statistics
+     */
+    public SimulationResult simulate(Player playerTemplate, Skill[] playerSkills,
+                                     Enemy enemyTemplate, int battles) {
+        if (playerTemplate == null || enemyTemplate == null) {
+            throw new IllegalArgumentException("Templates cannot be null");
+        }
+        if (playerSkills == null) {
+            throw new IllegalArgumentException("Player skills cannot be null");
+        }
+        if (battles < 0) {
+            throw new IllegalArgumentException("Battle count cannot be negative");
+        }
+
+        // Working copies - templates are never touched
+        Player player = copyPlayer(playerTemplate);
+        Enemy enemy = entitySystem.copyEnemy(enemyTemplate);
+
+        SimulationResult result = new SimulationResult();
+        for (int i = 0; i < battles; i++) {
+            runBattle(player, playerSkills, enemy, result);
+        }
+
+        actionValueSystem.endBattle();
+        return result;
+    }
+
+    /**
+     * Run one battle and record it in the result.
+     */
+    private void runBattle(Player player, Skill[] playerSkills, Enemy enemy, SimulationResult result) {
+        combatSystem.prepareBattle(player, enemy);
+        actionValueSystem.initializeBattle(player, enemy);
+
+        int playerStartHP = entitySystem.getCurrentHP(player);
+        int enemyStartHP = entitySystem.getCurrentHP(enemy);
+        int turns = 0;
+
+        while (turns < MAX_TURNS && entitySystem.isAlive(player) && entitySystem.isAlive(enemy)) {
+            if (actionValueSystem.isPlayerTurn()) {
+                cooldownSystem.tickPlayerCooldowns(player);
+                playerTurn(player, playerSkills, enemy);
+            } else {
+                cooldownSystem.tickEnemyCooldowns(enemy);
+                enemyTurn(enemy, player);
+            }
+
+            actionValueSystem.advanceToNextTurn();
+            turns++;
+        }
+
+        int damageDealt = enemyStartHP - entitySystem.getCurrentHP(enemy);
+        int damageTaken = playerStartHP - entitySystem.getCurrentHP(player);
+
+        result.record(combatSystem.getCombatWinner(player, enemy), turns, damageDealt, damageTaken);
+    }
+
+    private void playerTurn(Player player, Skill[] playerSkills, Enemy enemy) {
+        int skillIndex = choosePlayerSkill(player, playerSkills);
+        if (skillIndex < 0) return; // Nothing ready - turn is skipped
+
+        combatSystem.playerAttack(player, enemy, playerSkills[skillIndex], scratchResult);
+    }
+
+    private void enemyTurn(Enemy enemy, Player player) {
+        int skillIndex = enemyAISystem.chooseSkillIndex(enemy, player);
+
+        if (skillIndex < 0) {
+            combatSystem.enemyBasicAttack(enemy, player, scratchResult);
+        } else {
+            combatSystem.enemyAttack(enemy, player, enemy.getSkills()[skillIndex], scratchResult);
+        }
+    }
+
+    // ===== PLAYER POLICY =====
+
+    /**
+     * Choose skill for the simulated player.
+     * Uses highest index ready skill (usually highest damage).
+     *
+     * @param player The player
+     * @param skills Player skills
+     * @return Skill index, or -1 if nothing is ready
+     */
+    public int choosePlayerSkill(Player player, Skill[] skills) {
+        for (int i = skills.length - 1; i >= 0; i--) {
+            if (skillSystem.canUseSkill(player, skills[i])) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    // ===== HELPER METHODS =====
+
+    private Player copyPlayer(Player template) {
+        return entitySystem.createPlayer(
+            template.getName(),
+            template.getProfession(),
+            template.getStats().getStrength(),
+            template.getStats().getAgility(),
+            template.getStats().getIntelligence()
+        );
+    }
+
+    // ===== ACCESSORS =====
+
+    public EntitySystem getEntitySystem() { return entitySystem; }
+    public CombatSystem getCombatSystem() { return combatSystem; }
+    public EnemyAISystem getEnemyAISystem() { return enemyAISystem; }
+    public int getMaxTurns() { return MAX_TURNS; }
+
+    /**
+     * Record every simulated battle into a log (null = stop recording).
+     * Attaches the log to the combat, cooldown and turn order systems.
+     */
+    public void setBattleLog(BattleLog battleLog) {
+        combatSystem.setBattleLog(battleLog);
+        cooldownSystem.setBattleLog(battleLog);
+        actionValueSystem.setBattleLog(battleLog);
+    }
+}
@@ -25,19 +25,28 @@ public class CombatSystem {
     private final EntitySystem entitySystem;
     private final SkillSystem skillSystem;
     private final CooldownSystem cooldownSystem;
+    private final RandomSystem randomSystem;
+    private BattleLog battleLog;   // null = not recording
 
     // Combat constants
     private static final int MIN_HIT_CHANCE = 5;   // Minimum 5% hit chance
     private static final int MAX_HIT_CHANCE = 95;  // Maximum 95% hit chance
+    private static final String BASIC_ATTACK = "Basic Attack";
 
     public CombatSystem(EntitySystem entitySystem, SkillSystem skillSystem, CooldownSystem cooldownSystem) {
-        if (entitySystem == null || skillSystem == null || cooldownSystem == null) {
+        this(entitySystem, skillSystem, cooldownSystem, new RandomSystem());
+    }
+
+    public CombatSystem(EntitySystem entitySystem, SkillSystem skillSystem, CooldownSystem cooldownSystem,
+                        RandomSystem randomSystem) {
+        if (entitySystem == null || skillSystem == null || cooldownSystem == null || randomSystem == null) {
             throw new IllegalArgumentException("All systems must be non-null");
         }
         
         this.entitySystem = entitySystem;
         this.skillSystem = skillSystem;
         this.cooldownSystem = cooldownSystem;
+        this.randomSystem = randomSystem;
     }
 
     // ===== COMBAT RESULT CLASS =====
@@ -45,25 +54,71 @@ public class CombatSystem {
     /**
      * CombatResult holds the outcome of a combat action.
      * Perfect for GUI display - contains all relevant information.
+     *
+     * Reusable: Bulk callers (simulators, AI search) can create one result with
+     * the no-arg constructor and pass it to the attack methods that take a
+     * result parameter. It is overwritten on every call, so no garbage per attack.
+     *
+     * Lazy Message: The attack methods only record what happened. The
+     * human-readable text is built the first time getMessage() is called.
      */
     public static class CombatResult {
-        private final boolean success;      // Was the action successful?
-        private final boolean hit;          // Did the attack hit? (false if missed)
-        private final int damageDealt;      // Actual damage dealt
-        private final String attackerName;  // Who attacked
-        private final String targetName;    // Who was targeted
-        private final String skillName;     // Skill used
-        private final String message;       // Human-readable message
+
+        // What kind of message to build (lazy)
+        private static final int MSG_TEXT = 0;            // Message given up front
+        private static final int MSG_HIT = 1;             // "X used S and dealt D damage to T!"
+        private static final int MSG_MISS = 2;            // "X used S but missed T!"
+        private static final int MSG_CANNOT_USE = 3;      // "X cannot use S (reason)"
+        private static final int MSG_TARGET_DEFEATED = 4; // "T is already defeated"
+
+        private boolean success;      // Was the action successful?
+        private boolean hit;          // Did the attack hit? (false if missed)
+        private int damageDealt;      // Actual damage dealt
+        private String attackerName;  // Who attacked
+        private String targetName;    // Who was targeted
+        private String skillName;     // Skill used
+        private String message;       // Human-readable message (null = not built yet)
+
+        private int messageKind;
+        private String reason;        // Only for MSG_CANNOT_USE
+
+        /**
+         * Empty result, for reuse with the result-taking attack methods.
+         */
+        public CombatResult() {
+            set(false, false, 0, "Unknown", "Unknown", "Unknown", MSG_TEXT, null);
+            this.message = "";
+        }
 
         public CombatResult(boolean success, boolean hit, int damageDealt, 
                            String attackerName, String targetName, String skillName, String message) {
+            set(success, hit, damageDealt, attackerName, targetName, skillName, MSG_TEXT, null);
+            this.message = message;
+        }
+
+        /**
+         * Overwrite every field. Message is dropped and rebuilt on demand.
+         */
+        private CombatResult set(boolean success, boolean hit, int damageDealt,
+                                 String attackerName, String targetName, String skillName,
+                                 int messageKind, String reason) {
             this.success = success;
             this.hit = hit;
             this.damageDealt = damageDealt;
             this.attackerName = attackerName;
             this.targetName = targetName;
             this.skillName = skillName;
+            this.messageKind = messageKind;
+            this.reason = reason;
+            this.message = null;
+            return this;
+        }
+
+        private CombatResult setText(boolean success, String attackerName, String targetName,
+                                     String skillName, String message) {
+            set(success, false, 0, attackerName, targetName, skillName, MSG_TEXT, null);
             this.message = message;
+            return this;
         }
 
         // Getters
@@ -73,11 +128,32 @@ public class CombatSystem {
         public String getAttackerName() { return attackerName; }
         public String getTargetName() { return targetName; }
         public String getSkillName() { return skillName; }
-        public String getMessage() { return message; }
+
+        public String getMessage() {
+            if (message == null) {
+                message = buildMessage();
+            }
+            return message;
+        }
+
+        private String buildMessage() {
+            switch (messageKind) {
+                case MSG_HIT:
+                    return attackerName + " used " + skillName + " and dealt " + damageDealt + " damage to " + targetName + "!";
+                case MSG_MISS:
+                    return attackerName + " used " + skillName + " but missed " + targetName + "!";
+                case MSG_CANNOT_USE:
+                    return attackerName + " cannot use " + skillName + " (" + reason + ")";
+                case MSG_TARGET_DEFEATED:
+                    return targetName + " is already defeated";
+                default:
+                    return "";
+            }
+        }
 
         @Override
         public String toString() {
-            return message;
+            return getMessage();
         }
     }
 
@@ -93,10 +169,22 @@ public class CombatSystem {
      * @return CombatResult with all combat information
      */
     public CombatResult playerAttack(Player player, Enemy enemy, Skill skill) {
+        return playerAttack(player, enemy, skill, new CombatResult());
+    }
+
+    /**
+     * Player attacks enemy with a skill, writing the outcome into a reusable result.
+     *
+     * @param player The attacking player
+     * @param enemy The target enemy
+     * @param skill The skill to use
+     * @param result Result to overwrite
+     * @return The same result object
+     */
+    public CombatResult playerAttack(Player player, Enemy enemy, Skill skill, CombatResult result) {
         // Validation
         if (player == null || enemy == null || skill == null) {
-            return new CombatResult(false, false, 0, "Unknown", "Unknown", "Unknown", 
-                "Invalid combat action");
+            return result.setText(false, "Unknown", "Unknown", "Unknown", "Invalid combat action");
         }
 
         String playerName = player.getName();
@@ -108,14 +196,14 @@ public class CombatSystem {
             String reason = !skillSystem.matchesProfession(player, skill) 
                 ? "Wrong profession" 
                 : "Skill on cooldown";
-            return new CombatResult(false, false, 0, playerName, enemyName, skillName,
-                playerName + " cannot use " + skillName + " (" + reason + ")");
+            return result.set(false, false, 0, playerName, enemyName, skillName,
+                CombatResult.MSG_CANNOT_USE, reason);
         }
 
         // Check if enemy is alive
         if (!entitySystem.isAlive(enemy)) {
-            return new CombatResult(false, false, 0, playerName, enemyName, skillName,
-                enemyName + " is already defeated");
+            return result.set(false, false, 0, playerName, enemyName, skillName,
+                CombatResult.MSG_TARGET_DEFEATED, null);
         }
 
         // Calculate hit chance
@@ -124,23 +212,21 @@ public class CombatSystem {
         boolean hit = attemptHit(accuracy, evasion);
 
         int damage = 0;
-        String message;
-
         if (hit) {
             // Hit: calculate and apply damage
             damage = skillSystem.calculateDamage(player, skill);
             entitySystem.applyDamage(enemy, damage);
-            message = playerName + " used " + skillName + " and dealt " + damage + " damage to " + enemyName + "!";
-        } else {
-            // Miss: no damage
-            damage = 0;
-            message = playerName + " used " + skillName + " but missed " + enemyName + "!";
         }
 
         // Apply cooldown (regardless of hit/miss)
         cooldownSystem.applySkillCooldown(player, skill);
 
-        return new CombatResult(true, hit, damage, playerName, enemyName, skillName, message);
+        if (battleLog != null) {
+            battleLog.attack(BattleLog.PLAYER, skill, hit, damage);
+        }
+
+        return result.set(true, hit, damage, playerName, enemyName, skillName,
+            hit ? CombatResult.MSG_HIT : CombatResult.MSG_MISS, null);
     }
 
     /**
@@ -154,8 +240,23 @@ public class CombatSystem {
      * @return CombatResult
      */
     public CombatResult playerAttack(Player player, Enemy enemy, Skill[] skills, int skillIndex) {
+        return playerAttack(player, enemy, skills, skillIndex, new CombatResult());
+    }
+
+    /**
+     * Player attacks enemy with skill by index, writing into a reusable result.
+     *
+     * @param player The attacking player
+     * @param enemy The target enemy
+     * @param skills Array of player skills
+     * @param skillIndex Index of skill to use
+     * @param result Result to overwrite
+     * @return The same result object
+     */
+    public CombatResult playerAttack(Player player, Enemy enemy, Skill[] skills, int skillIndex,
+                                     CombatResult result) {
         if (!skillSystem.isValidSkillIndex(skills, skillIndex)) {
-            return new CombatResult(false, false, 0, 
+            return result.setText(false,
                 player != null ? player.getName() : "Unknown",
                 enemy != null ? enemy.getName() : "Unknown",
                 "Unknown",
@@ -163,7 +264,7 @@ public class CombatSystem {
         }
 
         Skill skill = skills[skillIndex];
-        return playerAttack(player, enemy, skill);
+        return playerAttack(player, enemy, skill, result);
     }
 
     // ===== ENEMY ATTACKS =====
@@ -177,10 +278,22 @@ public class CombatSystem {
      * @return CombatResult
      */
     public CombatResult enemyAttack(Enemy enemy, Player player, Skill skill) {
+        return enemyAttack(enemy, player, skill, new CombatResult());
+    }
+
+    /**
+     * Enemy attacks player with a skill, writing into a reusable result.
+     *
+     * @param enemy The attacking enemy
+     * @param player The target player
+     * @param skill The skill to use
+     * @param result Result to overwrite
+     * @return The same result object
+     */
+    public CombatResult enemyAttack(Enemy enemy, Player player, Skill skill, CombatResult result) {
         // Validation
         if (enemy == null || player == null || skill == null) {
-            return new CombatResult(false, false, 0, "Unknown", "Unknown", "Unknown",
-                "Invalid combat action");
+            return result.setText(false, "Unknown", "Unknown", "Unknown", "Invalid combat action");
         }
 
         String enemyName = enemy.getName();
@@ -189,14 +302,14 @@ public class CombatSystem {
 
         // Check if enemy can use skill
         if (!skillSystem.canUseSkill(enemy, skill)) {
-            return new CombatResult(false, false, 0, enemyName, playerName, skillName,
-                enemyName + " cannot use " + skillName + " (on cooldown)");
+            return result.set(false, false, 0, enemyName, playerName, skillName,
+                CombatResult.MSG_CANNOT_USE, "on cooldown");
         }
 
         // Check if player is alive
         if (!entitySystem.isAlive(player)) {
-            return new CombatResult(false, false, 0, enemyName, playerName, skillName,
-                playerName + " is already defeated");
+            return result.set(false, false, 0, enemyName, playerName, skillName,
+                CombatResult.MSG_TARGET_DEFEATED, null);
         }
 
         // Calculate hit chance
@@ -205,23 +318,21 @@ public class CombatSystem {
         boolean hit = attemptHit(accuracy, evasion);
 
         int damage = 0;
-        String message;
-
         if (hit) {
             // Hit: calculate and apply damage
             damage = skillSystem.calculateDamage(enemy, skill);
             entitySystem.applyDamage(player, damage);
-            message = enemyName + " used " + skillName + " and dealt " + damage + " damage to " + playerName + "!";
-        } else {
-            // Miss: no damage
-            damage = 0;
-            message = enemyName + " used " + skillName + " but missed " + playerName + "!";
         }
 
         // Apply cooldown
         cooldownSystem.applySkillCooldown(enemy, skill);
 
-        return new CombatResult(true, hit, damage, enemyName, playerName, skillName, message);
+        if (battleLog != null) {
+            battleLog.attack(BattleLog.ENEMY, skill, hit, damage);
+        }
+
+        return result.set(true, hit, damage, enemyName, playerName, skillName,
+            hit ? CombatResult.MSG_HIT : CombatResult.MSG_MISS, null);
     }
 
     /**
@@ -233,9 +344,20 @@ public class CombatSystem {
      * @return CombatResult
      */
     public CombatResult enemyBasicAttack(Enemy enemy, Player player) {
+        return enemyBasicAttack(enemy, player, new CombatResult());
+    }
+
+    /**
+     * Enemy basic attack, writing into a reusable result.
+     *
+     * @param enemy The attacking enemy
+     * @param player The target player
+     * @param result Result to overwrite
+     * @return The same result object
+     */
+    public CombatResult enemyBasicAttack(Enemy enemy, Player player, CombatResult result) {
         if (enemy == null || player == null) {
-            return new CombatResult(false, false, 0, "Unknown", "Unknown", "Basic Attack",
-                "Invalid combat action");
+            return result.setText(false, "Unknown", "Unknown", BASIC_ATTACK, "Invalid combat action");
         }
 
         String enemyName = enemy.getName();
@@ -243,8 +365,8 @@ public class CombatSystem {
 
         // Check if player is alive
         if (!entitySystem.isAlive(player)) {
-            return new CombatResult(false, false, 0, enemyName, playerName, "Basic Attack",
-                playerName + " is already defeated");
+            return result.set(false, false, 0, enemyName, playerName, BASIC_ATTACK,
+                CombatResult.MSG_TARGET_DEFEATED, null);
         }
 
         // Calculate hit chance
@@ -253,18 +375,18 @@ public class CombatSystem {
         boolean hit = attemptHit(accuracy, evasion);
 
         int damage = 0;
-        String message;
-
         if (hit) {
             // Basic attack damage = strength only
             damage = enemy.getStats().getStrength();
             entitySystem.applyDamage(player, damage);
-            message = enemyName + " used Basic Attack and dealt " + damage + " damage to " + playerName + "!";
-        } else {
-            message = enemyName + " used Basic Attack but missed " + playerName + "!";
         }
 
-        return new CombatResult(true, hit, damage, enemyName, playerName, "Basic Attack", message);
+        if (battleLog != null) {
+            battleLog.attack(BattleLog.ENEMY, null, hit, damage);
+        }
+
+        return result.set(true, hit, damage, enemyName, playerName, BASIC_ATTACK,
+            hit ? CombatResult.MSG_HIT : CombatResult.MSG_MISS, null);
     }
 
     // ===== HIT CALCULATION =====
@@ -281,7 +403,7 @@ public class CombatSystem {
         int hitChance = accuracy - evasion;
         hitChance = Math.max(MIN_HIT_CHANCE, Math.min(MAX_HIT_CHANCE, hitChance));
         
-        int roll = (int)(Math.random() * 100) + 1; // 1-100
+        int roll = randomSystem.rollPercent(); // 1-100
         return roll <= hitChance;
     }
 
@@ -394,6 +516,10 @@ public class CombatSystem {
     public void prepareBattle(Player player, Enemy enemy) {
         entitySystem.prepareBattle(player, enemy);
         cooldownSystem.resetAllCooldowns(player, enemy);
+
+        if (battleLog != null) {
+            battleLog.battleStart(player, enemy);
+        }
     }
 
     // ===== DAMAGE PREVIEW =====
@@ -472,5 +598,12 @@ public class CombatSystem {
     public EntitySystem getEntitySystem() { return entitySystem; }
     public SkillSystem getSkillSystem() { return skillSystem; }
     public CooldownSystem getCooldownSystem() { return cooldownSystem; }
+    public RandomSystem getRandomSystem() { return randomSystem; }
+
+    /**
+     * Record attacks and battle starts into a log (null = stop recording).
+     */
+    public void setBattleLog(BattleLog battleLog) { this.battleLog = battleLog; }
+    public BattleLog getBattleLog() { return battleLog; }
     
 }
\ No newline at end of file
@@ -27,6 +27,8 @@ import game.core.Skill;
  */
 public class CooldownSystem {
 
+    private BattleLog battleLog;   // null = not recording
+
     // ===== SKILL READINESS =====
 
     /**
@@ -177,6 +179,7 @@ public class CooldownSystem {
         // Skills with no base cooldown stay at 0
         if (baseCooldown == 0) {
             player.setSkillCooldown(skill, 0);
+            if (battleLog != null) battleLog.cooldown(BattleLog.PLAYER, skill, 0);
             return;
         }
         
@@ -185,6 +188,7 @@ public class CooldownSystem {
         int finalCooldown = Math.max(1, baseCooldown - cdr);
         
         player.setSkillCooldown(skill, finalCooldown);
+        if (battleLog != null) battleLog.cooldown(BattleLog.PLAYER, skill, finalCooldown);
     }
 
     /**
@@ -202,6 +206,7 @@ public class CooldownSystem {
         // Skills with no base cooldown stay at 0
         if (baseCooldown == 0) {
             enemy.setSkillCooldown(skill, 0);
+            if (battleLog != null) battleLog.cooldown(BattleLog.ENEMY, skill, 0);
             return;
         }
         
@@ -210,6 +215,7 @@ public class CooldownSystem {
         int finalCooldown = Math.max(1, baseCooldown - cdr);
         
         enemy.setSkillCooldown(skill, finalCooldown);
+        if (battleLog != null) battleLog.cooldown(BattleLog.ENEMY, skill, finalCooldown);
     }
 
     /**
@@ -223,6 +229,7 @@ public class CooldownSystem {
     public void setSkillCooldown(Player player, Skill skill, int cooldown) {
         if (player == null || skill == null) return;
         player.setSkillCooldown(skill, cooldown);
+        if (battleLog != null) battleLog.cooldown(BattleLog.PLAYER, skill, cooldown);
     }
 
     /**
@@ -235,6 +242,7 @@ public class CooldownSystem {
     public void setSkillCooldown(Enemy enemy, Skill skill, int cooldown) {
         if (enemy == null || skill == null) return;
         enemy.setSkillCooldown(skill, cooldown);
+        if (battleLog != null) battleLog.cooldown(BattleLog.ENEMY, skill, cooldown);
     }
 
     // ===== TICKING COOLDOWNS =====
@@ -250,6 +258,7 @@ public class CooldownSystem {
     public void tickPlayerCooldowns(Player player) {
         if (player == null) return;
         player.tickAllCooldowns();
+        if (battleLog != null) battleLog.tick(BattleLog.PLAYER);
     }
 
     /**
@@ -260,6 +269,7 @@ public class CooldownSystem {
     public void tickEnemyCooldowns(Enemy enemy) {
         if (enemy == null) return;
         enemy.tickAllCooldowns();
+        if (battleLog != null) battleLog.tick(BattleLog.ENEMY);
     }
 
     /**
@@ -290,6 +300,7 @@ public class CooldownSystem {
     public void resetPlayerCooldowns(Player player) {
         if (player == null) return;
         player.resetAllCooldowns();
+        if (battleLog != null) battleLog.reset(BattleLog.PLAYER);
     }
 
     /**
@@ -300,6 +311,7 @@ public class CooldownSystem {
     public void resetEnemyCooldowns(Enemy enemy) {
         if (enemy == null) return;
         enemy.resetAllCooldowns();
+        if (battleLog != null) battleLog.reset(BattleLog.ENEMY);
     }
 
     /**
@@ -510,4 +522,12 @@ public class CooldownSystem {
     public boolean canManageCooldowns(Player player, Enemy enemy) {
         return player != null && enemy != null;
     }
+
+    // ===== BATTLE LOG =====
+
+    /**
+     * Record cooldown changes into a log (null = stop recording).
+     */
+    public void setBattleLog(BattleLog battleLog) { this.battleLog = battleLog; }
+    public BattleLog getBattleLog() { return battleLog; }
 }
\ No newline at end of file
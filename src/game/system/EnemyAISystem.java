@@ -2,11 +2,18 @@ package game.system;
 
 import game.core.Enemy;
 import game.core.Player;
+import game.core.AIRules;
 import game.core.Skill;
+import game.core.StatSnapshot;
+import game.data.Catalog;
 
 /**
  * EnemyAISystem handles enemy decision-making during combat.
  * Each enemy type has a unique AI strategy for skill selection.
+ *
+ * Data-Driven: Strategies are AI rule tables from the data catalog
+ * (see AIRules and CatalogLoader for the rule format). Enemies without
+ * rules use the default AI (highest ready skill).
  * 
  * Enemy AI Strategies:
  * - Killer Bunny: Aggressive burst - always uses highest damage available skill
@@ -19,7 +26,15 @@ import game.core.Skill;
  * - Provide AI intent prediction (what enemy will do)
  * - Query AI information
  * 
- * Design: Stateless decision system - makes decisions based on current state.
+ * Decision Cache: The last chooseSkill answer (and execute check) is kept
+ * until the enemy's stats or cooldowns, or the player's stats, change.
+ * One UI refresh asks for intent, threat and execute - the AI runs once.
+ * Keyed on Stat/cooldown version counters, so damage, healing, training,
+ * cooldown use and the cooldown tick at each turn all invalidate it.
+ * 
+ * Design: Decisions depend only on current state; the cache is the only
+ * mutable field (one per battle - not thread-safe). chooseSkillIndex skips
+ * the cache, so simulators sharing an instance are unaffected.
  * GUI-Friendly: Returns simple indices and provides intent descriptions.
  */
 public class EnemyAISystem {
@@ -28,6 +43,16 @@ public class EnemyAISystem {
     private final SkillSystem skillSystem;
     private final CooldownSystem cooldownSystem;
 
+    // Decision cache - valid while all four keys match (see isCacheValid)
+    private Enemy cachedEnemy;
+    private Player cachedPlayer;
+    private int cachedEnemyStatVersion;
+    private int cachedEnemyCooldownVersion;
+    private int cachedPlayerStatVersion;
+    private AIDecision cachedDecision;       // null = not computed for this state
+    private boolean cachedExecuteKnown;
+    private Skill cachedExecuteSkill;        // null = no execute available
+
     public EnemyAISystem(EntitySystem entitySystem, SkillSystem skillSystem, CooldownSystem cooldownSystem) {
         if (entitySystem == null || skillSystem == null || cooldownSystem == null) {
             throw new IllegalArgumentException("All systems must be non-null");
@@ -72,7 +97,7 @@ public class EnemyAISystem {
 
     /**
      * Choose which skill the enemy should use.
-     * Routes to specific AI based on enemy type.
+     * Runs the enemy's AI rule table (or the default AI).
      * 
      * @param enemy The enemy choosing
      * @param player The player target
@@ -83,259 +108,201 @@ public class EnemyAISystem {
             return new AIDecision(-1, "Basic Attack", "Invalid state", true);
         }
 
-        if (!enemy.hasSkills()) {
-            return new AIDecision(-1, "Basic Attack", "No skills available", true);
+        syncCache(enemy, player);
+        if (cachedDecision == null) {
+            cachedDecision = decide(enemy, entitySystem.getCurrentHP(player), entitySystem.getMaxHP(player));
         }
+        return cachedDecision;
+    }
 
-        String enemyName = enemy.getName();
-        Skill[] skills = enemy.getSkills();
-
-        // Route to specific AI
-        if (enemyName.equalsIgnoreCase("Killer Bunny")) {
-            return killerBunnyAI(enemy, player, skills);
-        } else if (enemyName.equalsIgnoreCase("Minotaur")) {
-            return minotaurAI(enemy, player, skills);
-        } else if (enemyName.equalsIgnoreCase("Mindflayer")) {
-            return mindflayerAI(enemy, player, skills);
+    /**
+     * Choose a skill as if the player had the given stats.
+     * What-if version of chooseSkill - no player entity needed, nothing is mutated.
+     * Enemy cooldowns are still read from the enemy.
+     *
+     * @param enemy The enemy choosing
+     * @param playerStats Hypothetical player stats (HP and max HP are what the AI reads)
+     * @return AIDecision with skill choice and reasoning
+     */
+    public AIDecision chooseSkill(Enemy enemy, StatSnapshot playerStats) {
+        if (enemy == null || playerStats == null) {
+            return new AIDecision(-1, "Basic Attack", "Invalid state", true);
         }
 
-        // Default AI
-        return defaultAI(enemy, skills);
+        return decide(enemy, playerStats.getHp(), playerStats.getMaxHp());
     }
 
     /**
      * Get the skill index the enemy will use (simplified method).
      * Returns -1 for basic attack.
+     * Allocation-free: same choice as chooseSkill, without building an AIDecision.
      * 
      * @param enemy The enemy
      * @param player The player
      * @return Skill index or -1
      */
     public int chooseSkillIndex(Enemy enemy, Player player) {
-        AIDecision decision = chooseSkill(enemy, player);
-        return decision.getSkillIndex();
+        if (enemy == null || player == null) return -1;
+        return decideIndex(enemy, entitySystem.getCurrentHP(player), entitySystem.getMaxHP(player));
     }
 
-    // ===== KILLER BUNNY AI =====
-
     /**
-     * Killer Bunny AI: Aggressive Burst Damage
-     * 
-     * Strategy: Always tries to use the highest damage skill available.
-     * Priority: Ultimate (2) > 2nd Skill (1) > Basic (0)
-     * 
-     * Behavior:
-     * - Extremely aggressive, no tactical thinking
-     * - Maximizes damage output every turn
-     * - Simple but deadly if unchecked
+     * Skill index for a hypothetical player state. Returns -1 for basic attack.
+     *
+     * @param enemy The enemy
+     * @param playerStats Hypothetical player stats
+     * @return Skill index or -1
      */
-    private AIDecision killerBunnyAI(Enemy enemy, Player player, Skill[] skills) {
-        // Try ultimate first (highest damage)
-        if (skills.length > 2 && cooldownSystem.isSkillReady(enemy, skills[2])) {
-            return new AIDecision(2, skills[2].getName(), 
-                "Maximum burst damage", false);
-        }
-
-        // Try 2nd skill
-        if (skills.length > 1 && cooldownSystem.isSkillReady(enemy, skills[1])) {
-            return new AIDecision(1, skills[1].getName(), 
-                "High damage attack", false);
-        }
-
-        // Fall back to basic attack
-        if (skills.length > 0 && cooldownSystem.isSkillReady(enemy, skills[0])) {
-            return new AIDecision(0, skills[0].getName(), 
-                "Basic attack", false);
-        }
-
-        // All skills on cooldown
-        return new AIDecision(-1, "Basic Attack", 
-            "All skills on cooldown", true);
+    public int chooseSkillIndex(Enemy enemy, StatSnapshot playerStats) {
+        if (enemy == null || playerStats == null) return -1;
+        return decideIndex(enemy, playerStats.getHp(), playerStats.getMaxHp());
     }
 
-    // ===== MINOTAUR AI =====
+    // ===== DECISION CACHE =====
 
     /**
-     * Minotaur AI: Strategic Execute
-     * 
-     * Strategy: Uses ultimate strategically for maximum impact.
-     * - First turn: ALWAYS use ultimate (intimidation + pressure)
-     * - If ultimate can kill: Use it (execute)
-     * - Otherwise: Conservative rotation (2nd skill > basic)
-     * 
-     * Behavior:
-     * - Patient and calculating
-     * - Saves ultimate for guaranteed kills
-     * - Opens with ultimate for psychological advantage
+     * Drop the cached decision.
+     * Not needed for HP, stat or cooldown changes (versions catch those) -
+     * only if something else the AI reads was swapped out.
      */
-    private AIDecision minotaurAI(Enemy enemy, Player player, Skill[] skills) {
-        if (skills.length < 3) return defaultAI(enemy, skills);
+    public void invalidateCache() {
+        cachedEnemy = null;
+        cachedPlayer = null;
+        cachedDecision = null;
+        cachedExecuteKnown = false;
+        cachedExecuteSkill = null;
+    }
 
-        Skill ultimate = skills[2];
-        Skill secondSkill = skills[1];
-        Skill basic = skills[0];
+    private boolean isCacheValid(Enemy enemy, Player player) {
+        return enemy == cachedEnemy && player == cachedPlayer
+            && enemy.getStats().getVersion() == cachedEnemyStatVersion
+            && enemy.getCooldownVersion() == cachedEnemyCooldownVersion
+            && player.getStats().getVersion() == cachedPlayerStatVersion;
+    }
 
-        boolean ultimateReady = cooldownSystem.isSkillReady(enemy, ultimate);
+    /**
+     * Re-key the cache to the current state, dropping answers if anything changed.
+     */
+    private void syncCache(Enemy enemy, Player player) {
+        if (isCacheValid(enemy, player)) return;
+
+        cachedEnemy = enemy;
+        cachedPlayer = player;
+        cachedEnemyStatVersion = enemy.getStats().getVersion();
+        cachedEnemyCooldownVersion = enemy.getCooldownVersion();
+        cachedPlayerStatVersion = player.getStats().getVersion();
+        cachedDecision = null;
+        cachedExecuteKnown = false;
+        cachedExecuteSkill = null;
+    }
 
-        if (ultimateReady) {
-            // Calculate if ultimate can kill
-            int ultimateDamage = skillSystem.calculateDamage(enemy, ultimate);
-            int playerHP = entitySystem.getCurrentHP(player);
+    // ===== RULE EVALUATION =====
 
-            // Use ultimate if it can kill
-            if (ultimateDamage >= playerHP) {
-                return new AIDecision(2, ultimate.getName(), 
-                    "Execute! (" + ultimateDamage + " damage >= " + playerHP + " HP)", false);
-            }
-
-            // First turn logic: use ultimate if player at full HP
-            if (playerHP == entitySystem.getMaxHP(player)) {
-                return new AIDecision(2, ultimate.getName(), 
-                    "Opening intimidation strike", false);
-            }
+    /**
+     * Full decision with reasoning text.
+     */
+    private AIDecision decide(Enemy enemy, int playerHP, int playerMaxHP) {
+        if (!enemy.hasSkills()) {
+            return new AIDecision(-1, "Basic Attack", "No skills available", true);
         }
 
-        // Conservative rotation: 2nd skill if available
-        if (cooldownSystem.isSkillReady(enemy, secondSkill)) {
-            return new AIDecision(1, secondSkill.getName(), 
-                "Steady pressure", false);
+        Skill[] skills = enemy.getSkills();
+        AIRules rules = rulesFor(enemy);
+        if (rules == null) {
+            return defaultAI(enemy, skills);
         }
 
-        // Basic attack
-        if (cooldownSystem.isSkillReady(enemy, basic)) {
-            return new AIDecision(0, basic.getName(), 
-                "Waiting for ultimate", false);
+        int rule = matchRule(rules, enemy, skills, playerHP, playerMaxHP);
+        if (rule < 0) {
+            return new AIDecision(-1, "Basic Attack", "All skills on cooldown", true);
         }
 
-        // Fallback
-        return new AIDecision(-1, "Basic Attack", 
-            "All skills on cooldown", true);
+        int use = rules.getUse(rule);
+        if (use == AIRules.BASIC_ATTACK) {
+            return new AIDecision(-1, "Basic Attack", rules.getReason(rule), true);
+        }
+        return new AIDecision(use, skills[use].getName(),
+            formatReason(rules.getReason(rule), skillSystem.calculateDamage(enemy, skills[use]), playerHP), false);
     }
 
-    // ===== MINDFLAYER AI =====
-
     /**
-     * Mindflayer AI: Adaptive Intelligence
-     * 
-     * Strategy: Adjusts aggression based on player HP percentage.
-     * 
-     * High HP Phase (>70%): Conservative
-     * - Uses 2nd skill for poke damage
-     * - Saves ultimate for later
-     * - Only uses ultimate if 2nd skill unavailable
-     * 
-     * Medium HP Phase (40-70%): Calculated
-     * - Looks for ultimate combo opportunities
-     * - Prefers 2nd skill for steady damage
-     * - Uses ultimate if it sets up finish
-     * 
-     * Low HP Phase (<40%): Aggressive Finisher
-     * - Prioritizes ultimate for kill
-     * - Spams high damage skills
-     * - Goes all-in for the finish
-     * 
-     * Behavior:
-     * - Most intelligent AI
-     * - Adapts strategy dynamically
-     * - Plans ahead for kill combos
+     * Same choice as decide(), index only - no allocation.
      */
-    private AIDecision mindflayerAI(Enemy enemy, Player player, Skill[] skills) {
-        if (skills.length < 3) return defaultAI(enemy, skills);
-
-        Skill ultimate = skills[2];
-        Skill secondSkill = skills[1];
-        Skill basic = skills[0];
+    private int decideIndex(Enemy enemy, int playerHP, int playerMaxHP) {
+        if (!enemy.hasSkills()) return -1;
 
-        // Calculate HP percentage
-        int playerHP = entitySystem.getCurrentHP(player);
-        int playerMaxHP = entitySystem.getMaxHP(player);
-        double hpPercent = (double) playerHP / playerMaxHP;
-
-        // Calculate potential damages
-        int ultimateDamage = skillSystem.calculateDamage(enemy, ultimate);
-        int secondDamage = skillSystem.calculateDamage(enemy, secondSkill);
-
-        boolean ultimateReady = cooldownSystem.isSkillReady(enemy, ultimate);
-        boolean secondReady = cooldownSystem.isSkillReady(enemy, secondSkill);
-
-        // === LOW HP PHASE: Aggressive Finisher (<40%) ===
-        if (hpPercent < 0.4) {
-            // Try to finish with ultimate
-            if (ultimateReady) {
-                if (ultimateDamage >= playerHP) {
-                    return new AIDecision(2, ultimate.getName(), 
-                        "Lethal: " + ultimateDamage + " damage for kill!", false);
-                } else {
-                    return new AIDecision(2, ultimate.getName(), 
-                        "Maximum damage - going for kill", false);
-                }
-            }
+        Skill[] skills = enemy.getSkills();
+        AIRules rules = rulesFor(enemy);
+        if (rules == null) {
+            return defaultIndex(enemy, skills);
+        }
 
-            // Use 2nd skill for high damage
-            if (secondReady) {
-                return new AIDecision(1, secondSkill.getName(), 
-                    "High damage pressure", false);
-            }
+        int rule = matchRule(rules, enemy, skills, playerHP, playerMaxHP);
+        return rule < 0 ? -1 : rules.getUse(rule);
+    }
 
-            // Spam basic
-            if (cooldownSystem.isSkillReady(enemy, basic)) {
-                return new AIDecision(0, basic.getName(), 
-                    "Waiting for cooldowns", false);
+    /**
+     * Find the first rule whose conditions hold.
+     *
+     * @return Rule index, or -1 if none matches
+     */
+    private int matchRule(AIRules rules, Enemy enemy, Skill[] skills, int playerHP, int playerMaxHP) {
+        int readyMask = 0;
+        for (int i = 0; i < skills.length && i < AIRules.MAX_SKILL_SLOTS; i++) {
+            if (cooldownSystem.isSkillReady(enemy, skills[i])) {
+                readyMask |= 1 << i;
             }
         }
+        double hpPercent = (double) playerHP / playerMaxHP;
 
-        // === MEDIUM HP PHASE: Calculated Aggression (40-70%) ===
-        if (hpPercent < 0.7) {
-            // Check if ultimate can set up kill combo
-            if (ultimateReady) {
-                int remainingHP = playerHP - ultimateDamage;
-                if (remainingHP > 0 && remainingHP < secondDamage * 2) {
-                    return new AIDecision(2, ultimate.getName(), 
-                        "Setting up kill combo", false);
-                }
-            }
+        for (int r = 0; r < rules.getRuleCount(); r++) {
+            int required = rules.getReadyMask(r);
+            if ((readyMask & required) != required) continue;
+            if ((readyMask & rules.getCooldownMask(r)) != 0) continue;
 
-            // Prefer 2nd skill for steady pressure
-            if (secondReady) {
-                return new AIDecision(1, secondSkill.getName(), 
-                    "Steady damage buildup", false);
-            }
+            double hpBelow = rules.getHpBelow(r);
+            if (hpBelow != AIRules.NO_HP_LIMIT && !(hpPercent < hpBelow)) continue;
 
-            // Use ultimate if 2nd skill on cooldown
-            if (ultimateReady) {
-                return new AIDecision(2, ultimate.getName(), 
-                    "Efficient cooldown usage", false);
-            }
+            int flags = rules.getFlags(r);
+            if (flags != 0) {
+                if ((flags & AIRules.HP_FULL) != 0 && playerHP != playerMaxHP) continue;
 
-            // Basic filler
-            if (cooldownSystem.isSkillReady(enemy, basic)) {
-                return new AIDecision(0, basic.getName(), 
-                    "Efficient resource management", false);
-            }
-        }
+                if ((flags & (AIRules.LETHAL | AIRules.SETS_UP_KILL)) != 0) {
+                    int damage = skillSystem.calculateDamage(enemy, skills[rules.getUse(r)]);
+                    if ((flags & AIRules.LETHAL) != 0 && damage < playerHP) continue;
 
-        // === HIGH HP PHASE: Conservative Poke (>70%) ===
-        // Use 2nd skill for poke damage
-        if (secondReady) {
-            return new AIDecision(1, secondSkill.getName(), 
-                "Efficient poke damage", false);
+                    if ((flags & AIRules.SETS_UP_KILL) != 0) {
+                        int remainingHP = playerHP - damage;
+                        int finisherDamage = skillSystem.calculateDamage(enemy, skills[rules.getFinisher(r)]);
+                        if (remainingHP <= 0 || remainingHP >= finisherDamage * rules.getHits(r)) continue;
+                    }
+                }
+            }
+            return r;
         }
+        return -1;
+    }
 
-        // Use ultimate if 2nd unavailable (don't waste it sitting ready)
-        if (ultimateReady && !secondReady) {
-            return new AIDecision(2, ultimate.getName(), 
-                "Avoiding wasted cooldown uptime", false);
+    /**
+     * Rules attached to the enemy, else the catalog entry with its name.
+     * Null = default AI (also when the enemy has fewer skills than the rules need).
+     */
+    private AIRules rulesFor(Enemy enemy) {
+        AIRules rules = enemy.getAIRules();
+        if (rules == null) {
+            Catalog.EnemyEntry entry = Catalog.getDefault().findEnemy(enemy.getName());
+            rules = entry != null ? entry.getAIRules() : null;
         }
-
-        // Default to basic
-        if (cooldownSystem.isSkillReady(enemy, basic)) {
-            return new AIDecision(0, basic.getName(), 
-                "Conservative approach", false);
+        if (rules != null && rules.getMaxSkillIndex() >= enemy.getSkills().length) {
+            return null;
         }
+        return rules;
+    }
 
-        // Fallback
-        return new AIDecision(-1, "Basic Attack", 
-            "All skills on cooldown", true);
+    private String formatReason(String reason, int damage, int playerHP) {
+        if (reason.indexOf('{') < 0) return reason;
+        return reason.replace("{damage}", String.valueOf(damage))
+                     .replace("{hp}", String.valueOf(playerHP));
     }
 
     // ===== DEFAULT AI =====
@@ -343,18 +310,26 @@ public class EnemyAISystem {
     /**
      * Default AI: Simple Priority
      * Uses highest index available skill (usually highest damage).
+     * Used for enemies without AI rules.
      */
     private AIDecision defaultAI(Enemy enemy, Skill[] skills) {
+        int index = defaultIndex(enemy, skills);
+        if (index < 0) {
+            return new AIDecision(-1, "Basic Attack", 
+                "All skills on cooldown", true);
+        }
+        return new AIDecision(index, skills[index].getName(), 
+            "Highest available skill", false);
+    }
+
+    private int defaultIndex(Enemy enemy, Skill[] skills) {
         // Try skills from highest to lowest index
         for (int i = skills.length - 1; i >= 0; i--) {
             if (cooldownSystem.isSkillReady(enemy, skills[i])) {
-                return new AIDecision(i, skills[i].getName(), 
-                    "Highest available skill", false);
+                return i;
             }
         }
-
-        return new AIDecision(-1, "Basic Attack", 
-            "All skills on cooldown", true);
+        return -1;
     }
 
     // ===== AI INTENT (PREDICTION) =====
@@ -387,7 +362,7 @@ public class EnemyAISystem {
     // ===== AI INFORMATION =====
 
     /**
-     * Get AI strategy description for an enemy type.
+     * Get AI strategy description for an enemy type (the catalog's "ai" text).
      * 
      * @param enemyName Enemy name
      * @return AI strategy description
@@ -395,12 +370,9 @@ public class EnemyAISystem {
     public String getAIDescription(String enemyName) {
         if (enemyName == null) return "Standard AI";
 
-        if (enemyName.equalsIgnoreCase("Killer Bunny")) {
-            return "Aggressive: Prioritizes burst damage";
-        } else if (enemyName.equalsIgnoreCase("Minotaur")) {
-            return "Strategic: Uses ultimate for executes";
-        } else if (enemyName.equalsIgnoreCase("Mindflayer")) {
-            return "Adaptive: Adjusts strategy based on your HP";
+        Catalog.EnemyEntry entry = Catalog.getDefault().findEnemy(enemyName);
+        if (entry != null) {
+            return entry.getAIDescription();
         }
 
         return "Standard: Uses available skills";
@@ -408,6 +380,7 @@ public class EnemyAISystem {
 
     /**
      * Get AI type/category.
+     * Read from the catalog description's prefix ("Aggressive: ..." → AGGRESSIVE).
      * 
      * @param enemyName Enemy name
      * @return AI type (AGGRESSIVE, STRATEGIC, ADAPTIVE, DEFAULT)
@@ -415,12 +388,16 @@ public class EnemyAISystem {
     public AIType getAIType(String enemyName) {
         if (enemyName == null) return AIType.DEFAULT;
 
-        if (enemyName.equalsIgnoreCase("Killer Bunny")) {
-            return AIType.AGGRESSIVE;
-        } else if (enemyName.equalsIgnoreCase("Minotaur")) {
-            return AIType.STRATEGIC;
-        } else if (enemyName.equalsIgnoreCase("Mindflayer")) {
-            return AIType.ADAPTIVE;
+        Catalog.EnemyEntry entry = Catalog.getDefault().findEnemy(enemyName);
+        if (entry == null) return AIType.DEFAULT;
+
+        String description = entry.getAIDescription();
+        int colon = description.indexOf(':');
+        String prefix = (colon < 0 ? description : description.substring(0, colon)).trim();
+        for (AIType type : AIType.values()) {
+            if (type.name().equalsIgnoreCase(prefix)) {
+                return type;
+            }
         }
 
         return AIType.DEFAULT;
@@ -441,22 +418,7 @@ public class EnemyAISystem {
      * @return true if enemy has a ready skill that can kill
      */
     public boolean canExecute(Enemy enemy, Player player) {
-        if (enemy == null || player == null || !enemy.hasSkills()) {
-            return false;
-        }
-
-        int playerHP = entitySystem.getCurrentHP(player);
-
-        for (Skill skill : enemy.getSkills()) {
-            if (cooldownSystem.isSkillReady(enemy, skill)) {
-                int damage = skillSystem.calculateDamage(enemy, skill);
-                if (damage >= playerHP) {
-                    return true;
-                }
-            }
-        }
-
-        return false;
+        return getExecuteSkill(enemy, player) != null;
     }
 
     /**
@@ -472,8 +434,15 @@ public class EnemyAISystem {
             return null;
         }
 
-        int playerHP = entitySystem.getCurrentHP(player);
+        syncCache(enemy, player);
+        if (!cachedExecuteKnown) {
+            cachedExecuteSkill = findExecuteSkill(enemy, entitySystem.getCurrentHP(player));
+            cachedExecuteKnown = true;
+        }
+        return cachedExecuteSkill;
+    }
 
+    private Skill findExecuteSkill(Enemy enemy, int playerHP) {
         for (Skill skill : enemy.getSkills()) {
             if (cooldownSystem.isSkillReady(enemy, skill)) {
                 int damage = skillSystem.calculateDamage(enemy, skill);
@@ -497,8 +466,13 @@ public class EnemyAISystem {
      * @return Formatted intent string (e.g., "⚠ Earthquake (42 DMG)")
      */
     public String getFormattedIntent(Enemy enemy, Player player) {
-        AIDecision decision = chooseSkill(enemy, player);
-        
+        return getFormattedIntent(enemy, player, chooseSkill(enemy, player));
+    }
+
+    /**
+     * Format an already made decision (e.g. from ExpectimaxAISystem) the same way.
+     */
+    public String getFormattedIntent(Enemy enemy, Player player, AIDecision decision) {
         if (decision.isBasicAttack()) {
             int damage = enemy.getStats().getStrength();
             return "Basic Attack (" + damage + " DMG)";
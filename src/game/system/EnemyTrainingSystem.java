@@ -1,8 +1,13 @@
 package game.system;
 
 import game.core.Enemy;
+import game.core.StatType;
+import game.data.Catalog;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
 
 /**
  * EnemyTrainingSystem manages enemy stat progression with specialized training patterns.
@@ -12,43 +17,63 @@ import java.util.List;
  * - Specialized training: Each enemy has a preferred stat (60% chance) vs others (20% each)
  * - Group training: All enemies train together in a coordinated manner
  * - Deterministic specializations: Each enemy type has a fixed specialization
+ * - Parallel group training: Large waves train on a fork/join pool into primitive arrays
  * 
  * Design: Manages enemy training coordination and specialization logic.
+ * StatType methods are the fast path; String overloads parse and delegate.
  * GUI-Friendly: Returns detailed results for each enemy's training.
  */
 public class EnemyTrainingSystem {
 
     private final EntitySystem entitySystem;
+    private final RandomSystem randomSystem;
+    private BattleLog battleLog;   // null = not recording
 
     // Training constants
     private static final int MIN_TRAINING_AMOUNT = 1;
     private static final int MAX_TRAINING_AMOUNT = 100;
 
+    private static final Specialization[] SPECIALIZATIONS = Specialization.values();
+
+    // Parallel group training
+    private static final int LEAF_ENEMIES = 1024;   // Enemies per fork/join leaf task
+
     // Specialization weights
     private static final double SPECIALIZED_WEIGHT = 0.6;  // 60% for specialized stat
     private static final double SECONDARY_WEIGHT = 0.2;    // 20% for each other stat
 
     public EnemyTrainingSystem(EntitySystem entitySystem) {
+        this(entitySystem, new RandomSystem());
+    }
+
+    public EnemyTrainingSystem(EntitySystem entitySystem, RandomSystem randomSystem) {
         if (entitySystem == null) {
             throw new IllegalArgumentException("EntitySystem cannot be null");
         }
+        if (randomSystem == null) {
+            throw new IllegalArgumentException("RandomSystem cannot be null");
+        }
         this.entitySystem = entitySystem;
+        this.randomSystem = randomSystem;
     }
 
     // ===== TRAINING RESULT CLASSES =====
 
     /**
      * Single enemy training result.
+     * The success message is only built when someone asks for it.
      */
     public static class EnemyTrainingResult {
         private final boolean success;
         private final String enemyName;
         private final String statTrained;
+        private final StatType statType;        // null if the stat was invalid
         private final int amountTrained;
         private final int oldValue;
         private final int newValue;
         private final String specialization;
-        private final String message;
+        private final boolean showSpecialization;
+        private String message;                 // null = not built yet
 
         public EnemyTrainingResult(boolean success, String enemyName, String statTrained,
                                   int amountTrained, int oldValue, int newValue,
@@ -56,58 +81,208 @@ public class EnemyTrainingSystem {
             this.success = success;
             this.enemyName = enemyName;
             this.statTrained = statTrained;
+            this.statType = StatType.fromName(statTrained);
             this.amountTrained = amountTrained;
             this.oldValue = oldValue;
             this.newValue = newValue;
             this.specialization = specialization;
+            this.showSpecialization = false;
             this.message = message;
         }
 
+        /**
+         * Successful training - message built lazily.
+         *
+         * @param showSpecialization Append "[X specialist]" to the message
+         */
+        public EnemyTrainingResult(String enemyName, StatType stat, int amountTrained,
+                                   int oldValue, int newValue,
+                                   Specialization specialization, boolean showSpecialization) {
+            this.success = true;
+            this.enemyName = enemyName;
+            this.statTrained = stat.name();
+            this.statType = stat;
+            this.amountTrained = amountTrained;
+            this.oldValue = oldValue;
+            this.newValue = newValue;
+            this.specialization = specialization.name();
+            this.showSpecialization = showSpecialization;
+            this.message = null;
+        }
+
         // Getters
         public boolean isSuccess() { return success; }
         public String getEnemyName() { return enemyName; }
         public String getStatTrained() { return statTrained; }
+        public StatType getStatType() { return statType; }
         public int getAmountTrained() { return amountTrained; }
         public int getOldValue() { return oldValue; }
         public int getNewValue() { return newValue; }
         public String getSpecialization() { return specialization; }
-        public String getMessage() { return message; }
+
+        public String getMessage() {
+            if (message == null) {
+                message = enemyName + " trained " + statTrained + " +" + amountTrained +
+                          " (" + oldValue + " → " + newValue + ")" +
+                          (showSpecialization ? " [" + specialization + " specialist]" : "");
+            }
+            return message;
+        }
 
         @Override
         public String toString() {
-            return message;
+            return getMessage();
         }
     }
 
     /**
      * Group training result for all enemies.
+     * Parallel training fills primitive arrays instead of a result list;
+     * per-enemy result objects are then only built if someone asks for them.
      */
     public static class GroupTrainingResult {
         private final boolean success;
-        private final List<EnemyTrainingResult> individualResults;
+        private List<EnemyTrainingResult> individualResults;   // Lazy when array-backed
         private final int enemiesCount;
-        private final String message;
+        private final StatType stat;       // Synchronized training stat (null = specialized)
+        private final int amount;
+        private String message;            // null = not built yet
+
+        // Array-backed results (parallel training), indexed like the result list
+        private final Enemy[] trainees;
+        private final byte[] trained;      // stat | specialization << 2 (TrainingPlan.Result layout)
+        private final int[] oldValues;
+        private int[] statCounts;          // Lazy, [stat] -> enemies that trained it
 
         public GroupTrainingResult(boolean success, List<EnemyTrainingResult> individualResults,
                                   String message) {
             this.success = success;
             this.individualResults = individualResults;
             this.enemiesCount = individualResults.size();
+            this.stat = null;
+            this.amount = 0;
             this.message = message;
+            this.trainees = null;
+            this.trained = null;
+            this.oldValues = null;
+        }
+
+        /**
+         * Successful group training - message built lazily.
+         *
+         * @param stat Stat everyone trained, or null for specialized training
+         */
+        public GroupTrainingResult(List<EnemyTrainingResult> individualResults, StatType stat, int amount) {
+            this.success = true;
+            this.individualResults = individualResults;
+            this.enemiesCount = individualResults.size();
+            this.stat = stat;
+            this.amount = amount;
+            this.message = null;
+            this.trainees = null;
+            this.trained = null;
+            this.oldValues = null;
+        }
+
+        /**
+         * Successful parallel group training - everything built lazily.
+         *
+         * @param trainees Enemies that trained (no nulls)
+         * @param trained Per trainee: stat | specialization << 2
+         * @param oldValues Per trainee: trained stat before training
+         */
+        GroupTrainingResult(Enemy[] trainees, byte[] trained, int[] oldValues, StatType stat, int amount) {
+            this.success = true;
+            this.individualResults = null;
+            this.enemiesCount = trainees.length;
+            this.stat = stat;
+            this.amount = amount;
+            this.message = null;
+            this.trainees = trainees;
+            this.trained = trained;
+            this.oldValues = oldValues;
         }
 
         // Getters
         public boolean isSuccess() { return success; }
-        public List<EnemyTrainingResult> getIndividualResults() { return individualResults; }
         public int getEnemiesCount() { return enemiesCount; }
-        public String getMessage() { return message; }
+
+        public List<EnemyTrainingResult> getIndividualResults() {
+            if (individualResults == null) {
+                List<EnemyTrainingResult> results = new ArrayList<>(enemiesCount);
+                for (int i = 0; i < enemiesCount; i++) {
+                    results.add(new EnemyTrainingResult(trainees[i].getName(), getTrainedStat(i), amount,
+                        oldValues[i], oldValues[i] + amount, SPECIALIZATIONS[trained[i] >> 2], stat == null));
+                }
+                individualResults = results;
+            }
+            return individualResults;
+        }
+
+        /**
+         * Stat the i-th trainee trained, without building result objects.
+         *
+         * @return The stat, or null if that enemy's training failed
+         */
+        public StatType getTrainedStat(int index) {
+            if (trained != null) {
+                return StatType.of(trained[index] & 3);
+            }
+            EnemyTrainingResult result = individualResults.get(index);
+            return result.isSuccess() ? result.getStatType() : null;
+        }
+
+        public int getOldValue(int index) {
+            return trained != null ? oldValues[index] : individualResults.get(index).getOldValue();
+        }
+
+        public int getNewValue(int index) {
+            return trained != null ? oldValues[index] + amount : individualResults.get(index).getNewValue();
+        }
+
+        /**
+         * How many enemies trained a stat.
+         */
+        public int getStatCount(StatType type) {
+            if (statCounts == null) {
+                int[] counts = new int[StatType.COUNT];
+                for (int i = 0; i < enemiesCount; i++) {
+                    StatType trainedStat = getTrainedStat(i);
+                    if (trainedStat != null) counts[trainedStat.ordinal()]++;
+                }
+                statCounts = counts;
+            }
+            return statCounts[type.ordinal()];
+        }
+
+        public String getMessage() {
+            if (message == null) {
+                message = stat == null
+                    ? "Group training complete: " + enemiesCount + " enemies trained"
+                    : "Group trained " + stat + " +" + amount + " (" + enemiesCount + " enemies)";
+            }
+            return message;
+        }
+
+        /**
+         * One line per stat instead of one per enemy - for large waves.
+         */
+        public String getSummary() {
+            if (!success) return getMessage();
+
+            StringBuilder sb = new StringBuilder(getMessage()).append(" |");
+            for (StatType type : StatType.values()) {
+                sb.append(" ").append(type.getAbbreviation()).append(" x").append(getStatCount(type));
+            }
+            return sb.toString();
+        }
 
         /**
          * Get result for a specific enemy by index.
          */
         public EnemyTrainingResult getResult(int index) {
-            if (index >= 0 && index < individualResults.size()) {
-                return individualResults.get(index);
+            if (index >= 0 && index < enemiesCount) {
+                return getIndividualResults().get(index);
             }
             return null;
         }
@@ -116,7 +291,7 @@ public class EnemyTrainingSystem {
          * Get result for a specific enemy by name.
          */
         public EnemyTrainingResult getResultByName(String enemyName) {
-            for (EnemyTrainingResult result : individualResults) {
+            for (EnemyTrainingResult result : getIndividualResults()) {
                 if (result.getEnemyName().equals(enemyName)) {
                     return result;
                 }
@@ -126,7 +301,7 @@ public class EnemyTrainingSystem {
 
         @Override
         public String toString() {
-            return message;
+            return getMessage();
         }
     }
 
@@ -139,19 +314,22 @@ public class EnemyTrainingSystem {
     public enum Specialization {
         STRENGTH,
         AGILITY,
-        INTELLIGENCE
+        INTELLIGENCE;
+
+        /**
+         * The preferred stat (same order as StatType).
+         */
+        public StatType getStatType() {
+            return StatType.of(ordinal());
+        }
     }
 
     // ===== ENEMY SPECIALIZATION DETECTION =====
 
     /**
      * Detect enemy's specialization based on their name.
-     * This maps enemy names to their specialized stat.
-     * 
-     * Default specializations:
-     * - "Killer Bunny" → AGILITY
-     * - "Minotaur" → STRENGTH
-     * - "Mindflayer" → INTELLIGENCE
+     * Catalog enemies use their "specialization" field
+     * (e.g. "Killer Bunny" → AGILITY); others follow their highest stat.
      * 
      * @param enemy The enemy
      * @return Detected specialization
@@ -159,21 +337,33 @@ public class EnemyTrainingSystem {
     public Specialization detectSpecialization(Enemy enemy) {
         if (enemy == null) return Specialization.STRENGTH;
 
-        String name = enemy.getName();
-
-        // Map enemy names to specializations
-        if (name.equalsIgnoreCase("Killer Bunny")) {
-            return Specialization.AGILITY;
-        } else if (name.equalsIgnoreCase("Minotaur")) {
-            return Specialization.STRENGTH;
-        } else if (name.equalsIgnoreCase("Mindflayer")) {
-            return Specialization.INTELLIGENCE;
+        Specialization byName = specializationByName(enemy.getName());
+        if (byName != null) {
+            return byName;
         }
 
         // Default: check highest stat
         return detectSpecializationByStat(enemy);
     }
 
+    /**
+     * Fixed specialization of catalog enemy types ("specialization" field).
+     *
+     * @return Specialization, or null if the name is not a known type
+     *         or the catalog gives none
+     */
+    private static Specialization specializationByName(String name) {
+        Catalog.EnemyEntry entry = Catalog.getDefault().findEnemy(name);
+        if (entry == null) return null;
+
+        for (Specialization spec : SPECIALIZATIONS) {
+            if (spec.name().equalsIgnoreCase(entry.getSpecialization())) {
+                return spec;
+            }
+        }
+        return null;
+    }
+
     /**
      * Detect specialization by checking which stat is highest.
      * Fallback method when name matching fails.
@@ -185,10 +375,10 @@ public class EnemyTrainingSystem {
         if (enemy == null) return Specialization.STRENGTH;
 
         int[] stats = entitySystem.getPrimaryStats(enemy);
-        int str = stats[0];
-        int agi = stats[1];
-        int intel = stats[2];
+        return specializationByStats(stats[0], stats[1], stats[2]);
+    }
 
+    private static Specialization specializationByStats(int str, int agi, int intel) {
         if (str >= agi && str >= intel) {
             return Specialization.STRENGTH;
         } else if (agi >= str && agi >= intel) {
@@ -223,78 +413,116 @@ public class EnemyTrainingSystem {
         Specialization spec = detectSpecialization(enemy);
 
         // Roll for which stat to train
-        double roll = Math.random();
-        String statToTrain;
+        StatType statToTrain = rollStat(spec);
+
+        return applyTraining(enemy, statToTrain, amount, spec, true);
+    }
+
+    /**
+     * Roll which stat a specialist trains (one random draw).
+     * 60% specialized stat, 20% each for the others.
+     */
+    private StatType rollStat(Specialization spec) {
+        return statForRoll(spec, randomSystem.nextDouble());
+    }
+
+    /**
+     * Stat picked by a roll in [0, 1) for a specialization.
+     */
+    private static StatType statForRoll(Specialization spec, double roll) {
+        StatType statToTrain;
 
         switch (spec) {
             case STRENGTH:
                 // 60% STR, 20% AGI, 20% INT
                 if (roll < SPECIALIZED_WEIGHT) {
-                    statToTrain = "STRENGTH";
+                    statToTrain = StatType.STRENGTH;
                 } else if (roll < SPECIALIZED_WEIGHT + SECONDARY_WEIGHT) {
-                    statToTrain = "AGILITY";
+                    statToTrain = StatType.AGILITY;
                 } else {
-                    statToTrain = "INTELLIGENCE";
+                    statToTrain = StatType.INTELLIGENCE;
                 }
                 break;
 
             case AGILITY:
                 // 20% STR, 60% AGI, 20% INT
                 if (roll < SECONDARY_WEIGHT) {
-                    statToTrain = "STRENGTH";
+                    statToTrain = StatType.STRENGTH;
                 } else if (roll < SECONDARY_WEIGHT + SPECIALIZED_WEIGHT) {
-                    statToTrain = "AGILITY";
+                    statToTrain = StatType.AGILITY;
                 } else {
-                    statToTrain = "INTELLIGENCE";
+                    statToTrain = StatType.INTELLIGENCE;
                 }
                 break;
 
             case INTELLIGENCE:
                 // 20% STR, 20% AGI, 60% INT
                 if (roll < SECONDARY_WEIGHT) {
-                    statToTrain = "STRENGTH";
+                    statToTrain = StatType.STRENGTH;
                 } else if (roll < SECONDARY_WEIGHT * 2) {
-                    statToTrain = "AGILITY";
+                    statToTrain = StatType.AGILITY;
                 } else {
-                    statToTrain = "INTELLIGENCE";
+                    statToTrain = StatType.INTELLIGENCE;
                 }
                 break;
 
             default:
-                statToTrain = "STRENGTH";
+                statToTrain = StatType.STRENGTH;
         }
 
-        // Get old value
-        int oldValue = getStat(enemy, statToTrain);
+        return statToTrain;
+    }
 
-        // Apply training
-        switch (statToTrain) {
-            case "STRENGTH":
-                entitySystem.modifyStrength(enemy, amount);
-                break;
-            case "AGILITY":
-                entitySystem.modifyAgility(enemy, amount);
-                break;
-            case "INTELLIGENCE":
-                entitySystem.modifyIntelligence(enemy, amount);
-                break;
+    /**
+     * Train a specific stat directly (no weighted random).
+     * 
+     * @param enemy The enemy
+     * @param stat Stat to train
+     * @param amount Amount to train
+     * @return EnemyTrainingResult
+     */
+    public EnemyTrainingResult trainStat(Enemy enemy, StatType stat, int amount) {
+        if (enemy == null) {
+            return new EnemyTrainingResult(false, "Unknown", "", 0, 0, 0, "NONE",
+                "Invalid enemy");
+        }
+
+        if (stat == null) {
+            return new EnemyTrainingResult(false, enemy.getName(), "", 0, 0, 0, "NONE",
+                "Invalid stat: null");
+        }
+
+        if (amount < MIN_TRAINING_AMOUNT || amount > MAX_TRAINING_AMOUNT) {
+            return new EnemyTrainingResult(false, enemy.getName(), stat.name(), 0, 0, 0, "NONE",
+                "Invalid training amount");
         }
 
-        // Get new value
-        int newValue = getStat(enemy, statToTrain);
+        return applyTraining(enemy, stat, amount, detectSpecialization(enemy), false);
+    }
 
-        String message = enemy.getName() + " trained " + statToTrain + " +" + amount +
-                        " (" + oldValue + " → " + newValue + ") [" + spec + " specialist]";
+    /**
+     * Apply validated training and log it.
+     */
+    private EnemyTrainingResult applyTraining(Enemy enemy, StatType stat, int amount,
+                                              Specialization spec, boolean showSpecialization) {
+        int oldValue = enemy.getStats().get(stat);
+        entitySystem.modifyStat(enemy, stat, amount);
+        int newValue = enemy.getStats().get(stat);
+
+        if (battleLog != null) {
+            battleLog.train(BattleLog.ENEMY, enemy.getName(), BattleLog.statCode(stat),
+                            amount, enemy.getStats());
+        }
 
-        return new EnemyTrainingResult(true, enemy.getName(), statToTrain, amount,
-                                      oldValue, newValue, spec.toString(), message);
+        return new EnemyTrainingResult(enemy.getName(), stat, amount, oldValue, newValue,
+                                       spec, showSpecialization);
     }
 
     /**
-     * Train a specific stat directly (no weighted random).
+     * Train a specific stat by name (no weighted random).
      * 
      * @param enemy The enemy
-     * @param stat Stat to train
+     * @param stat Stat name ("STR", "STRENGTH", ...)
      * @param amount Amount to train
      * @return EnemyTrainingResult
      */
@@ -304,8 +532,8 @@ public class EnemyTrainingSystem {
                 "Invalid enemy");
         }
 
-        String normalizedStat = normalizeStat(stat);
-        if (normalizedStat == null) {
+        StatType type = StatType.fromName(stat);
+        if (type == null) {
             return new EnemyTrainingResult(false, enemy.getName(), stat, 0, 0, 0, "NONE",
                 "Invalid stat: " + stat);
         }
@@ -315,28 +543,7 @@ public class EnemyTrainingSystem {
                 "Invalid training amount");
         }
 
-        Specialization spec = detectSpecialization(enemy);
-        int oldValue = getStat(enemy, normalizedStat);
-
-        switch (normalizedStat) {
-            case "STRENGTH":
-                entitySystem.modifyStrength(enemy, amount);
-                break;
-            case "AGILITY":
-                entitySystem.modifyAgility(enemy, amount);
-                break;
-            case "INTELLIGENCE":
-                entitySystem.modifyIntelligence(enemy, amount);
-                break;
-        }
-
-        int newValue = getStat(enemy, normalizedStat);
-
-        String message = enemy.getName() + " trained " + normalizedStat + " +" + amount +
-                        " (" + oldValue + " → " + newValue + ")";
-
-        return new EnemyTrainingResult(true, enemy.getName(), normalizedStat, amount,
-                                      oldValue, newValue, spec.toString(), message);
+        return applyTraining(enemy, type, amount, detectSpecialization(enemy), false);
     }
 
     // ===== GROUP TRAINING =====
@@ -364,9 +571,7 @@ public class EnemyTrainingSystem {
             }
         }
 
-        String message = "Group training complete: " + results.size() + " enemies trained";
-
-        return new GroupTrainingResult(true, results, message);
+        return new GroupTrainingResult(results, null, amount);
     }
 
     /**
@@ -378,31 +583,281 @@ public class EnemyTrainingSystem {
      * @param amount Amount to train
      * @return GroupTrainingResult
      */
-    public GroupTrainingResult trainGroupStat(Enemy[] enemies, String stat, int amount) {
+    public GroupTrainingResult trainGroupStat(Enemy[] enemies, StatType stat, int amount) {
         if (enemies == null || enemies.length == 0) {
             return new GroupTrainingResult(false, new ArrayList<>(),
                 "No enemies to train");
         }
 
-        String normalizedStat = normalizeStat(stat);
-        if (normalizedStat == null) {
+        if (stat == null) {
             return new GroupTrainingResult(false, new ArrayList<>(),
-                "Invalid stat: " + stat);
+                "Invalid stat: null");
         }
 
-        List<EnemyTrainingResult> results = new ArrayList<>();
+        List<EnemyTrainingResult> results = new ArrayList<>(enemies.length);
 
         for (Enemy enemy : enemies) {
             if (enemy != null) {
-                EnemyTrainingResult result = trainStat(enemy, normalizedStat, amount);
+                EnemyTrainingResult result = trainStat(enemy, stat, amount);
                 results.add(result);
             }
         }
 
-        String message = "Group trained " + normalizedStat + " +" + amount +
-                        " (" + results.size() + " enemies)";
+        return new GroupTrainingResult(results, stat, amount);
+    }
 
-        return new GroupTrainingResult(true, results, message);
+    /**
+     * Train all enemies in a group to a stat given by name.
+     * 
+     * @param enemies Array of enemies
+     * @param stat Stat name ("STR", "STRENGTH", ...)
+     * @param amount Amount to train
+     * @return GroupTrainingResult
+     */
+    public GroupTrainingResult trainGroupStat(Enemy[] enemies, String stat, int amount) {
+        if (enemies == null || enemies.length == 0) {
+            return new GroupTrainingResult(false, new ArrayList<>(),
+                "No enemies to train");
+        }
+
+        StatType type = StatType.fromName(stat);
+        if (type == null) {
+            return new GroupTrainingResult(false, new ArrayList<>(),
+                "Invalid stat: " + stat);
+        }
+
+        return trainGroupStat(enemies, type, amount);
+    }
+
+    // ===== PARALLEL GROUP TRAINING =====
+
+    /**
+     * trainGroup for large waves, on the common fork/join pool.
+     */
+    public GroupTrainingResult trainGroupParallel(Enemy[] enemies, int amount) {
+        return trainGroupParallel(enemies, amount, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Train a large wave with specialized weighted training, split across a pool.
+     * Same 60/20/20 rules as trainGroup, but:
+     * - the wave is cut into leaves of LEAF_ENEMIES enemies, each rolling from
+     *   its own stream split off this system's stream before forking, so a
+     *   seed gives the same wave whatever the pool size
+     * - outcomes go into primitive arrays; per-enemy results are only built
+     *   if getIndividualResults() is called
+     * Enemies must be distinct objects (each one is trained by one task).
+     * 
+     * @param enemies Enemies to train (null entries are skipped)
+     * @param amount Amount each enemy trains
+     * @param pool Pool to train on
+     * @return GroupTrainingResult - on failure nothing was trained
+     */
+    public GroupTrainingResult trainGroupParallel(Enemy[] enemies, int amount, ForkJoinPool pool) {
+        return trainWave(enemies, null, amount, pool);
+    }
+
+    /**
+     * trainGroupStat for large waves, on the common fork/join pool.
+     */
+    public GroupTrainingResult trainGroupStatParallel(Enemy[] enemies, StatType stat, int amount) {
+        return trainGroupStatParallel(enemies, stat, amount, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Train a large wave to one stat, split across a pool (no random draws).
+     * 
+     * @param enemies Enemies to train (null entries are skipped)
+     * @param stat Stat to train
+     * @param amount Amount each enemy trains
+     * @param pool Pool to train on
+     * @return GroupTrainingResult - on failure nothing was trained
+     */
+    public GroupTrainingResult trainGroupStatParallel(Enemy[] enemies, StatType stat, int amount,
+                                                      ForkJoinPool pool) {
+        if (stat == null) {
+            return new GroupTrainingResult(false, new ArrayList<>(),
+                "Invalid stat: null");
+        }
+        return trainWave(enemies, stat, amount, pool);
+    }
+
+    /**
+     * @param stat Stat everyone trains, or null for specialized training
+     */
+    private GroupTrainingResult trainWave(Enemy[] enemies, StatType stat, int amount, ForkJoinPool pool) {
+        if (pool == null) {
+            throw new IllegalArgumentException("ForkJoinPool cannot be null");
+        }
+        if (enemies == null || enemies.length == 0) {
+            return new GroupTrainingResult(false, new ArrayList<>(),
+                "No enemies to train");
+        }
+        if (amount < MIN_TRAINING_AMOUNT || amount > MAX_TRAINING_AMOUNT) {
+            return new GroupTrainingResult(false, new ArrayList<>(),
+                "Training amount must be between " + MIN_TRAINING_AMOUNT + " and " + MAX_TRAINING_AMOUNT);
+        }
+
+        // Trainees = non-null enemies
+        int count = 0;
+        Enemy[] trainees = new Enemy[enemies.length];
+        for (Enemy enemy : enemies) {
+            if (enemy != null) trainees[count++] = enemy;
+        }
+        if (count < trainees.length) {
+            trainees = Arrays.copyOf(trainees, count);
+        }
+
+        byte[] trained = new byte[count];
+        int[] oldValues = new int[count];
+        RandomSystem waveRandom = stat == null ? randomSystem.split() : null;
+        pool.invoke(new WaveTask(trainees, stat, amount, trained, oldValues, 0, count, waveRandom));
+
+        // The log is single-threaded - record the wave afterwards, in enemy order
+        if (battleLog != null) {
+            for (int i = 0; i < count; i++) {
+                battleLog.train(BattleLog.ENEMY, trainees[i].getName(),
+                                BattleLog.statCode(StatType.of(trained[i] & 3)), amount, trainees[i].getStats());
+            }
+        }
+
+        return new GroupTrainingResult(trainees, trained, oldValues, stat, amount);
+    }
+
+    /**
+     * Trains trainees [from, to) - splits in half until a range fits in a leaf.
+     */
+    @SuppressWarnings("serial")   // Fork/join task - never serialized
+    private class WaveTask extends RecursiveAction {
+        private final Enemy[] trainees;
+        private final StatType stat;               // null = roll from specialization
+        private final int amount;
+        private final byte[] trained;
+        private final int[] oldValues;
+        private final int from;
+        private final int to;
+        private final RandomSystem randomSystem;   // null for fixed-stat training
+
+        WaveTask(Enemy[] trainees, StatType stat, int amount, byte[] trained, int[] oldValues,
+                 int from, int to, RandomSystem randomSystem) {
+            this.trainees = trainees;
+            this.stat = stat;
+            this.amount = amount;
+            this.trained = trained;
+            this.oldValues = oldValues;
+            this.from = from;
+            this.to = to;
+            this.randomSystem = randomSystem;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= LEAF_ENEMIES) {
+                trainRange();
+                return;
+            }
+
+            // Split streams here, before forking, so the tree of seeds is fixed
+            int mid = (from + to) >>> 1;
+            RandomSystem leftRandom = randomSystem == null ? null : randomSystem.split();
+            RandomSystem rightRandom = randomSystem == null ? null : randomSystem.split();
+            invokeAll(
+                new WaveTask(trainees, stat, amount, trained, oldValues, from, mid, leftRandom),
+                new WaveTask(trainees, stat, amount, trained, oldValues, mid, to, rightRandom)
+            );
+        }
+
+        private void trainRange() {
+            for (int i = from; i < to; i++) {
+                Enemy enemy = trainees[i];
+                Specialization spec = detectSpecialization(enemy);
+                StatType statToTrain = stat != null ? stat : statForRoll(spec, randomSystem.nextDouble());
+
+                oldValues[i] = enemy.getStats().get(statToTrain);
+                entitySystem.modifyStat(enemy, statToTrain, amount);
+                trained[i] = TrainingPlan.Result.encodeStep(statToTrain, spec);
+            }
+        }
+    }
+
+    // ===== TRAINING PLANS =====
+
+    /**
+     * Apply a whole training plan to a group in one call.
+     * Ends exactly where the same steps via trainGroupStat (fixed steps) and
+     * trainGroup (specialized steps) would - same random draws, same order -
+     * but derived stats are recomputed once per enemy. With a battle log
+     * attached the steps are applied one by one so each one is still logged.
+     * 
+     * @param enemies Enemies to train (null entries are skipped)
+     * @param plan Steps to apply
+     * @return Plan result - on failure nothing was applied
+     */
+    public TrainingPlan.Result applyPlan(Enemy[] enemies, TrainingPlan plan) {
+        if (enemies == null || enemies.length == 0) {
+            return new TrainingPlan.Result(plan, "No enemies to train");
+        }
+        if (plan == null) {
+            return new TrainingPlan.Result(null, "Invalid training plan");
+        }
+        String error = plan.validate(MIN_TRAINING_AMOUNT, MAX_TRAINING_AMOUNT);
+        if (error != null) {
+            return new TrainingPlan.Result(plan, error);
+        }
+
+        // Trainees = non-null enemies
+        int count = 0;
+        Enemy[] trainees = new Enemy[enemies.length];
+        for (Enemy enemy : enemies) {
+            if (enemy != null) trainees[count++] = enemy;
+        }
+
+        String[] names = new String[count];
+        Specialization[] fixed = new Specialization[count];   // By name; null = follows stats
+        int[] running = new int[count * StatType.COUNT];
+        for (int t = 0; t < count; t++) {
+            names[t] = trainees[t].getName();
+            fixed[t] = specializationByName(names[t]);
+            running[t * StatType.COUNT] = trainees[t].getStats().getStrength();
+            running[t * StatType.COUNT + 1] = trainees[t].getStats().getAgility();
+            running[t * StatType.COUNT + 2] = trainees[t].getStats().getIntelligence();
+        }
+        int[] before = running.clone();
+        byte[] steps = new byte[plan.size() * count];
+
+        for (int step = 0; step < plan.size(); step++) {
+            int amount = plan.getAmount(step);
+            for (int t = 0; t < count; t++) {
+                int base = t * StatType.COUNT;
+                Specialization spec = fixed[t] != null ? fixed[t]
+                    : specializationByStats(running[base], running[base + 1], running[base + 2]);
+
+                StatType stat;
+                if (battleLog != null) {
+                    EnemyTrainingResult result = plan.isSpecialized(step)
+                        ? trainSpecialized(trainees[t], amount)
+                        : trainStat(trainees[t], plan.getStat(step), amount);
+                    stat = result.getStatType();
+                } else {
+                    stat = plan.isSpecialized(step) ? rollStat(spec) : plan.getStat(step);
+                }
+
+                steps[step * count + t] = TrainingPlan.Result.encodeStep(stat, spec);
+                running[base + stat.ordinal()] += amount;
+            }
+        }
+
+        if (battleLog == null) {
+            for (int t = 0; t < count; t++) {
+                int base = t * StatType.COUNT;
+                entitySystem.modifyStats(trainees[t],
+                    running[base] - before[base],
+                    running[base + 1] - before[base + 1],
+                    running[base + 2] - before[base + 2]);
+            }
+        }
+
+        return new TrainingPlan.Result(plan, names, before, running, steps);
     }
 
     // ===== STAT QUERIES =====
@@ -411,22 +866,23 @@ public class EnemyTrainingSystem {
      * Get enemy's current stat value.
      * 
      * @param enemy The enemy
+     * @param stat The stat
+     * @return Current stat value, or 0 if invalid
+     */
+    public int getStat(Enemy enemy, StatType stat) {
+        if (enemy == null || stat == null) return 0;
+        return enemy.getStats().get(stat);
+    }
+
+    /**
+     * Get enemy's current stat value by name.
+     * 
+     * @param enemy The enemy
      * @param stat Stat name
      * @return Current stat value, or 0 if invalid
      */
     public int getStat(Enemy enemy, String stat) {
-        if (enemy == null) return 0;
-
-        String normalizedStat = normalizeStat(stat);
-        if (normalizedStat == null) return 0;
-
-        int[] stats = entitySystem.getPrimaryStats(enemy);
-        switch (normalizedStat) {
-            case "STRENGTH": return stats[0];
-            case "AGILITY": return stats[1];
-            case "INTELLIGENCE": return stats[2];
-            default: return 0;
-        }
+        return getStat(enemy, StatType.fromName(stat));
     }
 
     /**
@@ -463,32 +919,6 @@ public class EnemyTrainingSystem {
 
     // ===== HELPER METHODS =====
 
-    /**
-     * Normalize stat name to standard form.
-     */
-    private String normalizeStat(String stat) {
-        if (stat == null) return null;
-
-        String upper = stat.trim().toUpperCase();
-
-        switch (upper) {
-            case "STR":
-            case "STRENGTH":
-                return "STRENGTH";
-
-            case "AGI":
-            case "AGILITY":
-                return "AGILITY";
-
-            case "INT":
-            case "INTELLIGENCE":
-                return "INTELLIGENCE";
-
-            default:
-                return null;
-        }
-    }
-
     /**
      * Get stat abbreviation.
      */
@@ -516,7 +946,7 @@ public class EnemyTrainingSystem {
      * Validate stat name.
      */
     public boolean isValidStat(String stat) {
-        return normalizeStat(stat) != null;
+        return StatType.fromName(stat) != null;
     }
 
     /**
@@ -557,8 +987,15 @@ public class EnemyTrainingSystem {
     // ===== ACCESSORS =====
 
     public EntitySystem getEntitySystem() { return entitySystem; }
+    public RandomSystem getRandomSystem() { return randomSystem; }
     public int getMinTrainingAmount() { return MIN_TRAINING_AMOUNT; }
     public int getMaxTrainingAmount() { return MAX_TRAINING_AMOUNT; }
     public double getSpecializedWeight() { return SPECIALIZED_WEIGHT; }
     public double getSecondaryWeight() { return SECONDARY_WEIGHT; }
+
+    /**
+     * Record training into a log (null = stop recording).
+     */
+    public void setBattleLog(BattleLog battleLog) { this.battleLog = battleLog; }
+    public BattleLog getBattleLog() { return battleLog; }
 }
\ No newline at end of file
@@ -3,6 +3,7 @@ package game.system;
 import game.core.Player;
 import game.core.Enemy;
 import game.core.Stat;
+import game.core.StatType;
 import game.core.Profession;
 import game.core.Skill;
 
@@ -133,7 +134,7 @@ public class EntitySystem {
             originalStats.getIntelligence()
         );
 
-        return new Enemy(template.getName(), newStats, template.getSkills());
+        return new Enemy(template.getName(), newStats, template.getSkills(), template.getAIRules());
     }
 
     // ===== HEALTH MANAGEMENT =====
@@ -258,6 +259,60 @@ public class EntitySystem {
         }
     }
 
+    /**
+     * Increase any player primary stat.
+     * 
+     * @param player Player to modify
+     * @param stat Stat to change
+     * @param amount Amount to increase (can be negative to decrease)
+     */
+    public void modifyStat(Player player, StatType stat, int amount) {
+        if (player != null && stat != null && amount != 0) {
+            player.getStats().increase(stat, amount);
+        }
+    }
+
+    /**
+     * Increase any enemy primary stat.
+     * 
+     * @param enemy Enemy to modify
+     * @param stat Stat to change
+     * @param amount Amount to increase (can be negative to decrease)
+     */
+    public void modifyStat(Enemy enemy, StatType stat, int amount) {
+        if (enemy != null && stat != null && amount != 0) {
+            enemy.getStats().increase(stat, amount);
+        }
+    }
+
+    /**
+     * Increase all player primary stats at once (derived stats recomputed once).
+     * 
+     * @param player Player to modify
+     * @param strength Strength to add
+     * @param agility Agility to add
+     * @param intelligence Intelligence to add
+     */
+    public void modifyStats(Player player, int strength, int agility, int intelligence) {
+        if (player != null) {
+            player.getStats().increaseAll(strength, agility, intelligence);
+        }
+    }
+
+    /**
+     * Increase all enemy primary stats at once (derived stats recomputed once).
+     * 
+     * @param enemy Enemy to modify
+     * @param strength Strength to add
+     * @param agility Agility to add
+     * @param intelligence Intelligence to add
+     */
+    public void modifyStats(Enemy enemy, int strength, int agility, int intelligence) {
+        if (enemy != null) {
+            enemy.getStats().increaseAll(strength, agility, intelligence);
+        }
+    }
+
     // ===== BATTLE PREPARATION =====
 
     /**
@@ -0,0 +1,534 @@
+package game.system;
+
+import game.core.Enemy;
+import game.core.Player;
+import game.core.Skill;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * ExpectimaxAISystem picks enemy skills by searching ahead over the real combat model.
+ * Where EnemyAISystem follows fixed rules, this looks N turns ahead and picks
+ * the skill with the best expected outcome for the enemy.
+ *
+ * HOW IT WORKS:
+ * - Search tree over the upcoming turn order (from ActionValueSystem)
+ * - Enemy turn = max node: every ready skill + basic attack
+ * - Player turn = min node: every usable ready skill (worst case for the enemy)
+ * - Every attack = chance node: hit / miss weighted by calculateHitChance
+ * - Leaves score enemy HP% - player HP%; a kill scores more, sooner kills more still
+ * - Iterative deepening: depth 1, 2, 3... until the time budget or max depth runs out,
+ *   the answer from the deepest finished depth wins
+ * - Transposition table: same (HP, HP, cooldowns) at the same turn is searched once
+ *
+ * Rules match BattleSimulator: each actor ticks its own cooldowns at the start of
+ * its turn, then acts. The root is the enemy's current turn (no tick - the
+ * cooldowns are read as they are now, like EnemyAISystem).
+ *
+ * Design: Damage, hit chance and cooldowns come from the real systems once per
+ * decision; the search itself works on packed longs and allocates nothing.
+ * Falls back to EnemyAISystem when a battle does not fit the packed state.
+ * Not thread-safe - one per thread.
+ * GUI-Friendly: Bounded by a millisecond budget, so it can run on the UI thread.
+ *
+ * Usage: gameFlowSystem.setLookaheadAI(new ExpectimaxAISystem(combatSystem, enemyAISystem))
+ * makes the enemy of that game pick its moves with this search (opt-in).
+ */
+public class ExpectimaxAISystem {
+
+    private final EntitySystem entitySystem;
+    private final SkillSystem skillSystem;
+    private final CooldownSystem cooldownSystem;
+    private final CombatSystem combatSystem;
+    private final EnemyAISystem enemyAISystem;
+
+    // Search constants
+    public static final int DEFAULT_MAX_DEPTH = 12;          // Plies (single actions)
+    public static final long DEFAULT_TIME_BUDGET_MS = 20;
+    public static final int MAX_DEPTH = 64;
+    private static final int DEADLINE_CHECK_MASK = 1023;     // Check the clock every 1024 nodes
+
+    // Scores (enemy's point of view)
+    private static final double WIN_SCORE = 2.0;             // Above any leaf score (|leaf| <= 1)
+    private static final double PLY_PENALTY = 0.01;          // Prefer faster kills, slower deaths
+
+    // State packing: [playerHP:16][enemyHP:16][cooldown:4 x 8] (same as BattleOddsSystem)
+    private static final int HP_BITS = 16;
+    private static final int COOLDOWN_BITS = 4;
+    private static final int MAX_PACKED_HP = (1 << HP_BITS) - 1;
+    private static final int MAX_PACKED_COOLDOWN = (1 << COOLDOWN_BITS) - 1;
+    private static final int MAX_COOLDOWN_SLOTS = (64 - 2 * HP_BITS) / COOLDOWN_BITS;
+
+    // Transposition table (open addressing, linear probing)
+    private static final int TABLE_BITS = 16;
+    private static final int TABLE_PROBES = 4;
+    private final long[] tableStates = new long[1 << TABLE_BITS];
+    private final int[] tableTags = new int[1 << TABLE_BITS];       // generation:16 | ply:8 | depth:8
+    private final double[] tableValues = new double[1 << TABLE_BITS];
+    private int generation;
+
+    // Settings
+    private int maxDepth = DEFAULT_MAX_DEPTH;
+    private long timeBudgetMillis = DEFAULT_TIME_BUDGET_MS;
+
+    // Per-decision constants (filled by setup)
+    private int playerMaxHP;
+    private int enemyMaxHP;
+    private double playerHitChance;
+    private double enemyHitChance;
+    private int playerSlots;
+    private int enemySlots;
+    private final int[] damage = new int[MAX_COOLDOWN_SLOTS];       // [slot] -> damage
+    private final int[] cooldown = new int[MAX_COOLDOWN_SLOTS];     // [slot] -> cooldown after use
+    private final boolean[] usable = new boolean[MAX_COOLDOWN_SLOTS];
+    private int enemyBasicDamage;
+    private final boolean[] playerTurn = new boolean[MAX_DEPTH + 1]; // [ply] -> player acts
+
+    // Per-search counters
+    private long deadline;
+    private boolean aborted;
+    private long nodes;
+    private long tableHits;
+
+    public ExpectimaxAISystem() {
+        this.entitySystem = new EntitySystem();
+        this.skillSystem = new SkillSystem();
+        this.cooldownSystem = new CooldownSystem();
+        this.combatSystem = new CombatSystem(entitySystem, skillSystem, cooldownSystem);
+        this.enemyAISystem = new EnemyAISystem(entitySystem, skillSystem, cooldownSystem);
+    }
+
+    public ExpectimaxAISystem(CombatSystem combatSystem, EnemyAISystem enemyAISystem) {
+        if (combatSystem == null || enemyAISystem == null) {
+            throw new IllegalArgumentException("All systems must be non-null");
+        }
+
+        this.entitySystem = combatSystem.getEntitySystem();
+        this.skillSystem = combatSystem.getSkillSystem();
+        this.cooldownSystem = combatSystem.getCooldownSystem();
+        this.combatSystem = combatSystem;
+        this.enemyAISystem = enemyAISystem;
+    }
+
+    // ===== SEARCH RESULT CLASS =====
+
+    /**
+     * Chosen skill plus search statistics.
+     */
+    public static class SearchResult {
+        private final int skillIndex;          // -1 = basic attack
+        private final String skillName;
+        private final double expectedScore;    // Enemy's point of view, higher = better for enemy
+        private final int depthReached;        // 0 = fell back to EnemyAISystem
+        private final long nodesSearched;
+        private final long tableHits;
+        private final double elapsedMillis;
+
+        public SearchResult(int skillIndex, String skillName, double expectedScore, int depthReached,
+                            long nodesSearched, long tableHits, double elapsedMillis) {
+            this.skillIndex = skillIndex;
+            this.skillName = skillName;
+            this.expectedScore = expectedScore;
+            this.depthReached = depthReached;
+            this.nodesSearched = nodesSearched;
+            this.tableHits = tableHits;
+            this.elapsedMillis = elapsedMillis;
+        }
+
+        // Getters
+        public int getSkillIndex() { return skillIndex; }
+        public String getSkillName() { return skillName; }
+        public double getExpectedScore() { return expectedScore; }
+        public int getDepthReached() { return depthReached; }
+        public long getNodesSearched() { return nodesSearched; }
+        public long getTableHits() { return tableHits; }
+        public double getElapsedMillis() { return elapsedMillis; }
+        public boolean isBasicAttack() { return skillIndex < 0; }
+        public boolean isSearched() { return depthReached > 0; }
+
+        /**
+         * Same shape as the rule-based AI's answer, for code that already shows it.
+         */
+        public EnemyAISystem.AIDecision toDecision() {
+            String reasoning = isSearched()
+                ? String.format("Looked %d turns ahead (score %.3f)", depthReached, expectedScore)
+                : "Rule-based choice";
+            return new EnemyAISystem.AIDecision(skillIndex, skillName, reasoning, isBasicAttack());
+        }
+
+        /**
+         * Get formatted summary for console display.
+         */
+        public String getSummary() {
+            return String.format("%s | depth %d | score %.3f | %d nodes, %d table hits | %.2f ms",
+                skillName, depthReached, expectedScore, nodesSearched, tableHits, elapsedMillis);
+        }
+
+        @Override
+        public String toString() {
+            return getSummary();
+        }
+    }
+
+    // ===== DECISION =====
+
+    /**
+     * Choose the enemy's skill using the configured time budget.
+     *
+     * @param enemy Enemy whose turn it is
+     * @param player Player target
+     * @param playerSkills Skills the player can answer with
+     * @param turnOrder Live turn order (null or inactive = strict alternation)
+     * @return SearchResult with the chosen skill
+     */
+    public SearchResult chooseSkill(Enemy enemy, Player player, Skill[] playerSkills,
+                                    ActionValueSystem turnOrder) {
+        return chooseSkill(enemy, player, playerSkills, turnOrder, timeBudgetMillis);
+    }
+
+    /**
+     * Choose the enemy's skill within an explicit time budget.
+     * Depth 1 always completes, so a tiny budget still gives a sensible answer.
+     *
+     * @param enemy Enemy whose turn it is (not modified)
+     * @param player Player target (not modified)
+     * @param playerSkills Skills the player can answer with
+     * @param turnOrder Live turn order (null or inactive = strict alternation)
+     * @param budgetMillis Time budget in milliseconds
+     * @return SearchResult with the chosen skill
+     */
+    public SearchResult chooseSkill(Enemy enemy, Player player, Skill[] playerSkills,
+                                    ActionValueSystem turnOrder, long budgetMillis) {
+        if (enemy == null || player == null) {
+            throw new IllegalArgumentException("Enemy and player cannot be null");
+        }
+        if (playerSkills == null) {
+            throw new IllegalArgumentException("Player skills cannot be null");
+        }
+
+        long start = System.nanoTime();
+        Skill[] enemySkills = enemy.getSkills();
+
+        if (!fits(enemy, player, playerSkills)) {
+            int index = enemyAISystem.chooseSkillIndex(enemy, player);
+            return new SearchResult(index, nameOf(enemySkills, index), 0.0, 0, 0, 0,
+                                    (System.nanoTime() - start) / 1e6);
+        }
+
+        setup(enemy, player, playerSkills, turnOrder);
+        long root = pack(enemy, player, playerSkills);
+
+        generation = (generation + 1) & 0xFFFF;
+        if (generation == 0) {
+            Arrays.fill(tableTags, 0);
+            generation = 1;
+        }
+        nodes = 0;
+        tableHits = 0;
+        aborted = false;
+        deadline = start + Math.max(0, budgetMillis) * 1_000_000L;
+
+        int bestIndex = -1;
+        double bestScore = 0.0;
+        int depthReached = 0;
+
+        for (int depth = 1; depth <= maxDepth; depth++) {
+            int iterationIndex = -1;
+            double iterationScore = Double.NEGATIVE_INFINITY;
+
+            // Highest skill first, basic attack last - ties keep the earlier (stronger) move
+            for (int index = enemySkills.length - 1; index >= -1; index--) {
+                if (index >= 0 && cooldownOf(root, playerSlots + index) > 0) continue;
+
+                double score = enemyAction(root, index, 0, depth);
+                if (aborted) break;
+                if (score > iterationScore) {
+                    iterationScore = score;
+                    iterationIndex = index;
+                }
+            }
+
+            if (aborted) break;   // Unfinished depth - keep the last finished answer (depth 1 never aborts)
+            bestIndex = iterationIndex;
+            bestScore = iterationScore;
+            depthReached = depth;
+        }
+
+        return new SearchResult(bestIndex, nameOf(enemySkills, bestIndex), bestScore, depthReached,
+                                nodes, tableHits, (System.nanoTime() - start) / 1e6);
+    }
+
+    /**
+     * Skill index only. Returns -1 for basic attack.
+     */
+    public int chooseSkillIndex(Enemy enemy, Player player, Skill[] playerSkills,
+                                ActionValueSystem turnOrder) {
+        return chooseSkill(enemy, player, playerSkills, turnOrder).getSkillIndex();
+    }
+
+    // ===== SEARCH =====
+
+    /**
+     * Value of the state at the start of a turn (before the actor's cooldown tick).
+     *
+     * @param state Packed state
+     * @param ply Turns since the root
+     * @param depth Plies left to search
+     * @return Expected score for the enemy
+     */
+    private double turn(long state, int ply, int depth) {
+        if (depth == 0) {
+            return evaluate(state);
+        }
+        if ((++nodes & DEADLINE_CHECK_MASK) == 0 && System.nanoTime() > deadline) {
+            aborted = true;
+        }
+        if (aborted) return 0.0;
+
+        int slot = probe(state, ply, depth);
+        if (slot < 0) {
+            tableHits++;
+            return tableValues[~slot];
+        }
+
+        double value;
+        if (playerTurn[ply]) {
+            long ticked = tick(state, 0, playerSlots);
+            value = Double.POSITIVE_INFINITY;
+            for (int index = playerSlots - 1; index >= 0; index--) {
+                if (!usable[index] || cooldownOf(ticked, index) > 0) continue;
+                value = Math.min(value, playerAction(ticked, index, ply, depth));
+            }
+            if (value == Double.POSITIVE_INFINITY) {
+                value = turn(ticked, ply + 1, depth - 1);   // Nothing ready: turn is skipped
+            }
+        } else {
+            long ticked = tick(state, playerSlots, enemySlots);
+            value = Double.NEGATIVE_INFINITY;
+            for (int index = enemySlots - 1; index >= -1; index--) {
+                if (index >= 0 && cooldownOf(ticked, playerSlots + index) > 0) continue;
+                value = Math.max(value, enemyAction(ticked, index, ply, depth));
+            }
+        }
+
+        if (!aborted) {
+            store(slot, state, ply, depth, value);
+        }
+        return value;
+    }
+
+    /**
+     * Chance node for an enemy attack (index -1 = basic attack).
+     */
+    private double enemyAction(long state, int index, int ply, int depth) {
+        long miss = state;
+        int hitDamage = enemyBasicDamage;
+        if (index >= 0) {
+            miss = withCooldown(state, playerSlots + index, cooldown[playerSlots + index]);
+            hitDamage = damage[playerSlots + index];
+        }
+
+        int playerHP = playerHP(miss) - hitDamage;
+        double hitValue = playerHP <= 0
+            ? WIN_SCORE - ply * PLY_PENALTY
+            : turn((miss & ~(long) MAX_PACKED_HP) | playerHP, ply + 1, depth - 1);
+        double missValue = turn(miss, ply + 1, depth - 1);
+
+        return enemyHitChance * hitValue + (1.0 - enemyHitChance) * missValue;
+    }
+
+    /**
+     * Chance node for a player attack.
+     */
+    private double playerAction(long state, int index, int ply, int depth) {
+        long miss = withCooldown(state, index, cooldown[index]);
+
+        int enemyHP = enemyHP(miss) - damage[index];
+        double hitValue = enemyHP <= 0
+            ? -WIN_SCORE + ply * PLY_PENALTY
+            : turn((miss & ~((long) MAX_PACKED_HP << HP_BITS)) | ((long) enemyHP << HP_BITS), ply + 1, depth - 1);
+        double missValue = turn(miss, ply + 1, depth - 1);
+
+        return playerHitChance * hitValue + (1.0 - playerHitChance) * missValue;
+    }
+
+    /**
+     * Leaf score: enemy HP fraction minus player HP fraction, in [-1, 1].
+     */
+    private double evaluate(long state) {
+        return (double) enemyHP(state) / enemyMaxHP - (double) playerHP(state) / playerMaxHP;
+    }
+
+    // ===== TRANSPOSITION TABLE =====
+
+    /**
+     * Look up a state.
+     *
+     * @return ~slot if a usable value is stored, else the slot to store into
+     */
+    private int probe(long state, int ply, int depth) {
+        int mask = tableStates.length - 1;
+        int home = (int) mix(state * 31 + ply) & mask;
+        int victim = home;
+
+        for (int i = 0; i < TABLE_PROBES; i++) {
+            int slot = (home + i) & mask;
+            int tag = tableTags[slot];
+            if ((tag >>> 16) != generation) {
+                return slot;   // Empty (stale) slot
+            }
+            if (tableStates[slot] == state && ((tag >>> 8) & 0xFF) == ply) {
+                if ((tag & 0xFF) >= depth) return ~slot;
+                return slot;   // Shallower result for the same state - overwrite it
+            }
+            if ((tag & 0xFF) < (tableTags[victim] & 0xFF)) {
+                victim = slot;
+            }
+        }
+        return victim;   // Table crowded: replace the shallowest entry
+    }
+
+    private void store(int slot, long state, int ply, int depth, double value) {
+        tableStates[slot] = state;
+        tableTags[slot] = (generation << 16) | (ply << 8) | depth;
+        tableValues[slot] = value;
+    }
+
+    private static long mix(long h) {
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+
+    // ===== SETUP =====
+
+    /**
+     * Check the battle fits the packed state. Otherwise the rule AI decides.
+     */
+    private boolean fits(Enemy enemy, Player player, Skill[] playerSkills) {
+        Skill[] enemySkills = enemy.getSkills();
+        if (playerSkills.length + enemySkills.length > MAX_COOLDOWN_SLOTS) return false;
+        if (entitySystem.getMaxHP(player) > MAX_PACKED_HP || entitySystem.getMaxHP(enemy) > MAX_PACKED_HP) return false;
+        if (!entitySystem.isAlive(player) || !entitySystem.isAlive(enemy)) return false;
+
+        for (Skill skill : playerSkills) {
+            if (skill == null || skill.getBaseCooldown() > MAX_PACKED_COOLDOWN
+                    || player.getSkillCooldown(skill) > MAX_PACKED_COOLDOWN) return false;
+        }
+        for (Skill skill : enemySkills) {
+            if (skill == null || skill.getBaseCooldown() > MAX_PACKED_COOLDOWN
+                    || enemy.getSkillCooldown(skill) > MAX_PACKED_COOLDOWN) return false;
+        }
+        return true;
+    }
+
+    /**
+     * Read damage, hit chance, cooldowns and turn order from the real systems.
+     */
+    private void setup(Enemy enemy, Player player, Skill[] playerSkills, ActionValueSystem turnOrder) {
+        Skill[] enemySkills = enemy.getSkills();
+        playerSlots = playerSkills.length;
+        enemySlots = enemySkills.length;
+        playerMaxHP = entitySystem.getMaxHP(player);
+        enemyMaxHP = entitySystem.getMaxHP(enemy);
+        playerHitChance = combatSystem.calculateHitChance(player, enemy) / 100.0;
+        enemyHitChance = combatSystem.calculateHitChance(enemy, player) / 100.0;
+        enemyBasicDamage = enemy.getStats().getStrength();
+
+        for (int i = 0; i < playerSlots; i++) {
+            damage[i] = skillSystem.calculateDamage(player, playerSkills[i]);
+            cooldown[i] = cooldownSystem.calculateFinalCooldown(player, playerSkills[i]);
+            usable[i] = skillSystem.matchesProfession(player, playerSkills[i]);
+        }
+        for (int i = 0; i < enemySlots; i++) {
+            damage[playerSlots + i] = skillSystem.calculateDamage(enemy, enemySkills[i]);
+            cooldown[playerSlots + i] = cooldownSystem.calculateFinalCooldown(enemy, enemySkills[i]);
+            usable[playerSlots + i] = true;
+        }
+
+        // Turn order: ply 0 is the enemy's current turn
+        List<ActionValueSystem.TurnOrderEntry> order = null;
+        if (turnOrder != null && turnOrder.isEnemyTurn()) {
+            order = turnOrder.calculateTurnOrder(maxDepth + 1);
+        }
+        for (int ply = 0; ply <= maxDepth; ply++) {
+            playerTurn[ply] = (order != null && ply < order.size())
+                ? order.get(ply).isPlayer()
+                : (ply & 1) == 1;
+        }
+    }
+
+    // ===== STATE PACKING =====
+
+    private long pack(Enemy enemy, Player player, Skill[] playerSkills) {
+        long state = entitySystem.getCurrentHP(player)
+                   | ((long) entitySystem.getCurrentHP(enemy) << HP_BITS);
+        int shift = 2 * HP_BITS;
+        for (Skill skill : playerSkills) {
+            state |= (long) player.getSkillCooldown(skill) << shift;
+            shift += COOLDOWN_BITS;
+        }
+        for (Skill skill : enemy.getSkills()) {
+            state |= (long) enemy.getSkillCooldown(skill) << shift;
+            shift += COOLDOWN_BITS;
+        }
+        return state;
+    }
+
+    /**
+     * Lower every active cooldown in slots [first, first + count) by 1.
+     */
+    private static long tick(long state, int first, int count) {
+        for (int slot = first; slot < first + count; slot++) {
+            if (cooldownOf(state, slot) > 0) {
+                state -= 1L << (2 * HP_BITS + slot * COOLDOWN_BITS);
+            }
+        }
+        return state;
+    }
+
+    private static int cooldownOf(long state, int slot) {
+        return (int) ((state >>> (2 * HP_BITS + slot * COOLDOWN_BITS)) & MAX_PACKED_COOLDOWN);
+    }
+
+    private static long withCooldown(long state, int slot, int value) {
+        int shift = 2 * HP_BITS + slot * COOLDOWN_BITS;
+        return (state & ~((long) MAX_PACKED_COOLDOWN << shift)) | ((long) value << shift);
+    }
+
+    private static int playerHP(long state) {
+        return (int) (state & MAX_PACKED_HP);
+    }
+
+    private static int enemyHP(long state) {
+        return (int) ((state >>> HP_BITS) & MAX_PACKED_HP);
+    }
+
+    private static String nameOf(Skill[] skills, int index) {
+        return index < 0 ? "Basic Attack" : skills[index].getName();
+    }
+
+    // ===== SETTINGS =====
+
+    /**
+     * Set the deepest search (plies). Clamped to 1..MAX_DEPTH.
+     */
+    public void setMaxDepth(int maxDepth) {
+        this.maxDepth = Math.max(1, Math.min(MAX_DEPTH, maxDepth));
+    }
+
+    /**
+     * Set the default time budget for chooseSkill without an explicit budget.
+     */
+    public void setTimeBudgetMillis(long timeBudgetMillis) {
+        this.timeBudgetMillis = Math.max(0, timeBudgetMillis);
+    }
+
+    public int getMaxDepth() { return maxDepth; }
+    public long getTimeBudgetMillis() { return timeBudgetMillis; }
+    public CombatSystem getCombatSystem() { return combatSystem; }
+    public EnemyAISystem getEnemyAISystem() { return enemyAISystem; }
+}
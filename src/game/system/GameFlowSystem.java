@@ -4,6 +4,7 @@ import game.core.Player;
 import game.core.Enemy;
 import game.core.Skill;
 import game.core.Profession;
+import game.core.StatType;
 
 /**
  * GameFlowSystem orchestrates the overall game flow and state management.
@@ -37,6 +38,7 @@ public class GameFlowSystem {
     private final CooldownSystem cooldownSystem;
     private final CombatSystem combatSystem;
     private final EnemyAISystem enemyAISystem;
+    private ExpectimaxAISystem lookaheadAI;    // null = rule-based enemy moves (default)
 
     // Game state
     private Player player;
@@ -203,6 +205,27 @@ public class GameFlowSystem {
         return playerTrainingSystem.trainStat(player, stat, amount);
     }
 
+    /**
+     * Execute one training cycle for player.
+     * 
+     * @param stat Stat to train
+     * @param amount Amount to train
+     * @return PlayerTrainingSystem.TrainingResult
+     */
+    public PlayerTrainingSystem.TrainingResult trainPlayer(StatType stat, int amount) {
+        if (!gameInitialized || gameOver) {
+            return new PlayerTrainingSystem.TrainingResult(false, "Unknown", "", 0, 0, 0,
+                "Game not initialized");
+        }
+
+        if (currentPhase != GamePhase.TRAINING) {
+            return new PlayerTrainingSystem.TrainingResult(false, player.getName(), "", 0, 0, 0,
+                "Not in training phase");
+        }
+
+        return playerTrainingSystem.trainStat(player, stat, amount);
+    }
+
     /**
      * Execute group training for all enemies.
      * 
@@ -349,7 +372,7 @@ public class GameFlowSystem {
         }
 
         // Use AI to choose skill
-        EnemyAISystem.AIDecision decision = enemyAISystem.chooseSkill(currentEnemy, player);
+        EnemyAISystem.AIDecision decision = decideEnemyMove(currentEnemy);
 
         if (decision.isBasicAttack()) {
             return combatSystem.enemyBasicAttack(currentEnemy, player);
@@ -453,7 +476,7 @@ public class GameFlowSystem {
         Enemy currentEnemy = getCurrentEnemy();
         if (currentEnemy == null) return "Unknown";
 
-        return enemyAISystem.getFormattedIntent(currentEnemy, player);
+        return enemyAISystem.getFormattedIntent(currentEnemy, player, decideEnemyMove(currentEnemy));
     }
 
     /**
@@ -469,6 +492,16 @@ public class GameFlowSystem {
         Enemy currentEnemy = getCurrentEnemy();
         if (currentEnemy == null) return null;
 
+        return decideEnemyMove(currentEnemy);
+    }
+
+    /**
+     * The enemy's move: look-ahead search if enabled, else the rule-based AI.
+     */
+    private EnemyAISystem.AIDecision decideEnemyMove(Enemy currentEnemy) {
+        if (lookaheadAI != null) {
+            return lookaheadAI.chooseSkill(currentEnemy, player, playerSkills, null).toDecision();
+        }
         return enemyAISystem.chooseSkill(currentEnemy, player);
     }
 
@@ -614,4 +647,25 @@ public class GameFlowSystem {
     public CooldownSystem getCooldownSystem() { return cooldownSystem; }
     public CombatSystem getCombatSystem() { return combatSystem; }
     public EnemyAISystem getEnemyAISystem() { return enemyAISystem; }
+    public ExpectimaxAISystem getLookaheadAI() { return lookaheadAI; }
+
+    /**
+     * Let the enemy pick its moves by searching ahead (null = rule-based AI, the default).
+     * Battles here alternate player / enemy turns, so the search assumes that order.
+     * Battles that don't fit the search fall back to the rule-based AI.
+     */
+    public void setLookaheadAI(ExpectimaxAISystem lookaheadAI) {
+        this.lookaheadAI = lookaheadAI;
+    }
+
+    /**
+     * Record training and combat of this game into a log (null = stop recording).
+     * Attaches the log to the training, cooldown and combat systems.
+     */
+    public void setBattleLog(BattleLog battleLog) {
+        playerTrainingSystem.setBattleLog(battleLog);
+        enemyTrainingSystem.setBattleLog(battleLog);
+        cooldownSystem.setBattleLog(battleLog);
+        combatSystem.setBattleLog(battleLog);
+    }
 }
\ No newline at end of file
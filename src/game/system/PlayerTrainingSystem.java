@@ -1,6 +1,9 @@
 package game.system;
 
 import game.core.Player;
+import game.core.Stat;
+import game.core.StatSnapshot;
+import game.core.StatType;
 
 /**
  * PlayerTrainingSystem manages player stat progression.
@@ -13,11 +16,14 @@ import game.core.Player;
  * - Query player training information
  * 
  * Design: Stateless utility system - operates on passed player.
+ * StatType methods are the fast path; the String overloads parse the name
+ * and delegate (kept for the console UI).
  * GUI-Friendly: All methods return simple types for easy UI binding.
  */
 public class PlayerTrainingSystem {
 
     private final EntitySystem entitySystem;
+    private BattleLog battleLog;   // null = not recording
 
     // Training constants
     private static final int MIN_TRAINING_AMOUNT = 1;
@@ -35,39 +41,65 @@ public class PlayerTrainingSystem {
     /**
      * TrainingResult holds the outcome of a training action.
      * Perfect for GUI display - contains all relevant information.
+     * The success message is only built when someone asks for it.
      */
     public static class TrainingResult {
         private final boolean success;
         private final String playerName;
         private final String statTrained;
+        private final StatType statType;    // null if the stat was invalid
         private final int amountTrained;
         private final int oldValue;
         private final int newValue;
-        private final String message;
+        private String message;             // null = not built yet
 
         public TrainingResult(boolean success, String playerName, String statTrained,
                             int amountTrained, int oldValue, int newValue, String message) {
             this.success = success;
             this.playerName = playerName;
             this.statTrained = statTrained;
+            this.statType = StatType.fromName(statTrained);
             this.amountTrained = amountTrained;
             this.oldValue = oldValue;
             this.newValue = newValue;
             this.message = message;
         }
 
+        /**
+         * Successful training - message built lazily.
+         */
+        public TrainingResult(String playerName, StatType stat, int amountTrained,
+                              int oldValue, int newValue) {
+            this.success = true;
+            this.playerName = playerName;
+            this.statTrained = stat.name();
+            this.statType = stat;
+            this.amountTrained = amountTrained;
+            this.oldValue = oldValue;
+            this.newValue = newValue;
+            this.message = null;
+        }
+
         // Getters
         public boolean isSuccess() { return success; }
         public String getPlayerName() { return playerName; }
         public String getStatTrained() { return statTrained; }
+        public StatType getStatType() { return statType; }
         public int getAmountTrained() { return amountTrained; }
         public int getOldValue() { return oldValue; }
         public int getNewValue() { return newValue; }
-        public String getMessage() { return message; }
+
+        public String getMessage() {
+            if (message == null) {
+                message = playerName + " trained " + statTrained + " +" + amountTrained +
+                          " (" + oldValue + " → " + newValue + ")";
+            }
+            return message;
+        }
 
         @Override
         public String toString() {
-            return message;
+            return getMessage();
         }
     }
 
@@ -77,6 +109,43 @@ public class PlayerTrainingSystem {
      * Train a specific player stat.
      * 
      * @param player The player to train
+     * @param stat The stat to train
+     * @param amount Amount to increase (must be positive)
+     * @return TrainingResult with outcome
+     */
+    public TrainingResult trainStat(Player player, StatType stat, int amount) {
+        // Validation
+        if (player == null) {
+            return new TrainingResult(false, "Unknown", "", 0, 0, 0, "Invalid player");
+        }
+
+        if (stat == null) {
+            return new TrainingResult(false, player.getName(), "", 0, 0, 0,
+                "Invalid stat specified");
+        }
+
+        if (amount < MIN_TRAINING_AMOUNT || amount > MAX_TRAINING_AMOUNT) {
+            return new TrainingResult(false, player.getName(), stat.name(), 0, 0, 0,
+                "Training amount must be between " + MIN_TRAINING_AMOUNT + " and " + MAX_TRAINING_AMOUNT);
+        }
+
+        // Apply training
+        Stat stats = player.getStats();
+        int oldValue = stats.get(stat);
+        entitySystem.modifyStat(player, stat, amount);
+        int newValue = stats.get(stat);
+
+        if (battleLog != null) {
+            battleLog.train(BattleLog.PLAYER, player.getName(), BattleLog.statCode(stat), amount, stats);
+        }
+
+        return new TrainingResult(player.getName(), stat, amount, oldValue, newValue);
+    }
+
+    /**
+     * Train a specific player stat by name.
+     * 
+     * @param player The player to train
      * @param stat The stat to train ("STR", "STRENGTH", "AGI", "AGILITY", "INT", "INTELLIGENCE")
      * @param amount Amount to increase (must be positive)
      * @return TrainingResult with outcome
@@ -97,36 +166,13 @@ public class PlayerTrainingSystem {
                 "Training amount must be between " + MIN_TRAINING_AMOUNT + " and " + MAX_TRAINING_AMOUNT);
         }
 
-        // Normalize stat name
-        String normalizedStat = normalizeStat(stat);
-        if (normalizedStat == null) {
+        StatType type = StatType.fromName(stat);
+        if (type == null) {
             return new TrainingResult(false, player.getName(), stat, 0, 0, 0,
                 "Unknown stat: " + stat + ". Use STR, AGI, or INT");
         }
 
-        // Get old value
-        int oldValue = getStat(player, normalizedStat);
-
-        // Apply training
-        switch (normalizedStat) {
-            case "STRENGTH":
-                entitySystem.modifyStrength(player, amount);
-                break;
-            case "AGILITY":
-                entitySystem.modifyAgility(player, amount);
-                break;
-            case "INTELLIGENCE":
-                entitySystem.modifyIntelligence(player, amount);
-                break;
-        }
-
-        // Get new value
-        int newValue = getStat(player, normalizedStat);
-
-        String message = player.getName() + " trained " + normalizedStat + " +" + amount +
-                        " (" + oldValue + " → " + newValue + ")";
-
-        return new TrainingResult(true, player.getName(), normalizedStat, amount, oldValue, newValue, message);
+        return trainStat(player, type, amount);
     }
 
     /**
@@ -137,7 +183,7 @@ public class PlayerTrainingSystem {
      * @return TrainingResult
      */
     public TrainingResult trainStrength(Player player, int amount) {
-        return trainStat(player, "STRENGTH", amount);
+        return trainStat(player, StatType.STRENGTH, amount);
     }
 
     /**
@@ -148,7 +194,7 @@ public class PlayerTrainingSystem {
      * @return TrainingResult
      */
     public TrainingResult trainAgility(Player player, int amount) {
-        return trainStat(player, "AGILITY", amount);
+        return trainStat(player, StatType.AGILITY, amount);
     }
 
     /**
@@ -159,7 +205,53 @@ public class PlayerTrainingSystem {
      * @return TrainingResult
      */
     public TrainingResult trainIntelligence(Player player, int amount) {
-        return trainStat(player, "INTELLIGENCE", amount);
+        return trainStat(player, StatType.INTELLIGENCE, amount);
+    }
+
+    // ===== TRAINING PLANS =====
+
+    /**
+     * Apply a whole training plan in one call.
+     * Ends exactly where trainStat for every step would, but derived stats
+     * are recomputed once. With a battle log attached the steps are applied
+     * one by one so each one is still logged.
+     * 
+     * @param player The player to train
+     * @param plan Steps to apply (specialized steps are for enemies only)
+     * @return Plan result - on failure nothing was applied
+     */
+    public TrainingPlan.Result applyPlan(Player player, TrainingPlan plan) {
+        if (player == null) {
+            return new TrainingPlan.Result(plan, "Invalid player");
+        }
+        if (plan == null) {
+            return new TrainingPlan.Result(null, "Invalid training plan");
+        }
+        if (plan.hasSpecializedSteps()) {
+            return new TrainingPlan.Result(plan, "Specialized steps are for enemies only");
+        }
+        String error = plan.validate(MIN_TRAINING_AMOUNT, MAX_TRAINING_AMOUNT);
+        if (error != null) {
+            return new TrainingPlan.Result(plan, error);
+        }
+
+        Stat stats = player.getStats();
+        int[] before = {stats.getStrength(), stats.getAgility(), stats.getIntelligence()};
+
+        if (battleLog != null) {
+            for (int step = 0; step < plan.size(); step++) {
+                trainStat(player, plan.getStat(step), plan.getAmount(step));
+            }
+        } else {
+            int[] deltas = new int[StatType.COUNT];
+            for (int step = 0; step < plan.size(); step++) {
+                deltas[plan.rawStat(step)] += plan.getAmount(step);
+            }
+            entitySystem.modifyStats(player, deltas[0], deltas[1], deltas[2]);
+        }
+
+        int[] after = {stats.getStrength(), stats.getAgility(), stats.getIntelligence()};
+        return new TrainingPlan.Result(plan, new String[]{player.getName()}, before, after, null);
     }
 
     // ===== STAT QUERIES =====
@@ -168,22 +260,23 @@ public class PlayerTrainingSystem {
      * Get player's current stat value.
      * 
      * @param player The player
+     * @param stat The stat
+     * @return Current stat value, or 0 if invalid
+     */
+    public int getStat(Player player, StatType stat) {
+        if (player == null || stat == null) return 0;
+        return player.getStats().get(stat);
+    }
+
+    /**
+     * Get player's current stat value by name.
+     * 
+     * @param player The player
      * @param stat Stat name ("STRENGTH", "AGILITY", "INTELLIGENCE")
      * @return Current stat value, or 0 if invalid
      */
     public int getStat(Player player, String stat) {
-        if (player == null) return 0;
-
-        String normalizedStat = normalizeStat(stat);
-        if (normalizedStat == null) return 0;
-
-        int[] stats = entitySystem.getPrimaryStats(player);
-        switch (normalizedStat) {
-            case "STRENGTH": return stats[0];
-            case "AGILITY": return stats[1];
-            case "INTELLIGENCE": return stats[2];
-            default: return 0;
-        }
+        return getStat(player, StatType.fromName(stat));
     }
 
     /**
@@ -193,7 +286,7 @@ public class PlayerTrainingSystem {
      * @return Current strength value
      */
     public int getStrength(Player player) {
-        return getStat(player, "STRENGTH");
+        return getStat(player, StatType.STRENGTH);
     }
 
     /**
@@ -203,7 +296,7 @@ public class PlayerTrainingSystem {
      * @return Current agility value
      */
     public int getAgility(Player player) {
-        return getStat(player, "AGILITY");
+        return getStat(player, StatType.AGILITY);
     }
 
     /**
@@ -213,7 +306,7 @@ public class PlayerTrainingSystem {
      * @return Current intelligence value
      */
     public int getIntelligence(Player player) {
-        return getStat(player, "INTELLIGENCE");
+        return getStat(player, StatType.INTELLIGENCE);
     }
 
     /**
@@ -306,7 +399,7 @@ public class PlayerTrainingSystem {
      * @return true if stat is valid (STR, AGI, INT or variants)
      */
     public boolean isValidStat(String stat) {
-        return normalizeStat(stat) != null;
+        return StatType.fromName(stat) != null;
     }
 
     /**
@@ -331,36 +424,6 @@ public class PlayerTrainingSystem {
 
     // ===== HELPER METHODS =====
 
-    /**
-     * Normalize stat name to standard form.
-     * Converts various inputs (STR, str, STRENGTH) to consistent format.
-     * 
-     * @param stat Input stat name
-     * @return Normalized stat name ("STRENGTH", "AGILITY", "INTELLIGENCE") or null if invalid
-     */
-    private String normalizeStat(String stat) {
-        if (stat == null) return null;
-
-        String upper = stat.trim().toUpperCase();
-
-        switch (upper) {
-            case "STR":
-            case "STRENGTH":
-                return "STRENGTH";
-
-            case "AGI":
-            case "AGILITY":
-                return "AGILITY";
-
-            case "INT":
-            case "INTELLIGENCE":
-                return "INTELLIGENCE";
-
-            default:
-                return null;
-        }
-    }
-
     /**
      * Get stat abbreviation.
      * 
@@ -385,7 +448,8 @@ public class PlayerTrainingSystem {
      * @return Full name ("STRENGTH", "AGILITY", "INTELLIGENCE")
      */
     public String getFullStatName(String abbreviation) {
-        return normalizeStat(abbreviation);
+        StatType type = StatType.fromName(abbreviation);
+        return type == null ? null : type.name();
     }
 
     // ===== GUI HELPER METHODS =====
@@ -404,11 +468,60 @@ public class PlayerTrainingSystem {
             return "Invalid training";
         }
 
-        int currentValue = getStat(player, stat);
+        StatType type = StatType.fromName(stat);
+        int currentValue = getStat(player, type);
         int newValue = currentValue + amount;
-        String abbrev = getStatAbbreviation(normalizeStat(stat));
 
-        return abbrev + ": " + currentValue + " → " + newValue + " (+" + amount + ")";
+        return type.getAbbreviation() + ": " + currentValue + " → " + newValue + " (+" + amount + ")";
+    }
+
+    /**
+     * Get the player's stats as they would be after training.
+     * Nothing is applied - the player is not touched.
+     *
+     * @param player The player
+     * @param stat Stat to train
+     * @param amount Amount to train
+     * @return Hypothetical stats, or null if training is invalid
+     */
+    public StatSnapshot getTrainingPreviewStats(Player player, String stat, int amount) {
+        if (player == null || !isValidStat(stat) || !isValidTrainingAmount(amount)) {
+            return null;
+        }
+
+        return player.getStats().snapshot().plus(StatType.fromName(stat), amount);
+    }
+
+    /**
+     * Get derived stat changes caused by training.
+     * Lists only stats that would change.
+     *
+     * @param player The player
+     * @param stat Stat to train
+     * @param amount Amount to train
+     * @return Preview text (e.g., "Max HP: 120 → 135"), or "Invalid training"
+     */
+    public String getDerivedStatPreview(Player player, String stat, int amount) {
+        StatSnapshot after = getTrainingPreviewStats(player, stat, amount);
+        if (after == null) {
+            return "Invalid training";
+        }
+
+        StatSnapshot before = player.getStats().snapshot();
+        StringBuilder sb = new StringBuilder();
+        appendChange(sb, "Max HP", before.getMaxHp(), after.getMaxHp());
+        appendChange(sb, "Evasion", before.getEvasion(), after.getEvasion());
+        appendChange(sb, "Speed", before.getSpeed(), after.getSpeed());
+        appendChange(sb, "Accuracy", before.getAccuracy(), after.getAccuracy());
+        appendChange(sb, "CDR", before.getCooldownReduction(), after.getCooldownReduction());
+
+        return sb.length() > 0 ? sb.toString() : "No derived stat changes";
+    }
+
+    private void appendChange(StringBuilder sb, String label, int before, int after) {
+        if (before == after) return;
+        if (sb.length() > 0) sb.append(" | ");
+        sb.append(label).append(": ").append(before).append(" → ").append(after);
     }
 
     /**
@@ -444,4 +557,10 @@ public class PlayerTrainingSystem {
     public EntitySystem getEntitySystem() { return entitySystem; }
     public int getMinTrainingAmount() { return MIN_TRAINING_AMOUNT; }
     public int getMaxTrainingAmount() { return MAX_TRAINING_AMOUNT; }
+
+    /**
+     * Record training into a log (null = stop recording).
+     */
+    public void setBattleLog(BattleLog battleLog) { this.battleLog = battleLog; }
+    public BattleLog getBattleLog() { return battleLog; }
 }
\ No newline at end of file
@@ -0,0 +1,142 @@
+package game.system;
+
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * RandomSystem is the single source of randomness for the game.
+ * Wraps a SplittableRandom stream and remembers the seed it started from.
+ *
+ * Responsibilities:
+ * - Hit rolls, training rolls, enemy order, training cycle counts
+ * - Record the seed so a whole game can be replayed exactly
+ * - Hand out independent child streams for worker threads (split)
+ *
+ * Rules:
+ * - One RandomSystem per thread - instances are NOT thread-safe
+ * - Same seed + same sequence of calls = same results, every time
+ * - split() is deterministic: a child's seed comes from the parent stream
+ *
+ * Design: Injected into CombatSystem and EnemyTrainingSystem instead of Math.random.
+ * GUI-Friendly: getSeed() can be shown to the player to replay a run.
+ */
+public class RandomSystem {
+
+    private final long seed;
+    private final SplittableRandom random;
+
+    /**
+     * Create a stream with a fresh, unpredictable seed.
+     */
+    public RandomSystem() {
+        this(new SplittableRandom().nextLong());
+    }
+
+    /**
+     * Create a stream from a known seed (for replays and reproducible runs).
+     *
+     * @param seed Starting seed
+     */
+    public RandomSystem(long seed) {
+        this.seed = seed;
+        this.random = new SplittableRandom(seed);
+    }
+
+    // ===== ROLLS =====
+
+    /**
+     * Random int in [0, bound).
+     *
+     * @param bound Exclusive upper bound (must be positive)
+     * @return Random int
+     */
+    public int nextInt(int bound) {
+        return random.nextInt(bound);
+    }
+
+    /**
+     * Random int in [origin, bound).
+     *
+     * @param origin Inclusive lower bound
+     * @param bound Exclusive upper bound
+     * @return Random int
+     */
+    public int nextInt(int origin, int bound) {
+        return random.nextInt(origin, bound);
+    }
+
+    /**
+     * Random double in [0.0, 1.0).
+     */
+    public double nextDouble() {
+        return random.nextDouble();
+    }
+
+    /**
+     * Random long (full range).
+     */
+    public long nextLong() {
+        return random.nextLong();
+    }
+
+    /**
+     * Percentile roll in [1, 100].
+     * Used for hit checks: hit if roll <= hitChance.
+     */
+    public int rollPercent() {
+        return random.nextInt(100) + 1;
+    }
+
+    // ===== SHUFFLING =====
+
+    /**
+     * Shuffle an array in place using Fisher-Yates.
+     *
+     * @param array Array to shuffle
+     */
+    public <T> void shuffle(T[] array) {
+        for (int i = array.length - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            T temp = array[i];
+            array[i] = array[j];
+            array[j] = temp;
+        }
+    }
+
+    /**
+     * Shuffle a list in place using Fisher-Yates.
+     *
+     * @param list List to shuffle
+     */
+    public <T> void shuffle(List<T> list) {
+        for (int i = list.size() - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            list.set(i, list.set(j, list.get(i)));
+        }
+    }
+
+    // ===== SPLITTING =====
+
+    /**
+     * Create an independent child stream for another thread or task.
+     * The child's seed is drawn from this stream, so splitting is reproducible
+     * as long as splits happen in the same order.
+     *
+     * @return New RandomSystem with its own recorded seed
+     */
+    public RandomSystem split() {
+        return new RandomSystem(random.nextLong());
+    }
+
+    // ===== ACCESSORS =====
+
+    /**
+     * Get the seed this stream started from.
+     */
+    public long getSeed() { return seed; }
+
+    @Override
+    public String toString() {
+        return "RandomSystem[seed=" + seed + "]";
+    }
+}
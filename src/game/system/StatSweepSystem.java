@@ -0,0 +1,367 @@
+package game.system;
+
+import game.core.Player;
+import game.core.Enemy;
+import game.core.Profession;
+import game.core.StatType;
+import game.data.EnemiesData;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * StatSweepSystem searches the STR/AGI/INT allocation space for a profession.
+ * Every way of spending a training budget is simulated against every enemy
+ * and the builds are ranked by win rate.
+ *
+ * HOW IT WORKS:
+ * - Budget = number of training cycles (each cycle trains one stat by 5)
+ * - Grid = every (STR cycles, AGI cycles, INT cycles) that sums to the budget
+ * - The grid is split recursively across a ForkJoinPool
+ * - Each leaf task owns its own BattleSimulator (simulators are not thread-safe)
+ * - Each task's random stream is split before forking, so a seed replays exactly
+ * - Results are written into a preallocated slot per allocation (no locking)
+ *
+ * Example: 10 cycles = 66 allocations x 3 enemies x N battles each
+ *
+ * Design: Stateless coordinator - all sweep state lives in the task tree.
+ * GUI-Friendly: Returns ranked entries and a formatted table for display.
+ */
+public class StatSweepSystem {
+
+    private final ForkJoinPool pool;
+    private final EntitySystem entitySystem;
+    private final PlayerTrainingSystem playerTrainingSystem;
+
+    // Sweep constants
+    private static final int TRAINING_AMOUNT = 5;    // Same amount per cycle as the console game
+    private static final int LEAF_ALLOCATIONS = 1;   // Allocations per leaf task
+    private static final String SWEEP_PLAYER_NAME = "Sweep";
+
+    public StatSweepSystem() {
+        this(ForkJoinPool.commonPool());
+    }
+
+    public StatSweepSystem(ForkJoinPool pool) {
+        if (pool == null) {
+            throw new IllegalArgumentException("ForkJoinPool cannot be null");
+        }
+        this.pool = pool;
+        this.entitySystem = new EntitySystem();
+        this.playerTrainingSystem = new PlayerTrainingSystem(entitySystem);
+    }
+
+    // ===== SWEEP RESULT CLASSES =====
+
+    /**
+     * One build (stat allocation) and its results against each enemy.
+     */
+    public static class SweepEntry {
+        private final int strengthCycles;
+        private final int agilityCycles;
+        private final int intelligenceCycles;
+        private final int[] finalStats;     // [STR, AGI, INT] after training
+        private final double[] winRates;    // Same order as enemy names
+        private final double[] meanTurns;
+
+        public SweepEntry(int strengthCycles, int agilityCycles, int intelligenceCycles,
+                          int[] finalStats, double[] winRates, double[] meanTurns) {
+            this.strengthCycles = strengthCycles;
+            this.agilityCycles = agilityCycles;
+            this.intelligenceCycles = intelligenceCycles;
+            this.finalStats = finalStats;
+            this.winRates = winRates;
+            this.meanTurns = meanTurns;
+        }
+
+        // Getters
+        public int getStrengthCycles() { return strengthCycles; }
+        public int getAgilityCycles() { return agilityCycles; }
+        public int getIntelligenceCycles() { return intelligenceCycles; }
+        public int[] getFinalStats() { return finalStats.clone(); }
+        public double getWinRate(int enemyIndex) { return winRates[enemyIndex]; }
+        public double getMeanTurns(int enemyIndex) { return meanTurns[enemyIndex]; }
+
+        /**
+         * Mean win rate across all enemies.
+         */
+        public double getOverallWinRate() {
+            if (winRates.length == 0) return 0.0;
+            double sum = 0;
+            for (double rate : winRates) {
+                sum += rate;
+            }
+            return sum / winRates.length;
+        }
+
+        /**
+         * Worst matchup win rate (useful for "no bad matchups" builds).
+         */
+        public double getWorstWinRate() {
+            double worst = 1.0;
+            for (double rate : winRates) {
+                worst = Math.min(worst, rate);
+            }
+            return winRates.length == 0 ? 0.0 : worst;
+        }
+
+        @Override
+        public String toString() {
+            return "STR x" + strengthCycles + " / AGI x" + agilityCycles + " / INT x" + intelligenceCycles +
+                   " -> " + String.format("%.2f%%", getOverallWinRate() * 100);
+        }
+    }
+
+    /**
+     * Full sweep result, ranked by overall win rate (best first).
+     */
+    public static class SweepResult {
+        private final Profession profession;
+        private final int trainingCycles;
+        private final int battlesPerMatchup;
+        private final long seed;
+        private final String[] enemyNames;
+        private final List<SweepEntry> rankedEntries;
+
+        public SweepResult(Profession profession, int trainingCycles, int battlesPerMatchup, long seed,
+                           String[] enemyNames, List<SweepEntry> rankedEntries) {
+            this.profession = profession;
+            this.trainingCycles = trainingCycles;
+            this.battlesPerMatchup = battlesPerMatchup;
+            this.seed = seed;
+            this.enemyNames = enemyNames;
+            this.rankedEntries = rankedEntries;
+        }
+
+        // Getters
+        public Profession getProfession() { return profession; }
+        public int getTrainingCycles() { return trainingCycles; }
+        public int getBattlesPerMatchup() { return battlesPerMatchup; }
+        public long getSeed() { return seed; }
+        public String[] getEnemyNames() { return enemyNames.clone(); }
+        public List<SweepEntry> getRankedEntries() { return rankedEntries; }
+
+        /**
+         * Get best build, or null if the sweep was empty.
+         */
+        public SweepEntry getBest() {
+            return rankedEntries.isEmpty() ? null : rankedEntries.get(0);
+        }
+
+        /**
+         * Get ranked win-rate table for console display.
+         *
+         * @param limit Maximum rows to show (0 or negative = all)
+         * @return Formatted table
+         */
+        public String getFormattedTable(int limit) {
+            StringBuilder sb = new StringBuilder();
+            sb.append("=== Stat Sweep: ").append(profession)
+              .append(" (").append(trainingCycles).append(" cycles, ")
+              .append(battlesPerMatchup).append(" battles/matchup, seed ").append(seed).append(") ===\n");
+
+            sb.append(String.format("%-4s %-5s %-5s %-5s %-14s", "#", "STR", "AGI", "INT", "Final Stats"));
+            for (String name : enemyNames) {
+                sb.append(String.format(" %13s", name));
+            }
+            sb.append(String.format(" %9s%n", "Overall"));
+
+            int rows = limit > 0 ? Math.min(limit, rankedEntries.size()) : rankedEntries.size();
+            for (int i = 0; i < rows; i++) {
+                SweepEntry entry = rankedEntries.get(i);
+                int[] stats = entry.finalStats;
+                sb.append(String.format("%-4d %-5d %-5d %-5d %-14s", i + 1,
+                        entry.strengthCycles, entry.agilityCycles, entry.intelligenceCycles,
+                        stats[0] + "/" + stats[1] + "/" + stats[2]));
+                for (int e = 0; e < enemyNames.length; e++) {
+                    sb.append(String.format(" %12.2f%%", entry.winRates[e] * 100));
+                }
+                sb.append(String.format(" %8.2f%%%n", entry.getOverallWinRate() * 100));
+            }
+
+            return sb.toString();
+        }
+
+        @Override
+        public String toString() {
+            return getFormattedTable(10);
+        }
+    }
+
+    // ===== SWEEP =====
+
+    /**
+     * Sweep every allocation of the training budget against all enemy types.
+     *
+     * @param profession Player profession
+     * @param trainingCycles Training budget (cycles of +5 to one stat)
+     * @param battlesPerMatchup Battles simulated per allocation per enemy
+     * @return SweepResult ranked by overall win rate
+     */
+    public SweepResult sweep(Profession profession, int trainingCycles, int battlesPerMatchup) {
+        return sweep(profession, trainingCycles, battlesPerMatchup, EnemiesData.getAllEnemyTypes(),
+                     new RandomSystem().getSeed());
+    }
+
+    /**
+     * Reproducible sweep: the same seed always gives the same table,
+     * regardless of pool size or scheduling.
+     *
+     * @param profession Player profession
+     * @param trainingCycles Training budget (cycles of +5 to one stat)
+     * @param battlesPerMatchup Battles simulated per allocation per enemy
+     * @param seed Root seed for all hit rolls
+     * @return SweepResult ranked by overall win rate
+     */
+    public SweepResult sweep(Profession profession, int trainingCycles, int battlesPerMatchup, long seed) {
+        return sweep(profession, trainingCycles, battlesPerMatchup, EnemiesData.getAllEnemyTypes(), seed);
+    }
+
+    /**
+     * Sweep every allocation of the training budget against the given enemies.
+     *
+     * @param profession Player profession
+     * @param trainingCycles Training budget (cycles of +5 to one stat)
+     * @param battlesPerMatchup Battles simulated per allocation per enemy
+     * @param enemies Enemy templates (not modified)
+     * @param seed Root seed for all hit rolls
+     * @return SweepResult ranked by overall win rate
+     */
+    public SweepResult sweep(Profession profession, int trainingCycles, int battlesPerMatchup,
+                             Enemy[] enemies, long seed) {
+        if (profession == null) {
+            throw new IllegalArgumentException("Profession cannot be null");
+        }
+        if (enemies == null || enemies.length == 0) {
+            throw new IllegalArgumentException("Enemies cannot be null or empty");
+        }
+        if (trainingCycles < 0 || battlesPerMatchup < 1) {
+            throw new IllegalArgumentException("Invalid sweep size");
+        }
+
+        int[][] allocations = enumerateAllocations(trainingCycles);
+        SweepEntry[] entries = new SweepEntry[allocations.length];
+
+        pool.invoke(new SweepTask(profession, enemies, battlesPerMatchup, allocations, entries,
+                                  0, allocations.length, new RandomSystem(seed)));
+
+        List<SweepEntry> ranked = new ArrayList<>(Arrays.asList(entries));
+        ranked.sort(Comparator.comparingDouble(SweepEntry::getOverallWinRate).reversed()
+                .thenComparing(Comparator.comparingDouble(SweepEntry::getWorstWinRate).reversed()));
+
+        String[] enemyNames = new String[enemies.length];
+        for (int i = 0; i < enemies.length; i++) {
+            enemyNames[i] = enemies[i].getName();
+        }
+
+        return new SweepResult(profession, trainingCycles, battlesPerMatchup, seed, enemyNames, ranked);
+    }
+
+    /**
+     * Enumerate every (STR, AGI, INT) cycle split of the budget.
+     *
+     * @param trainingCycles Budget
+     * @return Array of [strCycles, agiCycles, intCycles]
+     */
+    public int[][] enumerateAllocations(int trainingCycles) {
+        int count = (trainingCycles + 1) * (trainingCycles + 2) / 2;
+        int[][] allocations = new int[count][];
+
+        int index = 0;
+        for (int str = trainingCycles; str >= 0; str--) {
+            for (int agi = trainingCycles - str; agi >= 0; agi--) {
+                allocations[index++] = new int[]{str, agi, trainingCycles - str - agi};
+            }
+        }
+        return allocations;
+    }
+
+    /**
+     * Build a trained player for one allocation.
+     * Uses PlayerTrainingSystem so training rules match the real game.
+     */
+    private Player buildPlayer(Profession profession, int[] allocation) {
+        Player player = entitySystem.createPlayer(SWEEP_PLAYER_NAME, profession);
+        TrainingPlan plan = new TrainingPlan()
+            .add(StatType.STRENGTH, TRAINING_AMOUNT, allocation[0])
+            .add(StatType.AGILITY, TRAINING_AMOUNT, allocation[1])
+            .add(StatType.INTELLIGENCE, TRAINING_AMOUNT, allocation[2]);
+        playerTrainingSystem.applyPlan(player, plan);
+        return player;
+    }
+
+    // ===== FORK/JOIN TASK =====
+
+    /**
+     * Recursive task over a range of allocation indices.
+     * Splits in half until the range is small enough, then simulates.
+     */
+    @SuppressWarnings("serial")   // Fork/join task - never serialized
+    private class SweepTask extends RecursiveAction {
+        private final Profession profession;
+        private final Enemy[] enemies;
+        private final int battles;
+        private final int[][] allocations;
+        private final SweepEntry[] entries;
+        private final int from;
+        private final int to;
+        private final RandomSystem randomSystem;
+
+        SweepTask(Profession profession, Enemy[] enemies, int battles,
+                  int[][] allocations, SweepEntry[] entries, int from, int to, RandomSystem randomSystem) {
+            this.profession = profession;
+            this.enemies = enemies;
+            this.battles = battles;
+            this.allocations = allocations;
+            this.entries = entries;
+            this.from = from;
+            this.to = to;
+            this.randomSystem = randomSystem;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= LEAF_ALLOCATIONS) {
+                simulateRange();
+                return;
+            }
+
+            // Split streams here, before forking, so the tree of seeds is fixed
+            int mid = (from + to) >>> 1;
+            RandomSystem leftRandom = randomSystem.split();
+            RandomSystem rightRandom = randomSystem.split();
+            invokeAll(
+                new SweepTask(profession, enemies, battles, allocations, entries, from, mid, leftRandom),
+                new SweepTask(profession, enemies, battles, allocations, entries, mid, to, rightRandom)
+            );
+        }
+
+        private void simulateRange() {
+            BattleSimulator simulator = new BattleSimulator(randomSystem);
+
+            for (int i = from; i < to; i++) {
+                int[] allocation = allocations[i];
+                Player player = buildPlayer(profession, allocation);
+
+                double[] winRates = new double[enemies.length];
+                double[] meanTurns = new double[enemies.length];
+                for (int e = 0; e < enemies.length; e++) {
+                    BattleSimulator.SimulationResult result = simulator.simulate(player, enemies[e], battles);
+                    winRates[e] = result.getWinRate();
+                    meanTurns[e] = result.getMeanTurns();
+                }
+
+                entries[i] = new SweepEntry(allocation[0], allocation[1], allocation[2],
+                        entitySystem.getPrimaryStats(player), winRates, meanTurns);
+            }
+        }
+    }
+
+    // ===== ACCESSORS =====
+
+    public ForkJoinPool getPool() { return pool; }
+    public int getTrainingAmount() { return TRAINING_AMOUNT; }
+}
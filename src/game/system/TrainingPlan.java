@@ -0,0 +1,303 @@
+package game.system;
+
+import game.core.StatType;
+import java.util.Arrays;
+
+/**
+ * TrainingPlan is a whole training schedule - a list of steps, each
+ * "train this stat by this amount" - applied in one call by
+ * PlayerTrainingSystem.applyPlan / EnemyTrainingSystem.applyPlan.
+ *
+ * HOW IT WORKS:
+ * - Steps are stored as two primitive arrays (stat index, amount)
+ * - The executor sums the steps into per-stat deltas and calls
+ *   Stat.increaseAll once per trainee, so derived stats are recomputed
+ *   once per plan instead of once per step
+ * - Same end state as calling trainStat / trainGroup step by step
+ *   (amounts are positive, so nothing clamps in between)
+ * - Per-step results are not built while training; Result rebuilds them
+ *   from the start values when asked
+ *
+ * Specialized steps (enemies only) roll the stat from the enemy's
+ * specialization, exactly like trainGroup, in the same random order.
+ *
+ * Usage: new TrainingPlan().add(StatType.STRENGTH, 5).addSpecialized(5).repeat(7)
+ */
+public final class TrainingPlan {
+
+    private static final byte SPECIALIZED = -1;
+    private static final int INITIAL_CAPACITY = 8;
+
+    private byte[] stats = new byte[INITIAL_CAPACITY];   // StatType ordinal or SPECIALIZED
+    private int[] amounts = new int[INITIAL_CAPACITY];
+    private int size;
+
+    /**
+     * One stat trained the same amount for N cycles.
+     */
+    public static TrainingPlan of(StatType stat, int amount, int cycles) {
+        return new TrainingPlan().add(stat, amount, cycles);
+    }
+
+    // ===== BUILDING =====
+
+    /**
+     * Append one step.
+     */
+    public TrainingPlan add(StatType stat, int amount) {
+        if (stat == null) {
+            throw new IllegalArgumentException("Stat cannot be null");
+        }
+        append((byte) stat.ordinal(), amount);
+        return this;
+    }
+
+    /**
+     * Append the same step N times.
+     */
+    public TrainingPlan add(StatType stat, int amount, int times) {
+        for (int i = 0; i < times; i++) {
+            add(stat, amount);
+        }
+        return this;
+    }
+
+    /**
+     * Append a step where each enemy picks the stat from its specialization.
+     */
+    public TrainingPlan addSpecialized(int amount) {
+        append(SPECIALIZED, amount);
+        return this;
+    }
+
+    public TrainingPlan addSpecialized(int amount, int times) {
+        for (int i = 0; i < times; i++) {
+            addSpecialized(amount);
+        }
+        return this;
+    }
+
+    /**
+     * Repeat the current schedule so it runs N times in total.
+     */
+    public TrainingPlan repeat(int cycles) {
+        if (cycles < 1) {
+            throw new IllegalArgumentException("Cycles must be at least 1");
+        }
+        int once = size;
+        for (int cycle = 1; cycle < cycles; cycle++) {
+            for (int i = 0; i < once; i++) {
+                append(stats[i], amounts[i]);
+            }
+        }
+        return this;
+    }
+
+    private void append(byte stat, int amount) {
+        if (size == stats.length) {
+            stats = Arrays.copyOf(stats, size * 2);
+            amounts = Arrays.copyOf(amounts, size * 2);
+        }
+        stats[size] = stat;
+        amounts[size] = amount;
+        size++;
+    }
+
+    // ===== QUERIES =====
+
+    public int size() { return size; }
+
+    /**
+     * @return Stat of the step, or null for a specialized step
+     */
+    public StatType getStat(int step) {
+        return stats[step] == SPECIALIZED ? null : StatType.of(stats[step]);
+    }
+
+    public int getAmount(int step) { return amounts[step]; }
+
+    public boolean isSpecialized(int step) { return stats[step] == SPECIALIZED; }
+
+    public boolean hasSpecializedSteps() {
+        for (int i = 0; i < size; i++) {
+            if (stats[i] == SPECIALIZED) return true;
+        }
+        return false;
+    }
+
+    /**
+     * Check every amount against the training limits.
+     *
+     * @return Error message, or null if every step is valid
+     */
+    String validate(int minAmount, int maxAmount) {
+        if (size == 0) {
+            return "Training plan is empty";
+        }
+        for (int i = 0; i < size; i++) {
+            if (amounts[i] < minAmount || amounts[i] > maxAmount) {
+                return "Step " + (i + 1) + ": training amount must be between " + minAmount + " and " + maxAmount;
+            }
+        }
+        return null;
+    }
+
+    byte rawStat(int step) { return stats[step]; }
+
+    @Override
+    public String toString() {
+        return "TrainingPlan[" + size + " steps]";
+    }
+
+    // ===== RESULT CLASS =====
+
+    /**
+     * Outcome of a plan for one or more trainees.
+     * Holds start / end stats; per-step values are rebuilt on first request.
+     */
+    public static class Result {
+        private static final EnemyTrainingSystem.Specialization[] SPECIALIZATIONS =
+            EnemyTrainingSystem.Specialization.values();
+
+        private final boolean success;
+        private final String message;
+        private final TrainingPlan plan;
+        private final int stepCount;       // Plan size when applied (later steps are not ours)
+        private final String[] names;
+        private final int[] before;        // [trainee * COUNT + stat]
+        private final int[] after;
+        private final byte[] steps;        // [step * trainees + trainee] -> stat | specialization << 2 (null for a player)
+        private int[] stepOldValues;       // Lazy, [step * trainees + trainee]
+
+        Result(TrainingPlan plan, String[] names, int[] before, int[] after, byte[] steps) {
+            this.success = true;
+            this.message = null;
+            this.plan = plan;
+            this.stepCount = plan.size();
+            this.names = names;
+            this.before = before;
+            this.after = after;
+            this.steps = steps;
+        }
+
+        /**
+         * Pack what an enemy did in one step.
+         */
+        static byte encodeStep(StatType stat, EnemyTrainingSystem.Specialization specialization) {
+            return (byte) (stat.ordinal() | specialization.ordinal() << 2);
+        }
+
+        /**
+         * Failed plan - nothing was applied.
+         */
+        Result(TrainingPlan plan, String message) {
+            this.success = false;
+            this.message = message;
+            this.plan = plan;
+            this.stepCount = 0;
+            this.names = new String[0];
+            this.before = new int[0];
+            this.after = new int[0];
+            this.steps = null;
+        }
+
+        // Getters
+        public boolean isSuccess() { return success; }
+        public int getTraineeCount() { return names.length; }
+        public int getStepCount() { return stepCount; }
+        public String getName(int trainee) { return names[trainee]; }
+
+        public int getBefore(int trainee, StatType stat) { return before[trainee * StatType.COUNT + stat.ordinal()]; }
+        public int getAfter(int trainee, StatType stat) { return after[trainee * StatType.COUNT + stat.ordinal()]; }
+        public int getGain(int trainee, StatType stat) { return getAfter(trainee, stat) - getBefore(trainee, stat); }
+
+        /**
+         * Stat a trainee trained in a step (resolves specialized steps).
+         */
+        public StatType getStepStat(int step, int trainee) {
+            if (steps == null) {
+                return StatType.of(plan.rawStat(step));
+            }
+            return StatType.of(steps[step * names.length + trainee] & 3);
+        }
+
+        /**
+         * Enemy's specialization when it trained in a step (null for a player).
+         */
+        public EnemyTrainingSystem.Specialization getStepSpecialization(int step, int trainee) {
+            if (steps == null) return null;
+            return SPECIALIZATIONS[steps[step * names.length + trainee] >> 2];
+        }
+
+        public int getStepOldValue(int step, int trainee) {
+            return stepOldValues()[step * names.length + trainee];
+        }
+
+        public int getStepNewValue(int step, int trainee) {
+            return getStepOldValue(step, trainee) + plan.getAmount(step);
+        }
+
+        /**
+         * Step as the single-call API would have returned it (player plans).
+         */
+        public PlayerTrainingSystem.TrainingResult getPlayerStep(int step) {
+            return new PlayerTrainingSystem.TrainingResult(names[0], getStepStat(step, 0), plan.getAmount(step),
+                                                           getStepOldValue(step, 0), getStepNewValue(step, 0));
+        }
+
+        /**
+         * Step as trainGroup / trainGroupStat would have returned it (enemy plans).
+         */
+        public EnemyTrainingSystem.EnemyTrainingResult getEnemyStep(int step, int trainee) {
+            return new EnemyTrainingSystem.EnemyTrainingResult(names[trainee], getStepStat(step, trainee),
+                plan.getAmount(step), getStepOldValue(step, trainee), getStepNewValue(step, trainee),
+                getStepSpecialization(step, trainee), plan.isSpecialized(step));
+        }
+
+        private int[] stepOldValues() {
+            if (stepOldValues == null) {
+                int trainees = names.length;
+                int[] running = before.clone();
+                int[] values = new int[stepCount * trainees];
+                for (int step = 0; step < stepCount; step++) {
+                    for (int t = 0; t < trainees; t++) {
+                        int index = t * StatType.COUNT + getStepStat(step, t).ordinal();
+                        values[step * trainees + t] = running[index];
+                        running[index] += plan.getAmount(step);
+                    }
+                }
+                stepOldValues = values;
+            }
+            return stepOldValues;
+        }
+
+        public String getMessage() {
+            return success ? "Training plan complete: " + stepCount + " steps, " + names.length + " trained"
+                           : message;
+        }
+
+        /**
+         * Get formatted summary for console display.
+         */
+        public String getSummary() {
+            if (!success) return message;
+
+            StringBuilder sb = new StringBuilder();
+            sb.append("=== Training Plan (").append(stepCount).append(" steps) ===\n");
+            for (int t = 0; t < names.length; t++) {
+                sb.append(names[t]).append(":");
+                for (StatType stat : StatType.values()) {
+                    sb.append(" ").append(stat.getAbbreviation()).append(" ")
+                      .append(getBefore(t, stat)).append(" → ").append(getAfter(t, stat));
+                }
+                sb.append("\n");
+            }
+            return sb.toString();
+        }
+
+        @Override
+        public String toString() {
+            return getMessage();
+        }
+    }
+}
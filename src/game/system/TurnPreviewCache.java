@@ -0,0 +1,131 @@
+package game.system;
+
+/**
+ * TurnPreviewCache remembers the upcoming turn order so repeated queries
+ * (UI turn bar, AI, "turns until X acts") don't re-simulate every time.
+ *
+ * HOW IT WORKS:
+ * - Ring buffer of upcoming actors (scheduler handles) + how long each waits
+ *   after the previous one
+ * - A private copy of the scheduler ("cursor") sits at the state just after
+ *   the last buffered turn, so the buffer can be extended without restarting
+ * - A real turn advance pops the head - the rest of the buffer stays valid
+ * - Anything else that changes the schedule (speed change, removal, new battle)
+ *   invalidates the whole buffer
+ *
+ * Design: Owned by ActionValueSystem. Not thread-safe.
+ */
+class TurnPreviewCache {
+
+    private static final int INITIAL_CAPACITY = 16;   // Power of two
+
+    private final TurnScheduler scheduler;
+    private TurnScheduler cursor;   // null = invalid, rebuild from scheduler
+
+    // Ring buffer
+    private int[] actors;
+    private double[] waits;
+    private int head;
+    private int size;
+
+    TurnPreviewCache(TurnScheduler scheduler) {
+        this.scheduler = scheduler;
+        this.actors = new int[INITIAL_CAPACITY];
+        this.waits = new double[INITIAL_CAPACITY];
+        this.cursor = null;
+        this.head = 0;
+        this.size = 0;
+    }
+
+    // ===== INVALIDATION =====
+
+    /**
+     * Drop everything - next query re-simulates from the live scheduler.
+     */
+    void invalidate() {
+        cursor = null;
+        head = 0;
+        size = 0;
+    }
+
+    /**
+     * Called after the live scheduler advanced one turn.
+     * If the buffered head is the one who acted, just pop it.
+     *
+     * @param actor Handle that acted
+     */
+    void onAdvance(int actor) {
+        if (cursor == null) return;
+
+        if (size > 0 && actors[head] == actor) {
+            head = (head + 1) & (actors.length - 1);
+            size--;
+        } else {
+            invalidate();
+        }
+    }
+
+    // ===== QUERIES =====
+
+    /**
+     * Make sure at least N upcoming turns are buffered.
+     *
+     * @param turns Turns needed
+     * @return Turns available (less than N only if nobody is scheduled)
+     */
+    int ensure(int turns) {
+        if (cursor == null) {
+            cursor = scheduler.copy();
+            head = 0;
+            size = 0;
+        }
+        if (turns > actors.length) {
+            grow(turns);
+        }
+
+        while (size < turns) {
+            int actor = cursor.peek();
+            if (actor < 0) break;
+
+            int index = (head + size) & (actors.length - 1);
+            waits[index] = cursor.getActionValue(actor);
+            actors[index] = cursor.advance();
+            size++;
+        }
+        return Math.min(size, turns);
+    }
+
+    /**
+     * Handle of the i-th upcoming actor (0 = next). Call ensure() first.
+     */
+    int actorAt(int i) {
+        return actors[(head + i) & (actors.length - 1)];
+    }
+
+    /**
+     * AV the i-th upcoming actor waits after the previous one. Call ensure() first.
+     */
+    double waitAt(int i) {
+        return waits[(head + i) & (actors.length - 1)];
+    }
+
+    // ===== HELPERS =====
+
+    private void grow(int required) {
+        int capacity = actors.length;
+        while (capacity < required) {
+            capacity <<= 1;
+        }
+
+        int[] newActors = new int[capacity];
+        double[] newWaits = new double[capacity];
+        for (int i = 0; i < size; i++) {
+            newActors[i] = actorAt(i);
+            newWaits[i] = waitAt(i);
+        }
+
+        actors = newActors;
+        waits = newWaits;
+        head = 0;
+    }
+}
@@ -0,0 +1,415 @@
+package game.system;
+
+import java.util.Arrays;
+
+/**
+ * TurnScheduler orders any number of combatants by Action Value (AV).
+ * Backing store for ActionValueSystem - works on integer handles, not entities.
+ *
+ * HOW IT WORKS:
+ * - A global clock only moves forward
+ * - Each combatant stores an absolute "next action time" (clock + AV)
+ * - A binary min-heap keeps the earliest next action time on top
+ * - Advancing a turn = move clock to the top's time, push its time forward
+ *   by one interval (BASE_AV / speed), sift down - O(log N)
+ * - Nobody else is touched: AV = nextActionTime - clock is derived on demand
+ *
+ * INTEGER TIME (no floating point drift):
+ * - Time is counted in long "ticks"; ticksPerAV = LCM of every speed seen
+ * - So every interval BASE_AV * ticksPerAV / speed is an exact integer
+ * - A new speed that doesn't divide ticksPerAV rescales all times exactly
+ * - If the LCM would exceed MAX_TICKS_PER_AV, the scale stops growing and
+ *   intervals are floored instead (still deterministic, no longer exact)
+ * - The clock is rebased to 0 when it gets large and before every rescale,
+ *   so longs never overflow
+ * - Doubles only appear in getters, for display
+ *
+ * Tie-breaks (same tick): players before enemies, then insertion order.
+ *
+ * Speed changes keep the combatant's progress ratio (same rule as before):
+ * remaining ticks x oldSpeed / newSpeed, floor division.
+ * The heap entry is re-sifted in place (decrease/increase-key).
+ *
+ * Design: Plain arrays indexed by handle; heap holds handles. Not thread-safe.
+ */
+public class TurnScheduler {
+
+    private static final int MIN_SPEED = 1;
+    private static final int INITIAL_CAPACITY = 4;
+    private static final long MAX_TICKS_PER_AV = 1L << 32;    // Scale cap (interval <= BASE_AV * 2^32)
+    private static final long REBASE_THRESHOLD = 1L << 60;    // Pull clock back to 0 past this
+
+    private final int baseAV;
+    private long ticksPerAV;       // LCM of speeds (or capped scale)
+    private boolean exact;         // false once the scale hit the cap
+
+    // Per-handle data (handle = index, assigned in insertion order)
+    private String[] names;
+    private boolean[] players;
+    private int[] speeds;
+    private long[] intervals;          // Ticks per full gauge
+    private long[] nextActionTimes;    // Absolute tick of next action
+    private int[] heapPositions;       // -1 = not scheduled (removed)
+    private int count;                 // Handles ever added
+
+    // Min-heap of handles
+    private int[] heap;
+    private int heapSize;
+
+    private long clock;
+    private double rebasedAV;      // AV units removed by rebasing (display only)
+
+    public TurnScheduler(int baseAV) {
+        if (baseAV <= 0) {
+            throw new IllegalArgumentException("Base AV must be positive");
+        }
+        this.baseAV = baseAV;
+        this.names = new String[INITIAL_CAPACITY];
+        this.players = new boolean[INITIAL_CAPACITY];
+        this.speeds = new int[INITIAL_CAPACITY];
+        this.intervals = new long[INITIAL_CAPACITY];
+        this.nextActionTimes = new long[INITIAL_CAPACITY];
+        this.heapPositions = new int[INITIAL_CAPACITY];
+        this.heap = new int[INITIAL_CAPACITY];
+        this.ticksPerAV = 1;
+        this.exact = true;
+        this.count = 0;
+        this.heapSize = 0;
+        this.clock = 0;
+        this.rebasedAV = 0;
+    }
+
+    // ===== SETUP =====
+
+    /**
+     * Remove all combatants and reset the clock and time scale.
+     */
+    public void clear() {
+        count = 0;
+        heapSize = 0;
+        clock = 0;
+        rebasedAV = 0;
+        ticksPerAV = 1;
+        exact = true;
+    }
+
+    /**
+     * Add a combatant. Their first action comes one full interval from now.
+     *
+     * @param name Display name
+     * @param isPlayer true for player side (wins ties)
+     * @param speed Speed stat
+     * @return Handle used by all other methods
+     */
+    public int add(String name, boolean isPlayer, int speed) {
+        ensureCapacity(count + 1);
+
+        int handle = count++;
+        names[handle] = name;
+        players[handle] = isPlayer;
+        speeds[handle] = Math.max(MIN_SPEED, speed);
+        includeSpeed(speeds[handle]);
+        intervals[handle] = interval(speeds[handle]);
+        nextActionTimes[handle] = clock + intervals[handle];
+
+        heap[heapSize] = handle;
+        heapPositions[handle] = heapSize;
+        heapSize++;
+        siftUp(heapPositions[handle]);
+
+        return handle;
+    }
+
+    /**
+     * Take a combatant out of the turn order (e.g. defeated).
+     * The handle stays valid for queries but will never act again.
+     *
+     * @param handle Combatant handle
+     */
+    public void remove(int handle) {
+        if (!isScheduled(handle)) return;
+
+        int position = heapPositions[handle];
+        int last = heap[--heapSize];
+        heapPositions[handle] = -1;
+
+        if (position < heapSize) {
+            heap[position] = last;
+            heapPositions[last] = position;
+            siftDown(position);
+            siftUp(heapPositions[last]);
+        }
+    }
+
+    // ===== TURN FLOW =====
+
+    /**
+     * Get the handle of whoever acts next.
+     *
+     * @return Handle, or -1 if nobody is scheduled
+     */
+    public int peek() {
+        return heapSize > 0 ? heap[0] : -1;
+    }
+
+    /**
+     * Current actor finishes their turn: clock moves to their action time
+     * and they are rescheduled one interval later.
+     *
+     * @return Handle of the combatant that acted, or -1 if nobody is scheduled
+     */
+    public int advance() {
+        if (heapSize == 0) return -1;
+
+        int actor = heap[0];
+        clock = nextActionTimes[actor];
+        nextActionTimes[actor] = clock + intervals[actor];
+        siftDown(0);
+
+        if (clock > REBASE_THRESHOLD) {
+            rebase();
+        }
+        return actor;
+    }
+
+    /**
+     * Change a combatant's speed, keeping the same fraction of their gauge.
+     * New AV = old AV x oldSpeed / newSpeed (integer ticks, floor division)
+     *
+     * @param handle Combatant handle
+     * @param newSpeed New speed stat
+     */
+    public void updateSpeed(int handle, int newSpeed) {
+        if (handle < 0 || handle >= count) return;
+
+        int oldSpeed = speeds[handle];
+        int speed = Math.max(MIN_SPEED, newSpeed);
+        includeSpeed(speed);  // May rescale every time, including this handle's
+
+        long remaining = Math.max(0, nextActionTimes[handle] - clock);
+        speeds[handle] = speed;
+        intervals[handle] = interval(speed);
+        nextActionTimes[handle] = clock + scaleRemaining(remaining, oldSpeed, speed);
+
+        if (isScheduled(handle)) {
+            siftUp(heapPositions[handle]);
+            siftDown(heapPositions[handle]);
+        }
+    }
+
+    /**
+     * Preview who acts over the next N turns without changing anything.
+     * Works on a copy of the heap - O(N log C) for C combatants.
+     *
+     * @param turnsAhead Number of turns to preview
+     * @param actionValuesOut Optional (may be null): AV each actor waited since the previous preview turn
+     * @return Handles in acting order
+     */
+    public int[] preview(int turnsAhead, double[] actionValuesOut) {
+        if (turnsAhead <= 0 || heapSize == 0) return new int[0];
+
+        TurnScheduler copy = copy();
+        int[] order = new int[turnsAhead];
+        for (int i = 0; i < turnsAhead; i++) {
+            int actor = copy.heap[0];
+            if (actionValuesOut != null) {
+                actionValuesOut[i] = copy.getActionValue(actor);
+            }
+            order[i] = copy.advance();
+        }
+        return order;
+    }
+
+    // ===== QUERIES =====
+
+    /**
+     * Time left until this combatant acts (0 = acting now), in AV units.
+     */
+    public double getActionValue(int handle) {
+        return (double) getActionTicks(handle) / ticksPerAV;
+    }
+
+    /**
+     * Exact time left until this combatant acts, in ticks.
+     */
+    public long getActionTicks(int handle) {
+        return Math.max(0, nextActionTimes[handle] - clock);
+    }
+
+    /**
+     * Full gauge length for this combatant (BASE_AV / speed), in AV units.
+     */
+    public double getMaxActionValue(int handle) {
+        return (double) intervals[handle] / ticksPerAV;
+    }
+
+    /**
+     * Elapsed battle time in AV units (display only).
+     */
+    public double getClock() {
+        return rebasedAV + (double) clock / ticksPerAV;
+    }
+
+    public boolean isScheduled(int handle) {
+        return handle >= 0 && handle < count && heapPositions[handle] >= 0;
+    }
+
+    public String getName(int handle) { return names[handle]; }
+    public boolean isPlayer(int handle) { return players[handle]; }
+    public int getSpeed(int handle) { return speeds[handle]; }
+    public int getCombatantCount() { return count; }
+    public int getScheduledCount() { return heapSize; }
+    public int getBaseAV() { return baseAV; }
+    public long getTicksPerAV() { return ticksPerAV; }
+
+    /**
+     * true while every interval is an exact integer (scale never hit the cap).
+     */
+    public boolean isExact() { return exact; }
+
+    // ===== TIME SCALE =====
+
+    private long interval(int speed) {
+        return (long) baseAV * ticksPerAV / speed;
+    }
+
+    /**
+     * Grow ticksPerAV to the LCM with a new speed and rescale every time exactly.
+     */
+    private void includeSpeed(int speed) {
+        if (ticksPerAV % speed == 0) return;
+
+        long lcm = ticksPerAV / gcd(ticksPerAV, speed) * speed;
+        if (lcm > MAX_TICKS_PER_AV) {
+            exact = false;  // Keep current scale; this speed's interval is floored
+            return;
+        }
+
+        // Clock back to 0 first: every time is then at most one interval
+        // (<= baseAV x ticksPerAV) away, so it can't overflow when scaled
+        rebase();
+
+        long factor = lcm / ticksPerAV;
+        ticksPerAV = lcm;
+        clock *= factor;
+        for (int handle = 0; handle < count; handle++) {
+            nextActionTimes[handle] *= factor;
+            intervals[handle] = interval(speeds[handle]);
+        }
+    }
+
+    /**
+     * remaining x oldSpeed / newSpeed without overflow.
+     */
+    private static long scaleRemaining(long remaining, int oldSpeed, int newSpeed) {
+        long high = Math.multiplyHigh(remaining, oldSpeed);
+        if (high == 0 && remaining * oldSpeed >= 0) {
+            return remaining * oldSpeed / newSpeed;
+        }
+        // Rare (huge remaining): divide first, then handle the remainder
+        return remaining / newSpeed * oldSpeed + remaining % newSpeed * oldSpeed / newSpeed;
+    }
+
+    /**
+     * Shift every time so the clock is 0 again (order is unchanged).
+     */
+    private void rebase() {
+        rebasedAV += (double) clock / ticksPerAV;
+        for (int handle = 0; handle < count; handle++) {
+            nextActionTimes[handle] -= clock;
+        }
+        clock = 0;
+    }
+
+    private static long gcd(long a, long b) {
+        while (b != 0) {
+            long t = a % b;
+            a = b;
+            b = t;
+        }
+        return a;
+    }
+
+    // ===== HEAP HELPERS =====
+
+    /**
+     * Heap order: earlier tick first, then players, then insertion order.
+     */
+    private boolean before(int a, int b) {
+        long timeA = nextActionTimes[a];
+        long timeB = nextActionTimes[b];
+        if (timeA != timeB) return timeA < timeB;
+        if (players[a] != players[b]) return players[a];
+        return a < b;
+    }
+
+    private void siftUp(int position) {
+        int handle = heap[position];
+        while (position > 0) {
+            int parent = (position - 1) >>> 1;
+            int parentHandle = heap[parent];
+            if (!before(handle, parentHandle)) break;
+            heap[position] = parentHandle;
+            heapPositions[parentHandle] = position;
+            position = parent;
+        }
+        heap[position] = handle;
+        heapPositions[handle] = position;
+    }
+
+    private void siftDown(int position) {
+        int handle = heap[position];
+        int half = heapSize >>> 1;
+        while (position < half) {
+            int child = 2 * position + 1;
+            int right = child + 1;
+            if (right < heapSize && before(heap[right], heap[child])) {
+                child = right;
+            }
+            int childHandle = heap[child];
+            if (!before(childHandle, handle)) break;
+            heap[position] = childHandle;
+            heapPositions[childHandle] = position;
+            position = child;
+        }
+        heap[position] = handle;
+        heapPositions[handle] = position;
+    }
+
+    private void ensureCapacity(int required) {
+        if (required <= names.length) return;
+
+        int capacity = Math.max(required, names.length * 2);
+        names = Arrays.copyOf(names, capacity);
+        players = Arrays.copyOf(players, capacity);
+        speeds = Arrays.copyOf(speeds, capacity);
+        intervals = Arrays.copyOf(intervals, capacity);
+        nextActionTimes = Arrays.copyOf(nextActionTimes, capacity);
+        heapPositions = Arrays.copyOf(heapPositions, capacity);
+        heap = Arrays.copyOf(heap, capacity);
+    }
+
+    /**
+     * Independent copy of the current schedule (for previews).
+     * Names, sides and speeds are shared read-only - don't call updateSpeed on the copy.
+     *
+     * @return Copy that can be advanced without touching this scheduler
+     */
+    public TurnScheduler copy() {
+        TurnScheduler copy = new TurnScheduler(baseAV);
+        copy.names = names;                 // Read-only in the copy
+        copy.players = players;             // Read-only in the copy
+        copy.speeds = speeds;               // Read-only in the copy
+        copy.intervals = intervals.clone();
+        copy.nextActionTimes = nextActionTimes.clone();
+        copy.heapPositions = heapPositions.clone();
+        copy.heap = heap.clone();
+        copy.count = count;
+        copy.heapSize = heapSize;
+        copy.clock = clock;
+        copy.rebasedAV = rebasedAV;
+        copy.ticksPerAV = ticksPerAV;
+        copy.exact = exact;
+        return copy;
+    }
+}
@@ -0,0 +1,206 @@
+package game.test;
+
+import game.core.*;
+import game.data.*;
+import game.system.*;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * BattleLogTest checks the binary BattleLog round trip from the console.
+ *
+ * HOW IT WORKS:
+ * - Plays N logged battles (player vs every enemy type in turn), with
+ *   player and enemy training between them
+ * - After each battle, records the live state: HP, stats, cooldowns, turns, winner
+ * - Encodes the log with toByteArray(), decodes it with fromBytes(), and
+ *   replays the decoded log up to the end of every battle
+ * Every replayed state must equal the live one, the decoded log must
+ * re-encode to the same bytes, and the same seed must give the same bytes.
+ * Prints failed checks and exits with status 1 if there was one.
+ *
+ * Usage: BattleLogTest [BATTLES] [SEED]
+ * Example: BattleLogTest 1000 12345
+ */
+public class BattleLogTest {
+
+    private static final int MAX_TURNS = 200;
+
+    private static final Checks checks = new Checks("BattleLog");
+
+    /**
+     * Live state at the end of a battle, and where the log was at that point.
+     */
+    private static final class Snapshot {
+        final int events;
+        final String[] names = new String[2];
+        final int[] values = new int[12];           // STR, AGI, INT, HP, MAX HP per side, turns, winner
+        final List<String> cooldowns = new ArrayList<>();
+
+        Snapshot(int events) {
+            this.events = events;
+        }
+    }
+
+    public static void main(String[] args) {
+        int battles = args.length > 0 ? Integer.parseInt(args[0]) : 1000;
+        long seed = args.length > 1 ? Long.parseLong(args[1]) : 42;
+
+        BattleLog log = new BattleLog();
+        List<Snapshot> snapshots = play(battles, seed, log);
+
+        byte[] bytes = log.toByteArray();
+        BattleLog decoded = BattleLog.fromBytes(bytes);
+        checks.check(decoded.getEventCount() == log.getEventCount(), "event count survives decoding",
+                     decoded.getEventCount() + " vs " + log.getEventCount());
+        checks.check(Arrays.equals(decoded.toByteArray(), bytes), "decoded log re-encodes to the same bytes", "");
+
+        for (int i = 0; i < snapshots.size(); i++) {
+            Snapshot expected = snapshots.get(i);
+            BattleReplay.State state = BattleReplay.replay(decoded, expected.events);
+            compare("battle " + (i + 1), expected, state);
+        }
+        checks.check(BattleReplay.replay(decoded).getSummary().equals(BattleReplay.replay(log).getSummary()),
+                     "full replay of the decoded log equals the live log's", "");
+
+        BattleLog again = new BattleLog();
+        play(battles, seed, again);
+        checks.check(Arrays.equals(again.toByteArray(), bytes), "same seed gives the same log bytes", "");
+
+        checks.finish(battles + " battles, " + log.getEventCount() + " events, " + bytes.length + " bytes");
+    }
+
+    // ===== LIVE BATTLES =====
+
+    private static List<Snapshot> play(int battles, long seed, BattleLog log) {
+        RandomSystem randomSystem = new RandomSystem(seed);
+        EntitySystem entitySystem = new EntitySystem();
+        SkillSystem skillSystem = new SkillSystem();
+        CooldownSystem cooldownSystem = new CooldownSystem();
+        CombatSystem combatSystem = new CombatSystem(entitySystem, skillSystem, cooldownSystem, randomSystem);
+        EnemyAISystem enemyAISystem = new EnemyAISystem(entitySystem, skillSystem, cooldownSystem);
+        ActionValueSystem actionValueSystem = new ActionValueSystem(entitySystem);
+        PlayerTrainingSystem playerTraining = new PlayerTrainingSystem(entitySystem);
+        EnemyTrainingSystem enemyTraining = new EnemyTrainingSystem(entitySystem, randomSystem);
+
+        combatSystem.setBattleLog(log);
+        cooldownSystem.setBattleLog(log);
+        actionValueSystem.setBattleLog(log);
+        playerTraining.setBattleLog(log);
+        enemyTraining.setBattleLog(log);
+
+        Profession[] professions = Profession.values();
+        Player player = entitySystem.createPlayer("Tester", professions[Math.floorMod(seed, professions.length)]);
+        Skill[] playerSkills = SkillsData.getSkillsForProfession(player.getProfession());
+        Enemy[] enemies = EnemiesData.getAllEnemyTypes();
+        StatType[] stats = StatType.values();
+
+        List<Snapshot> snapshots = new ArrayList<>(battles);
+        for (int b = 0; b < battles; b++) {
+            Enemy enemy = enemies[b % enemies.length];
+
+            // Some training before the fight, so TRAIN events are in the log too
+            if (b % 7 == 0) {
+                playerTraining.trainStat(player, stats[b % stats.length], 1);
+                enemyTraining.trainSpecialized(enemy, 1);
+            }
+
+            combatSystem.prepareBattle(player, enemy);
+            actionValueSystem.initializeBattle(player, enemy);
+            int turns = 0;
+            while (turns < MAX_TURNS && entitySystem.isAlive(player) && entitySystem.isAlive(enemy)) {
+                if (actionValueSystem.isPlayerTurn()) {
+                    cooldownSystem.tickPlayerCooldowns(player);
+                    for (int s = playerSkills.length - 1; s >= 0; s--) {
+                        if (cooldownSystem.isSkillReady(player, playerSkills[s])) {
+                            combatSystem.playerAttack(player, enemy, playerSkills[s]);
+                            break;
+                        }
+                    }
+                } else {
+                    cooldownSystem.tickEnemyCooldowns(enemy);
+                    int skill = enemyAISystem.chooseSkillIndex(enemy, player);
+                    if (skill < 0) {
+                        combatSystem.enemyBasicAttack(enemy, player);
+                    } else {
+                        combatSystem.enemyAttack(enemy, player, enemy.getSkills()[skill]);
+                    }
+                }
+                actionValueSystem.advanceToNextTurn();
+                turns++;
+            }
+
+            // Training after the fight lands on the replay's current combatants
+            if (b % 5 == 0) {
+                playerTraining.trainStat(player, stats[(b / 5) % stats.length], 1);
+            }
+
+            snapshots.add(snapshot(log, player, playerSkills, enemy, cooldownSystem, turns,
+                                   combatSystem.getCombatWinner(player, enemy)));
+        }
+        actionValueSystem.endBattle();
+        return snapshots;
+    }
+
+    private static Snapshot snapshot(BattleLog log, Player player, Skill[] playerSkills, Enemy enemy,
+                                     CooldownSystem cooldownSystem, int turns, int winner) {
+        Snapshot snapshot = new Snapshot(log.getEventCount());
+        snapshot.names[BattleLog.PLAYER] = player.getName();
+        snapshot.names[BattleLog.ENEMY] = enemy.getName();
+        put(snapshot.values, BattleLog.PLAYER, player.getStats());
+        put(snapshot.values, BattleLog.ENEMY, enemy.getStats());
+        snapshot.values[10] = turns;
+        snapshot.values[11] = winner;
+
+        for (Skill skill : playerSkills) {
+            int remaining = cooldownSystem.getRemainingCooldown(player, skill);
+            if (remaining > 0) snapshot.cooldowns.add("P:" + skill.getName() + "=" + remaining);
+        }
+        for (Skill skill : enemy.getSkills()) {
+            int remaining = cooldownSystem.getRemainingCooldown(enemy, skill);
+            if (remaining > 0) snapshot.cooldowns.add("E:" + skill.getName() + "=" + remaining);
+        }
+        return snapshot;
+    }
+
+    private static void put(int[] values, int side, Stat stats) {
+        int base = side * 5;
+        values[base] = stats.getStrength();
+        values[base + 1] = stats.getAgility();
+        values[base + 2] = stats.getIntelligence();
+        values[base + 3] = stats.getHp();
+        values[base + 4] = stats.getMaxHp();
+    }
+
+    // ===== COMPARISON =====
+
+    private static void compare(String what, Snapshot expected, BattleReplay.State state) {
+        int[] replayed = new int[expected.values.length];
+        for (int side = 0; side < 2; side++) {
+            int base = side * 5;
+            replayed[base] = state.getStrength(side);
+            replayed[base + 1] = state.getAgility(side);
+            replayed[base + 2] = state.getIntelligence(side);
+            replayed[base + 3] = state.getHp(side);
+            replayed[base + 4] = state.getMaxHp(side);
+        }
+        replayed[10] = state.getTurns();
+        replayed[11] = state.getWinner();
+
+        List<String> cooldowns = new ArrayList<>();
+        state.getCooldowns(BattleLog.PLAYER).forEach((skill, remaining) -> cooldowns.add("P:" + skill + "=" + remaining));
+        state.getCooldowns(BattleLog.ENEMY).forEach((skill, remaining) -> cooldowns.add("E:" + skill + "=" + remaining));
+        cooldowns.sort(null);
+        List<String> expectedCooldowns = new ArrayList<>(expected.cooldowns);
+        expectedCooldowns.sort(null);
+
+        checks.check(expected.names[0].equals(state.getName(BattleLog.PLAYER))
+                     && expected.names[1].equals(state.getName(BattleLog.ENEMY)),
+                     what + " names", state.getName(BattleLog.PLAYER) + " vs " + state.getName(BattleLog.ENEMY));
+        checks.check(Arrays.equals(expected.values, replayed), what + " stats / HP / turns / winner",
+                     Arrays.toString(replayed) + " expected " + Arrays.toString(expected.values));
+        checks.check(expectedCooldowns.equals(cooldowns), what + " cooldowns",
+                     cooldowns + " expected " + expectedCooldowns);
+    }
+}
@@ -0,0 +1,130 @@
+package game.test;
+
+import game.core.AIRules;
+import game.core.Profession;
+import game.core.Skill;
+import game.data.Catalog;
+import game.data.CatalogCompiler;
+import game.data.CatalogLoader;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * CatalogTest checks the JSON → binary catalog round trip from the console.
+ *
+ * Checks:
+ * - The committed catalog.bin is exactly what CatalogCompiler makes from
+ *   catalog.json (same bytes, so its CRC guard matches)
+ * - JSON → binary → Catalog loads the same catalog as the JSON itself
+ *   (skills, profession skill sets, enemies and their AI rules)
+ * - The catalog the game loads (Catalog.getDefault) equals the JSON one
+ *   (default paths only)
+ * Prints failed checks and exits with status 1 if there was one.
+ *
+ * Usage: CatalogTest [catalog.json] [catalog.bin]   (run from the project root)
+ * Defaults: src/resources/data/catalog.json, src/resources/data/catalog.bin
+ */
+public class CatalogTest {
+
+    private static final Checks checks = new Checks("Catalog");
+
+    public static void main(String[] args) throws IOException {
+        Path jsonPath = Paths.get(args.length > 0 ? args[0] : "src/resources/data/catalog.json");
+        Path binaryPath = Paths.get(args.length > 1 ? args[1] : "src/resources/data/catalog.bin");
+
+        byte[] json = Files.readAllBytes(jsonPath);
+        byte[] committed = Files.readAllBytes(binaryPath);
+        byte[] compiled = CatalogCompiler.compile(json);
+
+        checks.check(Arrays.equals(compiled, committed), binaryPath + " is up to date",
+                     "stale - run game.data.CatalogCompiler");
+
+        Catalog fromJson = CatalogLoader.fromJson(new String(json, StandardCharsets.UTF_8));
+        compare("compiled binary", fromJson, CatalogLoader.fromBinary(ByteBuffer.wrap(compiled)));
+        compare("committed binary", fromJson, CatalogLoader.fromBinary(ByteBuffer.wrap(committed)));
+        if (args.length == 0) {
+            compare("default catalog", fromJson, Catalog.getDefault());   // Loaded from the classpath
+        }
+
+        checks.finish(fromJson.getSkillCount() + " skills, " + fromJson.getEnemyCount() +
+                      " enemies, " + compiled.length + " bytes");
+    }
+
+    // ===== COMPARISON =====
+
+    private static void compare(String what, Catalog expected, Catalog actual) {
+        checks.check(expected.getSkillCount() == actual.getSkillCount(), what + ": skill count",
+                     expected.getSkillCount() + " vs " + actual.getSkillCount());
+        for (int i = 0; i < Math.min(expected.getSkillCount(), actual.getSkillCount()); i++) {
+            compareSkill(what + ": skill " + i, expected.getSkill(i), actual.getSkill(i));
+        }
+
+        for (Profession profession : Profession.values()) {
+            Skill[] expectedSkills = expected.getProfessionSkills(profession);
+            Skill[] actualSkills = actual.getProfessionSkills(profession);
+            checks.check(Arrays.toString(expectedSkills).equals(Arrays.toString(actualSkills)),
+                         what + ": " + profession + " skills", Arrays.toString(actualSkills));
+        }
+
+        checks.check(expected.getEnemyCount() == actual.getEnemyCount(), what + ": enemy count",
+                     expected.getEnemyCount() + " vs " + actual.getEnemyCount());
+        for (int i = 0; i < Math.min(expected.getEnemyCount(), actual.getEnemyCount()); i++) {
+            compareEnemy(what + ": enemy " + i, expected.getEnemy(i), actual.getEnemy(i));
+        }
+    }
+
+    private static void compareSkill(String what, Skill expected, Skill actual) {
+        checks.check(expected.getName().equals(actual.getName())
+                     && expected.getAllowedProfession() == actual.getAllowedProfession()
+                     && expected.getBaseDamage() == actual.getBaseDamage()
+                     && expected.getBaseCooldown() == actual.getBaseCooldown(),
+                     what + " (" + expected.getName() + ")", String.valueOf(actual));
+    }
+
+    private static void compareEnemy(String what, Catalog.EnemyEntry expected, Catalog.EnemyEntry actual) {
+        String name = what + " (" + expected.getName() + ")";
+        checks.check(expected.getName().equals(actual.getName())
+                     && expected.getStrength() == actual.getStrength()
+                     && expected.getAgility() == actual.getAgility()
+                     && expected.getIntelligence() == actual.getIntelligence()
+                     && Objects.equals(expected.getSpecialization(), actual.getSpecialization())
+                     && Objects.equals(expected.getAIDescription(), actual.getAIDescription()),
+                     name + " fields", actual.getName());
+
+        checks.check(expected.getSkillCount() == actual.getSkillCount(), name + " skill count",
+                     String.valueOf(actual.getSkillCount()));
+        for (int s = 0; s < Math.min(expected.getSkillCount(), actual.getSkillCount()); s++) {
+            compareSkill(name + " skill " + s, expected.getSkill(s), actual.getSkill(s));
+        }
+
+        compareRules(name + " rules", expected.getAIRules(), actual.getAIRules());
+    }
+
+    private static void compareRules(String what, AIRules expected, AIRules actual) {
+        if (expected == null || actual == null) {
+            checks.check(expected == actual, what, expected == null ? "unexpected rules" : "missing rules");
+            return;
+        }
+
+        checks.check(expected.getRuleCount() == actual.getRuleCount()
+                     && expected.getMaxSkillIndex() == actual.getMaxSkillIndex(), what + " count",
+                     actual.getRuleCount() + " rules");
+        for (int r = 0; r < Math.min(expected.getRuleCount(), actual.getRuleCount()); r++) {
+            checks.check(expected.getUse(r) == actual.getUse(r)
+                         && expected.getReadyMask(r) == actual.getReadyMask(r)
+                         && expected.getCooldownMask(r) == actual.getCooldownMask(r)
+                         && Double.compare(expected.getHpBelow(r), actual.getHpBelow(r)) == 0
+                         && expected.getFlags(r) == actual.getFlags(r)
+                         && expected.getFinisher(r) == actual.getFinisher(r)
+                         && expected.getHits(r) == actual.getHits(r)
+                         && Objects.equals(expected.getReason(r), actual.getReason(r)),
+                         what + " rule " + r, actual.getReason(r));
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package game.test;
+
+/**
+ * Checks counts the checks of a console test runner.
+ * Failures are printed as they happen (the first few), the result is one
+ * line at the end, and a run with failures exits with status 1.
+ *
+ * Usage: checks.check(hp == 0, "enemy dies", "hp " + hp); ... checks.finish("3 battles");
+ */
+final class Checks {
+
+    private static final int MAX_PRINTED_FAILURES = 20;
+
+    private final String name;
+    private int count;
+    private int failures;
+
+    /**
+     * @param name Runner name for the result line ("Protocol", "Catalog", ...)
+     */
+    Checks(String name) {
+        this.name = name;
+    }
+
+    /**
+     * Record one check.
+     *
+     * @param condition true = passed
+     * @param what What was checked
+     * @param detail What was found instead (printed on failure)
+     */
+    void check(boolean condition, String what, String detail) {
+        count++;
+        if (!condition) {
+            failures++;
+            if (failures <= MAX_PRINTED_FAILURES) {
+                System.out.println("FAIL: " + what + " - got: " + detail);
+            }
+        }
+    }
+
+    /**
+     * Print the result line and exit with status 1 if anything failed.
+     *
+     * @param details Extra run information for the result line (may be empty)
+     */
+    void finish(String details) {
+        System.out.println(name + " checks: " + (count - failures) + "/" + count + " passed" +
+                           (details.isEmpty() ? "" : " | " + details));
+        if (failures > 0) {
+            System.exit(1);
+        }
+    }
+}
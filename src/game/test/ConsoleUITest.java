@@ -19,12 +19,15 @@ import java.util.*;
  * - Player stat training
  * - Combat with hit/miss mechanics
  * - Real-time AV readiness bars
+ * - Seeded randomness: pass a seed as the first argument to replay a game
+ * - Battle log: every action recorded in a compact binary log
  */
 public class ConsoleUITest {
 
     private static final Scanner scanner = new Scanner(System.in);
     
     // Systems
+    private static RandomSystem randomSystem;
     private static EntitySystem entitySystem;
     private static PlayerTrainingSystem playerTrainingSystem;
     private static EnemyTrainingSystem enemyTrainingSystem;
@@ -34,6 +37,7 @@ public class ConsoleUITest {
     private static EnemyAISystem enemyAISystem;
     private static ActionValueSystem actionValueSystem;
     private static GameFlowSystem gameFlowSystem;
+    private static BattleLog battleLog;
     
     // Game state
     private static Player player;
@@ -42,6 +46,7 @@ public class ConsoleUITest {
     private static int currentEnemyIndex = 0;
 
     public static void main(String[] args) {
+        randomSystem = args.length > 0 ? new RandomSystem(Long.parseLong(args[0].trim())) : new RandomSystem();
         initializeSystems();
         displayWelcome();
         
@@ -57,16 +62,20 @@ public class ConsoleUITest {
     private static void initializeSystems() {
         entitySystem = new EntitySystem();
         playerTrainingSystem = new PlayerTrainingSystem(entitySystem);
-        enemyTrainingSystem = new EnemyTrainingSystem(entitySystem);
+        enemyTrainingSystem = new EnemyTrainingSystem(entitySystem, randomSystem);
         skillSystem = new SkillSystem();
         cooldownSystem = new CooldownSystem();
-        combatSystem = new CombatSystem(entitySystem, skillSystem, cooldownSystem);
+        combatSystem = new CombatSystem(entitySystem, skillSystem, cooldownSystem, randomSystem);
         enemyAISystem = new EnemyAISystem(entitySystem, skillSystem, cooldownSystem);
         actionValueSystem = new ActionValueSystem(entitySystem);
         gameFlowSystem = new GameFlowSystem(
             entitySystem, playerTrainingSystem, enemyTrainingSystem,
             skillSystem, cooldownSystem, combatSystem, enemyAISystem
         );
+
+        battleLog = new BattleLog();
+        gameFlowSystem.setBattleLog(battleLog);
+        actionValueSystem.setBattleLog(battleLog);
     }
 
     // ===== WELCOME & SETUP =====
@@ -78,6 +87,7 @@ public class ConsoleUITest {
         printSeparator("=");
         System.out.println("Features HSR-style turn order based on Speed!");
         System.out.println("Faster units act more frequently!");
+        System.out.println("Game seed: " + randomSystem.getSeed());
         printSeparator("=");
         System.out.println();
     }
@@ -112,17 +122,10 @@ public class ConsoleUITest {
     }
     
     /**
-     * Shuffle enemy array using Fisher-Yates algorithm.
+     * Shuffle enemy array using Fisher-Yates algorithm (seeded).
      */
     private static void shuffleEnemies(Enemy[] array) {
-        Random random = new Random();
-        for (int i = array.length - 1; i > 0; i--) {
-            int j = random.nextInt(i + 1);
-            // Swap
-            Enemy temp = array[i];
-            array[i] = array[j];
-            array[j] = temp;
-        }
+        randomSystem.shuffle(array);
     }
 
     private static Profession chooseProfession() {
@@ -192,8 +195,7 @@ public class ConsoleUITest {
 
     private static void runTrainingPhase(Enemy enemy) {
         // Randomize training cycles from 3 to 7
-        Random random = new Random();
-        int trainingCycles = 3 + random.nextInt(5); // 3 to 7 (inclusive)
+        int trainingCycles = 3 + randomSystem.nextInt(5); // 3 to 7 (inclusive)
         
         System.out.println("\nThis training phase will have " + trainingCycles + " cycles.");
         pressEnterToContinue();
@@ -574,6 +576,7 @@ public class ConsoleUITest {
         printSeparator("=");
         System.out.println("You have been defeated...");
         System.out.println("Game Over");
+        printBattleLogSize();
         printSeparator("=");
     }
 
@@ -589,10 +592,16 @@ public class ConsoleUITest {
         System.out.println("  HP: " + entitySystem.getCurrentHP(player) + "/" + 
                          entitySystem.getMaxHP(player));
         System.out.println("  Speed: " + entitySystem.getSpeed(player));
+        printBattleLogSize();
         printSeparator("=");
         System.out.println("\nThank you for playing!");
     }
 
+    private static void printBattleLogSize() {
+        System.out.println("Battle log: " + battleLog.getEventCount() + " events, " +
+                           battleLog.size() + " bytes");
+    }
+
     // ===== UTILITY METHODS =====
 
     private static void printSeparator(String symbol) {
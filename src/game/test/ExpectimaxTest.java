@@ -0,0 +1,181 @@
+package game.test;
+
+import game.core.*;
+import game.data.*;
+import game.system.*;
+
+/**
+ * ExpectimaxTest checks the look-ahead enemy AI from the console.
+ *
+ * Checks:
+ * - chooseSkill returns within its time budget at full search depth
+ *   (after a warm-up pass, give or take SLACK_MILLIS of wall clock)
+ * - A zero budget still finishes depth 1 and picks a ready skill
+ * - A battle that doesn't fit the packed search state (too many skill slots,
+ *   or HP past 16 bits) gets the rule-based EnemyAISystem's choice
+ * - GameFlowSystem.setLookaheadAI: the enemy's moves in a game are the search's
+ * Prints failed checks and exits with status 1 if there was one.
+ *
+ * Usage: ExpectimaxTest [BUDGET_MS] [SEED]
+ * Example: ExpectimaxTest 5 12345
+ */
+public class ExpectimaxTest {
+
+    // Wall clock: setup, nodes between clock checks, and on a small machine the
+    // JIT threads taking the core for a few ms (worst seen ~12 ms over on one core).
+    // A search that ignored its budget would run for seconds at MAX_DEPTH.
+    private static final long SLACK_MILLIS = 20;
+    private static final int MAX_TURNS = 200;
+
+    private static final Checks checks = new Checks("Expectimax");
+
+    public static void main(String[] args) {
+        long budget = args.length > 0 ? Long.parseLong(args[0]) : 5;
+        long seed = args.length > 1 ? Long.parseLong(args[1]) : 42;
+
+        EntitySystem entitySystem = new EntitySystem();
+        SkillSystem skillSystem = new SkillSystem();
+        CooldownSystem cooldownSystem = new CooldownSystem();
+        CombatSystem combatSystem = new CombatSystem(entitySystem, skillSystem, cooldownSystem, new RandomSystem(seed));
+        EnemyAISystem enemyAISystem = new EnemyAISystem(entitySystem, skillSystem, cooldownSystem);
+        ExpectimaxAISystem expectimax = new ExpectimaxAISystem(combatSystem, enemyAISystem);
+        expectimax.setMaxDepth(ExpectimaxAISystem.MAX_DEPTH);
+
+        // ===== TIME BUDGET / DEPTH 1 =====
+        searchBattles(expectimax, entitySystem, combatSystem, cooldownSystem, 1, false);   // Warm up the JIT
+        double slowest = searchBattles(expectimax, entitySystem, combatSystem, cooldownSystem, budget, true);
+
+        // ===== FALLBACK =====
+        Player player = entitySystem.createPlayer("Tester", Profession.WARRIOR);
+        Skill[] playerSkills = SkillsData.getSkillsForProfession(Profession.WARRIOR);
+        Catalog catalog = Catalog.getDefault();
+        Skill[] manySkills = new Skill[6];   // 3 player + 6 enemy slots > 8 packed cooldowns
+        for (int i = 0; i < manySkills.length; i++) {
+            manySkills[i] = catalog.getSkill(i);
+        }
+        checkFallback(expectimax, enemyAISystem, combatSystem, player, playerSkills,
+                      entitySystem.createEnemy("Hydra", 30, 20, 20, manySkills), "too many skills");
+        checkFallback(expectimax, enemyAISystem, combatSystem, player, playerSkills,
+                      entitySystem.createEnemy("Colossus", 100_000, 20, 20, new Skill[] {catalog.getSkill(0)}),
+                      "HP past 16 bits");
+
+        // ===== GAME FLOW =====
+        int lookaheadMoves = playFlowGame(seed);
+
+        checks.finish("slowest search " + String.format("%.2f", slowest) + " ms (budget " + budget + " ms), " +
+                      lookaheadMoves + " look-ahead moves in a GameFlowSystem game");
+    }
+
+    /**
+     * Search a few states of every matchup: the player loses HP step by step
+     * and the enemy uses what the search picked.
+     *
+     * @param check false = warm-up run, nothing is checked
+     * @return Slowest search with the given budget (ms)
+     */
+    private static double searchBattles(ExpectimaxAISystem expectimax, EntitySystem entitySystem,
+                                        CombatSystem combatSystem, CooldownSystem cooldownSystem,
+                                        long budget, boolean check) {
+        double slowest = 0;
+        for (Profession profession : Profession.values()) {
+            Player player = entitySystem.createPlayer("Tester", profession);
+            Skill[] playerSkills = SkillsData.getSkillsForProfession(profession);
+
+            for (Enemy template : EnemiesData.getAllEnemyTypes()) {
+                Enemy enemy = entitySystem.copyEnemy(template);
+                combatSystem.prepareBattle(player, enemy);
+                for (int step = 0; step < 8 && entitySystem.isAlive(player); step++) {
+                    String state = profession + " vs " + enemy.getName() + " step " + step;
+
+                    ExpectimaxAISystem.SearchResult timed = expectimax.chooseSkill(enemy, player, playerSkills, null, budget);
+                    slowest = Math.max(slowest, timed.getElapsedMillis());
+
+                    ExpectimaxAISystem.SearchResult quick = expectimax.chooseSkill(enemy, player, playerSkills, null, 0);
+                    int index = quick.getSkillIndex();
+                    if (check) {
+                        checks.check(timed.getElapsedMillis() <= budget + SLACK_MILLIS,
+                                     state + ": search stays within " + budget + " ms", timed.getSummary());
+                        checks.check(quick.getDepthReached() >= 1, state + ": zero budget finishes depth 1",
+                                     quick.getSummary());
+                        checks.check(index < 0 || cooldownSystem.isSkillReady(enemy, enemy.getSkills()[index]),
+                                     state + ": zero budget picks a ready skill", quick.getSummary());
+                    }
+
+                    if (index >= 0) {
+                        Skill skill = enemy.getSkills()[index];
+                        cooldownSystem.setSkillCooldown(enemy, skill, cooldownSystem.calculateFinalCooldown(enemy, skill));
+                    }
+                    player.getStats().takeDamage(entitySystem.getMaxHP(player) / 10);
+                    cooldownSystem.tickEnemyCooldowns(enemy);
+                }
+            }
+        }
+        return slowest;
+    }
+
+    private static void checkFallback(ExpectimaxAISystem expectimax, EnemyAISystem enemyAISystem,
+                                      CombatSystem combatSystem, Player player, Skill[] playerSkills,
+                                      Enemy enemy, String why) {
+        combatSystem.prepareBattle(player, enemy);
+        ExpectimaxAISystem.SearchResult result = expectimax.chooseSkill(enemy, player, playerSkills, null);
+        int expected = enemyAISystem.chooseSkillIndex(enemy, player);
+        checks.check(!result.isSearched() && result.getSkillIndex() == expected,
+                     why + ": falls back to EnemyAISystem (index " + expected + ")", result.getSummary());
+    }
+
+    // ===== GAME FLOW =====
+
+    /**
+     * A game through GameFlowSystem with the look-ahead AI switched on, one
+     * battle per enemy until victory or defeat: the intent shown before each
+     * enemy move must be the search's, and the move made must be that intent.
+     *
+     * @return Enemy moves made
+     */
+    private static int playFlowGame(long seed) {
+        EntitySystem entitySystem = new EntitySystem();
+        SkillSystem skillSystem = new SkillSystem();
+        CooldownSystem cooldownSystem = new CooldownSystem();
+        RandomSystem randomSystem = new RandomSystem(seed);
+        CombatSystem combatSystem = new CombatSystem(entitySystem, skillSystem, cooldownSystem, randomSystem);
+        EnemyAISystem enemyAISystem = new EnemyAISystem(entitySystem, skillSystem, cooldownSystem);
+        GameFlowSystem flow = new GameFlowSystem(entitySystem, new PlayerTrainingSystem(entitySystem),
+                new EnemyTrainingSystem(entitySystem, randomSystem), skillSystem, cooldownSystem,
+                combatSystem, enemyAISystem);
+        flow.setLookaheadAI(new ExpectimaxAISystem(combatSystem, enemyAISystem));
+
+        flow.initializeGame("Tester", Profession.MAGE, SkillsData.getSkillsForProfession(Profession.MAGE),
+                            EnemiesData.getAllEnemyTypes());
+        flow.getPlayer().getStats().increaseAll(10, 10, 10);   // Trained, so the game goes past battle 1
+
+        int moves = 0;
+        while (!flow.isGameOver()) {
+            String battle = "battle " + (flow.getCurrentEnemyIndex() + 1);
+            checks.check(flow.startBattlePhase(), battle + " starts", String.valueOf(flow.getCurrentPhase()));
+
+            for (int turn = 0; turn < MAX_TURNS && !flow.isBattleOver(); turn++) {
+                Skill[] skills = flow.getPlayerSkills();
+                for (int s = skills.length - 1; s >= 0; s--) {
+                    if (cooldownSystem.isSkillReady(flow.getPlayer(), skills[s])) {
+                        flow.playerAttack(s);
+                        break;
+                    }
+                }
+                if (flow.isBattleOver()) break;
+
+                String what = battle + " turn " + turn;
+                EnemyAISystem.AIDecision intent = flow.getEnemyIntentDetailed();
+                CombatSystem.CombatResult result = flow.enemyAttack();
+                checks.check(intent.getReasoning().startsWith("Looked"), what + ": intent comes from the search",
+                             intent.getReasoning());
+                checks.check(intent.getSkillName().equals(result.getSkillName()), what + ": enemy uses its intent",
+                             result.getSkillName() + " vs " + intent.getSkillName());
+                moves++;
+                flow.tickCooldowns();
+            }
+            checks.check(flow.isBattleOver(), battle + " ends", "still running after " + MAX_TURNS + " turns");
+            if (flow.completeBattle() == GameFlowSystem.BattleOutcome.ONGOING) break;
+        }
+        return moves;
+    }
+}
@@ -0,0 +1,173 @@
+package game.test;
+
+import game.server.GameProtocol;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * ProtocolTest drives GameProtocol.handle() from the console, no socket needed.
+ *
+ * Checks:
+ * - A full bot game from NEW to VICTORY / DEFEAT
+ * - The same seed plays the same game (identical transcript)
+ * - Malformed and out-of-range requests answer ERR and leave the game unchanged
+ * Prints failed checks and exits with status 1 if there was one.
+ *
+ * Usage: ProtocolTest [PROFESSION] [SEED] [-v]
+ * Example: ProtocolTest ROGUE 12345 -v
+ */
+public class ProtocolTest {
+
+    private static final int MAX_COMMANDS = 10_000;   // A full game takes a few hundred
+
+    private static final Checks checks = new Checks("Protocol");
+    private static boolean verbose;
+
+    public static void main(String[] args) {
+        String profession = args.length > 0 ? args[0].trim().toUpperCase() : "WARRIOR";
+        long seed = args.length > 1 ? Long.parseLong(args[1]) : 42;
+        verbose = args.length > 2 && args[2].equals("-v");
+
+        // ===== FULL GAME =====
+        List<String> first = playGame(profession, seed);
+        List<String> second = playGame(profession, seed);
+        String last = first.get(first.size() - 1);
+        checks.check(last.contains("VICTORY") || last.contains("DEFEAT"), "game reaches VICTORY or DEFEAT", last);
+        checks.check(first.equals(second), "same seed plays the same game", first.size() + " vs " + second.size() + " lines");
+
+        // ===== MALFORMED INPUT =====
+        GameProtocol protocol = new GameProtocol();
+        expectErr(protocol, "");
+        expectErr(protocol, "   ");
+        expectErr(protocol, "FOO");
+        expectErr(protocol, "new Bob WARRIOR");
+        expectErr(protocol, "STATE");
+        expectErr(protocol, "TRAIN STR 5");
+        expectErr(protocol, "NEW");
+        expectErr(protocol, "NEW Bob");
+        expectErr(protocol, "NEW Bob PALADIN");
+        expectErr(protocol, "NEW Bob WARRIOR abc");
+        expectErr(protocol, "NEW Bob WARRIOR 99999999999999999999");
+        expectOk(protocol, "PING");
+
+        expectOk(protocol, "NEW Bob " + profession + " " + seed);
+        String state = expectOk(protocol, "STATE");
+        expectErr(protocol, "TRAINING");
+        expectErr(protocol, "TRAINING many");
+        expectErr(protocol, "TRAINING 4294967297");
+        expectErr(protocol, "TRAINING -4294967295");
+        expectErr(protocol, "TRAIN");
+        expectErr(protocol, "TRAIN STR");
+        expectErr(protocol, "TRAIN XYZ 5");
+        expectErr(protocol, "TRAIN STR abc");
+        expectErr(protocol, "TRAIN STR 0");
+        expectErr(protocol, "TRAIN STR 101");
+        expectErr(protocol, "TRAIN STR 4294967301");
+        expectErr(protocol, "TRAIN STR -2147483649");
+        expectErr(protocol, "TRAIN_ENEMIES");
+        expectErr(protocol, "TRAIN_ENEMIES 4294967301");
+        checks.check(state.equals(protocol.handle("STATE")), "errors leave the game unchanged", state);
+
+        expectOk(protocol, "TRAINING 1");
+        expectOk(protocol, "CYCLE");
+        expectOk(protocol, "BATTLE");
+        state = expectOk(protocol, "STATE");
+        expectErr(protocol, "ATTACK");
+        expectErr(protocol, "ATTACK x");
+        expectErr(protocol, "ATTACK -1");
+        expectErr(protocol, "ATTACK 99");
+        expectErr(protocol, "ATTACK 4294967296");
+        expectErr(protocol, "ATTACK 2147483648");
+        checks.check(state.equals(protocol.handle("STATE")), "bad attacks leave the battle unchanged", state);
+
+        expectOk(protocol, "QUIT");
+        checks.check(protocol.isClosed(), "QUIT closes the connection", "");
+
+        checks.finish("Game: " + first.size() + " commands, " + last);
+    }
+
+    // ===== BOT GAME =====
+
+    /**
+     * Play one game like a simple bot: train STR, then attack with the
+     * strongest ready skill until the game is over.
+     *
+     * @return Transcript, one "request -> response" line per command
+     */
+    private static List<String> playGame(String profession, long seed) {
+        GameProtocol protocol = new GameProtocol();
+        List<String> transcript = new ArrayList<>();
+
+        send(protocol, transcript, "NEW Bot " + profession + " " + seed, true);
+        String phase = "TRAINING";
+        boolean inBattle = false;
+
+        while (transcript.size() < MAX_COMMANDS) {
+            if (phase.equals("TRAINING")) {
+                send(protocol, transcript, "TRAINING 3", true);
+                do {
+                    send(protocol, transcript, "TRAIN STR 5", true);
+                    send(protocol, transcript, "TRAIN_ENEMIES 5", true);
+                    phase = field(send(protocol, transcript, "CYCLE", true), 1);
+                } while (phase.equals("TRAINING"));
+            } else if (phase.equals("BATTLE")) {
+                if (!inBattle) {
+                    send(protocol, transcript, "BATTLE", true);
+                    send(protocol, transcript, "INTENT", true);
+                    inBattle = true;
+                }
+                // Strongest skill off cooldown - skill 0 never has one
+                for (int skill = 2; skill >= 0; skill--) {
+                    if (send(protocol, transcript, "ATTACK " + skill, skill == 0).startsWith("OK")) break;
+                }
+                String end = send(protocol, transcript, "END", true);
+                if (end.contains("ONGOING")) {
+                    send(protocol, transcript, "ENEMY", true);
+                    end = send(protocol, transcript, "END", true);
+                }
+                if (!end.contains("ONGOING")) {
+                    inBattle = false;
+                }
+                phase = field(end, 2);
+                send(protocol, transcript, "TICK", true);
+            } else {
+                expectErr(protocol, "TRAINING 3");   // Game over - nothing left to do
+                break;
+            }
+        }
+
+        transcript.add("STATE -> " + protocol.handle("STATE"));
+        return transcript;
+    }
+
+    private static String send(GameProtocol protocol, List<String> transcript, String request, boolean mustSucceed) {
+        String response = protocol.handle(request);
+        transcript.add(request + " -> " + response);
+        if (verbose) {
+            System.out.println(request + " -> " + response);
+        }
+        if (mustSucceed) {
+            checks.check(response.startsWith("OK"), request, response);
+        }
+        return response;
+    }
+
+    private static String field(String response, int index) {
+        String[] fields = response.split(" ");
+        return index < fields.length ? fields[index] : "";
+    }
+
+    // ===== CHECKS =====
+
+    private static String expectOk(GameProtocol protocol, String request) {
+        String response = protocol.handle(request);
+        checks.check(response.startsWith("OK"), "'" + request + "' answers OK", response);
+        return response;
+    }
+
+    private static void expectErr(GameProtocol protocol, String request) {
+        String response = protocol.handle(request);
+        checks.check(response.startsWith("ERR ") && response.indexOf('\n') < 0,
+                     "'" + request + "' answers ERR", response);
+    }
+}
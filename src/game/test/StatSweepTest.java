@@ -0,0 +1,36 @@
+package game.test;
+
+import game.core.*;
+import game.system.*;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * StatSweepTest runs a stat-allocation sweep from the console.
+ * Prints a ranked win-rate table for one profession.
+ *
+ * Usage: StatSweepTest [PROFESSION] [CYCLES] [BATTLES] [THREADS] [SEED]
+ * Example: StatSweepTest MAGE 10 20000 8 12345
+ */
+public class StatSweepTest {
+
+    public static void main(String[] args) {
+        Profession profession = args.length > 0 ? Profession.valueOf(args[0].trim().toUpperCase()) : Profession.WARRIOR;
+        int cycles = args.length > 1 ? Integer.parseInt(args[1]) : 5;
+        int battles = args.length > 2 ? Integer.parseInt(args[2]) : 10000;
+        int threads = args.length > 3 ? Integer.parseInt(args[3]) : Runtime.getRuntime().availableProcessors();
+        long seed = args.length > 4 ? Long.parseLong(args[4]) : new RandomSystem().getSeed();
+
+        ForkJoinPool pool = new ForkJoinPool(threads);
+        StatSweepSystem sweepSystem = new StatSweepSystem(pool);
+
+        long start = System.nanoTime();
+        StatSweepSystem.SweepResult result = sweepSystem.sweep(profession, cycles, battles, seed);
+        long elapsedMs = (System.nanoTime() - start) / 1_000_000;
+
+        System.out.println(result.getFormattedTable(20));
+        System.out.println("Allocations: " + result.getRankedEntries().size() +
+                           " | Threads: " + threads + " | Time: " + elapsedMs + " ms");
+
+        pool.shutdown();
+    }
+}
@@ -0,0 +1,105 @@
+package game.test;
+
+import game.system.TurnScheduler;
+import java.util.Arrays;
+
+/**
+ * TurnSchedulerTest checks that a speed change late in a long battle keeps
+ * the turn order intact (no long overflow when the time scale grows).
+ *
+ * HOW IT WORKS:
+ * - Six combatants with prime speeds: everyone is back where they started
+ *   after one "period" (sum of speeds turns, BASE_AV x ticksPerAV ticks)
+ * - The long scheduler runs many periods, until its clock is just below the
+ *   rebase threshold; the reference runs one
+ * - Both change the same speed to a new prime (time scale grows x that prime)
+ *   and must then play the same turns with the same gauges
+ * A huge base AV makes each period long, so the clock gets large in a few
+ * thousand turns. Prints failed checks and exits with status 1 if there was one.
+ *
+ * Usage: TurnSchedulerTest [TURNS_AFTER]
+ * Example: TurnSchedulerTest 100000
+ */
+public class TurnSchedulerTest {
+
+    private static final int BASE_AV = 1_000_000_000;
+    private static final int[] SPEEDS = {7, 11, 13, 17, 19, 23};
+    private static final int NEW_SPEED = 29;
+    private static final long CLOCK_TARGET = 1L << 59;   // Below the rebase threshold (2^60)
+
+    private static final Checks checks = new Checks("TurnScheduler");
+
+    public static void main(String[] args) {
+        int turnsAfter = args.length > 0 ? Integer.parseInt(args[0]) : 20_000;
+
+        int periodTurns = Arrays.stream(SPEEDS).sum();
+        TurnScheduler reference = create();
+        TurnScheduler longRun = create();
+        long periodTicks = BASE_AV * longRun.getTicksPerAV();
+        int periods = (int) (CLOCK_TARGET / periodTicks) + 1;
+
+        // ===== LONG RUN =====
+        advance(reference, periodTurns);
+        advance(longRun, periods * periodTurns);
+        checks.check(sameState(reference, longRun), "gauges repeat every period", describe(longRun));
+
+        // ===== SPEED CHANGE =====
+        reference.updateSpeed(2, NEW_SPEED);
+        longRun.updateSpeed(2, NEW_SPEED);
+        checks.check(sameState(reference, longRun), "same gauges after the speed change", describe(longRun));
+        checks.check(Math.abs(longRun.getClock() - reference.getClock() - (double) (periods - 1) * BASE_AV) < 1.0,
+                     "clock keeps the elapsed time", longRun.getClock() + " vs " + reference.getClock());
+
+        // ===== TURNS AFTER =====
+        double lastClock = longRun.getClock();
+        int orderMismatches = 0;
+        int clockMismatches = 0;
+        for (int turn = 0; turn < turnsAfter; turn++) {
+            if (reference.advance() != longRun.advance()) orderMismatches++;
+            if (longRun.getClock() < lastClock || !sameState(reference, longRun)) clockMismatches++;
+            lastClock = longRun.getClock();
+        }
+        checks.check(orderMismatches == 0, "same turn order after the speed change", orderMismatches + " turns differ");
+        checks.check(clockMismatches == 0, "clock moves forward, gauges stay in range", clockMismatches + " turns off");
+
+        checks.finish(periods + " periods (" + periods * periodTurns + " turns) then " + turnsAfter +
+                      " turns, ticks/AV " + longRun.getTicksPerAV());
+    }
+
+    // ===== HELPERS =====
+
+    private static TurnScheduler create() {
+        TurnScheduler scheduler = new TurnScheduler(BASE_AV);
+        for (int i = 0; i < SPEEDS.length; i++) {
+            scheduler.add("C" + i, i == 0, SPEEDS[i]);
+        }
+        return scheduler;
+    }
+
+    private static void advance(TurnScheduler scheduler, int turns) {
+        for (int turn = 0; turn < turns; turn++) {
+            scheduler.advance();
+        }
+    }
+
+    /**
+     * Same gauges on both, and every gauge is between 0 and one full interval.
+     */
+    private static boolean sameState(TurnScheduler expected, TurnScheduler actual) {
+        for (int handle = 0; handle < SPEEDS.length; handle++) {
+            if (actual.getActionTicks(handle) != expected.getActionTicks(handle)
+                || actual.getActionValue(handle) > actual.getMaxActionValue(handle)) {
+                return false;
+            }
+        }
+        return expected.getTicksPerAV() == actual.getTicksPerAV();
+    }
+
+    private static String describe(TurnScheduler scheduler) {
+        long[] ticks = new long[SPEEDS.length];
+        for (int handle = 0; handle < ticks.length; handle++) {
+            ticks[handle] = scheduler.getActionTicks(handle);
+        }
+        return "clock " + scheduler.getClock() + ", ticks " + Arrays.toString(ticks);
+    }
+}
@@ -20,6 +20,7 @@ public class BattleScreen {
     private final Player player;
     private final Enemy enemy;
     private final CombatSystem combatSystem;
+    private final CooldownSystem cooldownSystem;
     private final java.util.function.Consumer<Boolean> afterBattleCallback;
 
     private VBox playerStatsBox;
@@ -29,12 +30,18 @@ public class BattleScreen {
 
     private boolean playerTurn = true;
 
-    public BattleScreen(Player player, Enemy enemy, CombatSystem combatSystem,
+    public BattleScreen(GameSession session, Enemy enemy,
                         java.util.function.Consumer<Boolean> afterBattle) {
-        this.player = player;
+        this.player = session.getPlayer();
         this.enemy = enemy;
-        this.combatSystem = combatSystem;
+        this.combatSystem = session.getCombatSystem();
+        this.cooldownSystem = session.getCooldownSystem();
         this.afterBattleCallback = afterBattle;
+
+        BattleLog battleLog = combatSystem.getBattleLog();
+        if (battleLog != null) {
+            battleLog.battleStart(player, enemy);
+        }
     }
 
     public Scene createScene() {
@@ -131,7 +138,7 @@ public class BattleScreen {
             Skill skill = skills[i];
             Button btn = createBattleButton(skill.getName());
 
-            int cd = GameSession.getCooldownSystem().getRemainingCooldown(player, skill);
+            int cd = cooldownSystem.getRemainingCooldown(player, skill);
             if (cd > 0) btn.setText(skill.getName() + " (CD " + cd + ")");
 
             final int index = i;
@@ -147,7 +154,7 @@ public class BattleScreen {
         Skill[] skills = SkillsData.getSkillsForProfession(player.getProfession());
         Skill skill = skills[skillIndex];
 
-        if (GameSession.getCooldownSystem().getRemainingCooldown(player, skill) > 0) return;
+        if (cooldownSystem.getRemainingCooldown(player, skill) > 0) return;
 
         // Player action
         CombatSystem.CombatResult result = combatSystem.playerAttack(player, enemy, skill);
@@ -162,8 +169,8 @@ public class BattleScreen {
         }
 
         // Tick cooldowns
-        GameSession.getCooldownSystem().tickPlayerCooldowns(player);
-        GameSession.getCooldownSystem().tickEnemyCooldowns(enemy);
+        cooldownSystem.tickPlayerCooldowns(player);
+        cooldownSystem.tickEnemyCooldowns(enemy);
 
         // Enemy turn
         playerTurn = false;
@@ -174,7 +181,7 @@ public class BattleScreen {
         CombatSystem.CombatResult result;
         Skill skill = enemy.hasSkills() ? enemy.getSkills()[0] : null;
 
-        if (skill != null && GameSession.getCooldownSystem().getRemainingCooldown(enemy, skill) == 0) {
+        if (skill != null && cooldownSystem.getRemainingCooldown(enemy, skill) == 0) {
             result = combatSystem.enemyAttack(enemy, player, skill);
         } else {
             result = combatSystem.enemyBasicAttack(enemy, player);
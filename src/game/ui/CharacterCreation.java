@@ -90,10 +90,10 @@ public class CharacterCreation extends StackPane {
                 new Enemy("Killer Rabbit", new Stat(25, 25, 20)),
                 new Enemy("Mindflayer", new Stat(15, 30, 20))
             );
-            GameSession.init(player, enemies);
+            GameSession session = SessionRegistry.getDefault().create(player, enemies);
 
             // Show training screen
-            SceneManager.showTrainingScreen(player);
+            SceneManager.showTrainingScreen(session);
         });
 
         center.getChildren().addAll(title, charDisplay, profButtons, profDesc, nameBox, startBtn);
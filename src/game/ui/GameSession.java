@@ -6,87 +6,144 @@ import game.system.*;
 
 import java.util.*;
 
+/**
+ * One running game: the player, the enemy queue and the systems driving them.
+ * Sessions are isolated - many can live in one JVM (see SessionRegistry).
+ *
+ * Design:
+ * - Stateless systems (EntitySystem, SkillSystem) are shared by every session
+ * - Stateful systems (RNG, cooldowns, combat, battle log) are per session
+ * - EnemyAISystem / ActionValueSystem are created on first use - the screens
+ *   don't need them, so most sessions never pay for them
+ * - A session is not thread-safe; drive each one from one thread at a time
+ */
 public class GameSession {
 
+    // ================== SHARED SYSTEMS ==================
+    private static final EntitySystem ENTITY_SYSTEM = new EntitySystem();
+    private static final SkillSystem SKILL_SYSTEM = new SkillSystem();
+
     // ================== SYSTEMS ==================
-    private static EntitySystem entitySystem;
-    private static SkillSystem skillSystem;
-    private static CooldownSystem cooldownSystem;
-    private static CombatSystem combatSystem;
-    private static EnemyAISystem enemyAISystem;
-    private static ActionValueSystem actionValueSystem;
+    private final String id;
+    private final RandomSystem randomSystem;
+    private final CooldownSystem cooldownSystem;
+    private final CombatSystem combatSystem;
+    private final BattleLog battleLog;
+    private EnemyAISystem enemyAISystem;            // Lazy
+    private ActionValueSystem actionValueSystem;    // Lazy
 
     // ================== GAME STATE ==================
-    private static Player player;
-    private static Queue<Enemy> enemies;
+    private final Player player;
+    private final Queue<Enemy> enemies;
+
+    /**
+     * Start a new game with a random seed.
+     * Normally created through SessionRegistry.
+     */
+    public GameSession(String id, Player p, List<Enemy> enemyPool) {
+        this(id, p, enemyPool, new RandomSystem().getSeed());
+    }
 
     /**
-     * Call ONCE when starting a new game
-     * (after character creation)
+     * Start a new game from a known seed.
+     * Same seed + same player choices = same game.
      */
-    public static void init(Player p, List<Enemy> enemyPool) {
-        player = p;
+    public GameSession(String id, Player p, List<Enemy> enemyPool, long seed) {
+        if (id == null || p == null || enemyPool == null) {
+            throw new IllegalArgumentException("Id, player and enemy pool must be non-null");
+        }
+        this.id = id;
+        this.player = p;
 
         // Initialize systems (same as ConsoleUITest)
-        entitySystem = new EntitySystem();
-        skillSystem = new SkillSystem();
+        randomSystem = new RandomSystem(seed);
         cooldownSystem = new CooldownSystem();
-        combatSystem = new CombatSystem(entitySystem, skillSystem, cooldownSystem);
-        enemyAISystem = new EnemyAISystem(entitySystem, skillSystem, cooldownSystem);
-        actionValueSystem = new ActionValueSystem(entitySystem);
+        combatSystem = new CombatSystem(ENTITY_SYSTEM, SKILL_SYSTEM, cooldownSystem, randomSystem);
+
+        // Record every action of this game
+        battleLog = new BattleLog();
+        combatSystem.setBattleLog(battleLog);
+        cooldownSystem.setBattleLog(battleLog);
 
         // Shuffle enemies
         List<Enemy> shuffled = new ArrayList<>(enemyPool);
-        Collections.shuffle(shuffled);
+        randomSystem.shuffle(shuffled);
         enemies = new ArrayDeque<>(shuffled);
     }
 
     // ================== ENEMY FLOW ==================
 
-    public static Enemy nextEnemy() {
-        if (enemies == null || enemies.isEmpty()) return null;
+    public Enemy nextEnemy() {
         return enemies.poll();
     }
 
-    public static boolean hasMoreEnemies() {
-        return enemies != null && !enemies.isEmpty();
+    public boolean hasMoreEnemies() {
+        return !enemies.isEmpty();
     }
 
-    public static int battlesLeft() {
-        return enemies == null ? 0 : enemies.size();
+    public int battlesLeft() {
+        return enemies.size();
     }
 
-    public static List<Enemy> getEnemies() {
-        return enemies == null ? Collections.emptyList() : new ArrayList<>(enemies);
-    }
-    
-    public static SkillSystem getSkillSystem() {
-        return skillSystem;
+    public List<Enemy> getEnemies() {
+        return new ArrayList<>(enemies);
     }
 
     // ================== GETTERS ==================
 
-    public static Player getPlayer() {
+    public String getId() {
+        return id;
+    }
+
+    public Player getPlayer() {
         return player;
     }
 
-    public static CombatSystem getCombatSystem() {
+    public SkillSystem getSkillSystem() {
+        return SKILL_SYSTEM;
+    }
+
+    public CombatSystem getCombatSystem() {
         return combatSystem;
     }
 
-    public static EnemyAISystem getEnemyAISystem() {
+    public EnemyAISystem getEnemyAISystem() {
+        if (enemyAISystem == null) {
+            enemyAISystem = new EnemyAISystem(ENTITY_SYSTEM, SKILL_SYSTEM, cooldownSystem);
+        }
         return enemyAISystem;
     }
 
-    public static ActionValueSystem getActionValueSystem() {
+    public ActionValueSystem getActionValueSystem() {
+        if (actionValueSystem == null) {
+            actionValueSystem = new ActionValueSystem(ENTITY_SYSTEM);
+            actionValueSystem.setBattleLog(battleLog);
+        }
         return actionValueSystem;
     }
 
-    public static CooldownSystem getCooldownSystem() {
+    public CooldownSystem getCooldownSystem() {
         return cooldownSystem;
     }
 
-    public static EntitySystem getEntitySystem() {
-        return entitySystem;
+    public EntitySystem getEntitySystem() {
+        return ENTITY_SYSTEM;
+    }
+
+    public BattleLog getBattleLog() {
+        return battleLog;
+    }
+
+    public RandomSystem getRandomSystem() {
+        return randomSystem;
+    }
+
+    public long getSeed() {
+        return randomSystem.getSeed();
+    }
+
+    @Override
+    public String toString() {
+        return "GameSession[" + id + ", " + player.getName() + ", " + enemies.size() + " battles left]";
     }
 }
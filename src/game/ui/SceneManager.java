@@ -1,8 +1,6 @@
 package game.ui;
 
-import game.core.Player;
 import game.core.Enemy;
-import game.system.CombatSystem;
 import javafx.scene.Scene;
 import javafx.stage.Stage;
 
@@ -32,20 +30,23 @@ public class SceneManager {
         stage.show();
     }
 
-    public static void showTrainingScreen(Player player) {
-        TrainingScreen ts = new TrainingScreen(player);
+    public static void showTrainingScreen(GameSession session) {
+        TrainingScreen ts = new TrainingScreen(session);
         stage.setScene(ts.createScene());
         stage.show();
     }
 
-    public static void showBattleScreen(Player player, Enemy enemy, CombatSystem combatSystem, Consumer<Boolean> afterBattle) {
-        BattleScreen battleScreen = new BattleScreen(player, enemy, combatSystem, afterBattle);
+    public static void showBattleScreen(GameSession session, Enemy enemy, Consumer<Boolean> afterBattle) {
+        BattleScreen battleScreen = new BattleScreen(session, enemy, afterBattle);
         stage.setScene(battleScreen.createScene());
         stage.show();
     }
 
-    public static void showEndScreen(boolean playerWon, Player player) {
-        EndScreen es = new EndScreen(width, height, playerWon, player);
+    public static void showEndScreen(boolean playerWon, GameSession session) {
+        // Game over - the session is no longer live
+        SessionRegistry.getDefault().remove(session.getId());
+
+        EndScreen es = new EndScreen(width, height, playerWon, session.getPlayer());
         stage.setScene(new Scene(es, width, height));
         stage.show();
     }
@@ -0,0 +1,111 @@
+package game.ui;
+
+import game.core.Enemy;
+import game.core.Player;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * SessionRegistry keeps the live GameSessions of this JVM, keyed by id.
+ *
+ * Responsibilities:
+ * - Create isolated sessions on demand (generated or caller-chosen id)
+ * - Look up / remove sessions by id
+ * - One default registry for the JavaFX app; bots and QA can make their own
+ *
+ * Design: Backed by a ConcurrentHashMap, so sessions can be created and
+ * removed from any thread. The sessions themselves are not thread-safe.
+ */
+public class SessionRegistry {
+
+    private static final SessionRegistry DEFAULT = new SessionRegistry();
+
+    private final Map<String, GameSession> sessions = new ConcurrentHashMap<>();
+    private final AtomicLong nextId = new AtomicLong(1);
+
+    /**
+     * Registry used by the JavaFX screens.
+     */
+    public static SessionRegistry getDefault() {
+        return DEFAULT;
+    }
+
+    // ===== CREATION =====
+
+    /**
+     * Create a session with a generated id and a random seed.
+     */
+    public GameSession create(Player player, List<Enemy> enemyPool) {
+        return register(new GameSession(newId(), player, enemyPool));
+    }
+
+    /**
+     * Create a session with a generated id from a known seed.
+     */
+    public GameSession create(Player player, List<Enemy> enemyPool, long seed) {
+        return register(new GameSession(newId(), player, enemyPool, seed));
+    }
+
+    /**
+     * Create a session under a caller-chosen id (e.g. a bot or connection name).
+     *
+     * @throws IllegalArgumentException if the id is already in use
+     */
+    public GameSession create(String id, Player player, List<Enemy> enemyPool, long seed) {
+        return register(new GameSession(id, player, enemyPool, seed));
+    }
+
+    private GameSession register(GameSession session) {
+        if (sessions.putIfAbsent(session.getId(), session) != null) {
+            throw new IllegalArgumentException("Session already exists: " + session.getId());
+        }
+        return session;
+    }
+
+    private String newId() {
+        String id;
+        do {
+            id = Long.toString(nextId.getAndIncrement(), 36);
+        } while (sessions.containsKey(id));   // Skip ids taken by create(String, ...)
+        return id;
+    }
+
+    // ===== LOOKUP =====
+
+    /**
+     * @return The session, or null if there is none with this id
+     */
+    public GameSession get(String id) {
+        return id == null ? null : sessions.get(id);
+    }
+
+    public boolean contains(String id) {
+        return id != null && sessions.containsKey(id);
+    }
+
+    /**
+     * End a session - drops the registry's reference to it.
+     *
+     * @return The removed session, or null if there was none
+     */
+    public GameSession remove(String id) {
+        return id == null ? null : sessions.remove(id);
+    }
+
+    public int size() {
+        return sessions.size();
+    }
+
+    /**
+     * Snapshot of the live session ids.
+     */
+    public Set<String> getSessionIds() {
+        return new HashSet<>(sessions.keySet());
+    }
+
+    public void clear() {
+        sessions.clear();
+    }
+}
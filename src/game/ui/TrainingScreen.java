@@ -1,7 +1,6 @@
 package game.ui;
 
 import game.core.*;
-import game.system.CombatSystem;
 import javafx.geometry.Insets;
 import javafx.geometry.Pos;
 import javafx.scene.Scene;
@@ -15,10 +14,9 @@ import javafx.scene.paint.Color;
 import javafx.scene.text.Font;
 import javafx.scene.text.FontWeight;
 
-import java.util.Random;
-
 public class TrainingScreen {
 
+    private final GameSession session;
     private final Player player;
     private Enemy currentEnemy;
     private int currentCycle;
@@ -30,14 +28,15 @@ public class TrainingScreen {
 
     private Button trainStrBtn, trainAgiBtn, trainIntBtn, nextBtn;
 
-    public TrainingScreen(Player player) {
-        this.player = player;
-        currentEnemy = GameSession.nextEnemy();
+    public TrainingScreen(GameSession session) {
+        this.session = session;
+        this.player = session.getPlayer();
+        currentEnemy = session.nextEnemy();
         randomizeCycles();
     }
 
     private void randomizeCycles() {
-        totalCycles = new Random().nextInt(5) + 3; // 3–7 cycles
+        totalCycles = session.getRandomSystem().nextInt(5) + 3; // 3–7 cycles
         currentCycle = 1;
     }
 
@@ -114,16 +113,13 @@ public class TrainingScreen {
             currentCycle++;
             enableTraining();
         } else {
-        	CombatSystem combatSystem = GameSession.getCombatSystem();
-
-
-            SceneManager.showBattleScreen(player, currentEnemy, combatSystem, won -> {
-                if (!won || !GameSession.hasMoreEnemies()) {
-                    SceneManager.showEndScreen(won, player);
+            SceneManager.showBattleScreen(session, currentEnemy, won -> {
+                if (!won || !session.hasMoreEnemies()) {
+                    SceneManager.showEndScreen(won, session);
                 } else {
-                    currentEnemy = GameSession.nextEnemy();
+                    currentEnemy = session.nextEnemy();
                     randomizeCycles();
-                    SceneManager.showTrainingScreen(player);
+                    SceneManager.showTrainingScreen(session);
                 }
             });
         }